@@ -0,0 +1,77 @@
+package com.iiil.tutoring.benchmark;
+
+import com.iiil.tutoring.security.JwtAuthenticationCache;
+import com.iiil.tutoring.security.JwtAuthenticationFilter;
+import com.iiil.tutoring.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request in {@link JwtAuthenticationFilter}:
+ * a repeated token served from the cache versus a token seen for the first time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET =
+            "dHV0b3JpbmdwbGF0Zm9ybXNlY3JldGtleWZvcmp3dHRva2Vuc3doaWNoc2hvdWxkYmV2ZXJ5bG9uZ2FuZHNlY3VyZQ==";
+
+    private final WebFilterChain chain = exchange -> Mono.empty();
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationCache cache;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        cache = new JwtAuthenticationCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 10000);
+        ReflectionTestUtils.setField(cache, "maxTtlMillis", 300000L);
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "authenticationCache", cache);
+
+        token = jwtUtil.generateToken("student@example.com", "STUDENT", 42L);
+    }
+
+    @Benchmark
+    public void cachedToken() {
+        filter.filter(exchange(token), chain).block();
+    }
+
+    @Benchmark
+    public void uncachedToken() {
+        cache.invalidateAll();
+        filter.filter(exchange(token), chain).block();
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        return jwtUtil.parseValidClaims(token);
+    }
+
+    private MockServerWebExchange exchange(String bearer) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/sessions")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearer));
+    }
+}
@@ -0,0 +1,12 @@
+package com.iiil.tutoring.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled session job worker and periodic sweeps
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
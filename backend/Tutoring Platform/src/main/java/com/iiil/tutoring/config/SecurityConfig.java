@@ -1,17 +1,17 @@
 package com.iiil.tutoring.config;
 
+import com.iiil.tutoring.security.HashingReactiveAuthenticationManager;
 import com.iiil.tutoring.security.JwtAuthenticationFilter;
+import com.iiil.tutoring.security.PasswordHashingService;
 import com.iiil.tutoring.security.ReactiveUserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
-import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsConfigurationSource;
@@ -31,10 +31,10 @@ public class SecurityConfig {
     private ReactiveUserDetailsServiceImpl userDetailsService;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Autowired
-    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private PasswordHashingService passwordHashing;
 
     @Bean
     public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
@@ -47,6 +47,9 @@ public class SecurityConfig {
                         .pathMatchers(HttpMethod.GET, "/api/auth/check-email").permitAll()
                         .pathMatchers(HttpMethod.GET, "/api/system/**").permitAll()
                         .pathMatchers(HttpMethod.OPTIONS).permitAll()
+
+                        // Exports stream personal data of every user: matched before the catch-all below
+                        .pathMatchers("/api/v1/exports/**").hasRole("ADMIN")
                         
                         // Swagger/OpenAPI endpoints
                         .pathMatchers("/swagger-ui.html").permitAll()
@@ -83,10 +86,8 @@ public class SecurityConfig {
 
     @Bean
     public ReactiveAuthenticationManager reactiveAuthenticationManager() {
-        UserDetailsRepositoryReactiveAuthenticationManager authManager = 
-                new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
-        authManager.setPasswordEncoder(passwordEncoder);
-        return authManager;
+        // Verify passwords on the bounded hashing pool, never on the event loop
+        return new HashingReactiveAuthenticationManager(userDetailsService, passwordHashing);
     }
 
     @Bean
@@ -96,7 +97,7 @@ public class SecurityConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Total-Count", "X-Next-Cursor", "ETag"));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
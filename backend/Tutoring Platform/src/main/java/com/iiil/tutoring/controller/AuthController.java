@@ -2,6 +2,7 @@ package com.iiil.tutoring.controller;
 
 import com.iiil.tutoring.dto.auth.*;
 import com.iiil.tutoring.dto.tutor.TutorRegistrationRequest;
+import com.iiil.tutoring.security.AuthRateLimiter;
 import com.iiil.tutoring.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,6 +36,9 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private AuthRateLimiter rateLimiter;
+
     /**
      * Login endpoint
      */
@@ -116,11 +120,23 @@ public class AuthController {
             )
     })
     public Mono<ResponseEntity<AuthResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        // Per-account throttling (per-IP limits are applied by AuthRateLimitFilter)
+        long retryAfter = rateLimiter.checkAccount(loginRequest.getEmail());
+        if (retryAfter > 0) {
+            return Mono.just(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header("Retry-After", String.valueOf(retryAfter))
+                    .build());
+        }
+
         return authService.login(loginRequest)
+                .doOnNext(authResponse -> rateLimiter.resetAccount(loginRequest.getEmail()))
                 .map(authResponse -> ResponseEntity.ok(authResponse))
                 .onErrorReturn(throwable -> throwable instanceof org.springframework.security.core.userdetails.UsernameNotFoundException ||
                                           throwable instanceof org.springframework.security.authentication.BadCredentialsException,
                         ResponseEntity.status(HttpStatus.UNAUTHORIZED).build())
+                // Password hashing pool saturated (login storm): ask the client to retry
+                .onErrorReturn(throwable -> throwable instanceof java.util.concurrent.RejectedExecutionException,
+                        ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").build())
                 .onErrorReturn(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
     }
 
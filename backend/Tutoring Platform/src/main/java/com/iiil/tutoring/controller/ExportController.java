@@ -0,0 +1,80 @@
+package com.iiil.tutoring.controller;
+
+import com.iiil.tutoring.service.export.DataExportService;
+import com.iiil.tutoring.service.export.ExportDataset;
+import com.iiil.tutoring.service.export.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Streaming admin exports (sessions, evaluations, payments, users) as NDJSON or CSV
+ */
+@RestController
+@RequestMapping("/api/v1/exports")
+@CrossOrigin(origins = "*")
+@Tag(name = "Exports", description = "Streaming data exports for administrators")
+@SecurityRequirement(name = "bearerAuth")
+public class ExportController {
+
+    private final DataExportService exportService;
+
+    @Autowired
+    public ExportController(DataExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Stream a dataset. The response is written as rows are read, so exports of millions of
+     * rows use constant memory; a slow client slows down the database cursor instead of
+     * filling the heap.
+     */
+    @GetMapping("/{dataset}")
+    @Operation(
+            summary = "Export a dataset",
+            description = "Stream sessions, evaluations, paiements or users as NDJSON (default) or CSV, optionally gzip-compressed. "
+                    + "The format can also be chosen with the Accept header (text/csv or application/x-ndjson)."
+    )
+    public Mono<Void> export(
+            @Parameter(description = "sessions, evaluations, paiements or users") @PathVariable String dataset,
+            @Parameter(description = "ndjson or csv") @RequestParam(required = false) String format,
+            @Parameter(description = "Compress the export with gzip") @RequestParam(defaultValue = "false") boolean gzip,
+            @Parameter(description = "Only rows dated on or after this date")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Only rows dated before this date")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            ServerHttpResponse response) {
+        ExportDataset exportDataset;
+        ExportFormat exportFormat;
+        try {
+            exportDataset = ExportDataset.fromValue(dataset);
+            exportFormat = format != null ? ExportFormat.fromValue(format)
+                    : accept != null && accept.contains("text/csv") ? ExportFormat.CSV : ExportFormat.NDJSON;
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage()));
+        }
+
+        String fileName = exportDataset.getFileName() + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"));
+        headers.setContentDisposition(ContentDisposition.attachment().filename(fileName).build());
+
+        return response.writeWith(exportService.export(exportDataset, exportFormat, from, to, gzip, response.bufferFactory()));
+    }
+}
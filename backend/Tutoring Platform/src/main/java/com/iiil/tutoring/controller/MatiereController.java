@@ -20,6 +20,11 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
 /**
  * Controller for managing subjects (matieres)
  */
@@ -69,38 +74,90 @@ public class MatiereController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Subject found",
                     content = @Content(schema = @Schema(implementation = MatiereResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Catalogue unchanged since the If-None-Match ETag"),
             @ApiResponse(responseCode = "404", description = "Subject not found")
     })
     public Mono<ResponseEntity<MatiereResponse>> getMatiereById(
-            @Parameter(description = "Subject ID") @PathVariable Long id) {
+            @Parameter(description = "Subject ID") @PathVariable Long id,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
         
         log.info("Getting subject by ID: {}", id);
         
-        return matiereService.getMatiereById(id)
-                .map(matiere -> ResponseEntity.ok(mapToResponse(matiere)))
+        return withCatalogETag(ifNoneMatch, ok -> matiereService.getMatiereById(id).map(matiere -> ok.body(mapToResponse(matiere))))
                 .onErrorReturn(IllegalArgumentException.class, 
                         ResponseEntity.notFound().build());
     }
 
+    /**
+     * Bulk create subjects
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Bulk create subjects",
+            description = "Create up to 1000 subjects in one statement. Names that already exist, or appear twice in the request, are skipped")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Subjects imported"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data")
+    })
+    public Mono<MatiereImportResponse> importMatieres(@Valid @RequestBody MatiereImportRequest request) {
+        log.info("Importing {} subject(s)", request.getMatieres().size());
+
+        Flux<Matiere> matieres = Flux.fromIterable(request.getMatieres())
+                .map(item -> {
+                    Matiere matiere = new Matiere();
+                    matiere.setNom(item.getNom());
+                    matiere.setDescription(item.getDescription());
+                    matiere.setNiveauEnum(item.getNiveau());
+                    matiere.setDomaine(item.getDomaine());
+                    return matiere;
+                });
+        return matiereService.createMatieres(matieres)
+                .collectList()
+                .map(created -> {
+                    Set<String> createdNoms = new HashSet<>();
+                    created.forEach(matiere -> createdNoms.add(matiere.getNom()));
+                    // every request entry beyond the one that created its name is a skip
+                    List<String> skipped = request.getMatieres().stream()
+                            .map(CreateMatiereRequest::getNom)
+                            .filter(nom -> !createdNoms.remove(nom))
+                            .toList();
+                    return new MatiereImportResponse(created.stream().map(this::mapToResponse).toList(), skipped);
+                });
+    }
+
     /**
      * Get all subjects
      */
     @GetMapping
-    @Operation(summary = "Get all subjects", description = "Retrieve all subjects with optional pagination")
-    @ApiResponse(responseCode = "200", description = "List of subjects")
-    public Flux<MatiereResponse> getAllMatieres(
+    @Operation(summary = "Get all subjects",
+            description = "Retrieve one page of subjects, sorted and filtered in the database, with the total number of matches in the X-Total-Count header. "
+                    + "A negative page or a size of 0 returns every subject. The ETag is the catalogue version: send it back in If-None-Match to get 304 while the catalogue is unchanged")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of subjects"),
+            @ApiResponse(responseCode = "400", description = "Invalid sort field")
+    })
+    public Mono<ResponseEntity<List<MatiereResponse>>> getAllMatieres(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Domain filter") @RequestParam(required = false) String domaine,
+            @Parameter(description = "Academic level filter") @RequestParam(required = false) NiveauAcademique niveau,
+            @Parameter(description = "Sort field: nom, domaine, niveau or date") @RequestParam(defaultValue = "nom") String sortBy,
+            @Parameter(description = "Sort direction: asc or desc") @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
         
         log.info("Getting all subjects - page: {}, size: {}", page, size);
         
-        if (page >= 0 && size > 0) {
-            return matiereService.getMatieresPaginated(page, size)
-                    .map(this::mapToResponse);
-        } else {
-            return matiereService.getAllMatieres()
-                    .map(this::mapToResponse);
+        if (page < 0 || size <= 0) {
+            return withCatalogETag(ifNoneMatch, ok -> matiereService.getAllMatieres()
+                    .map(this::mapToResponse)
+                    .collectList()
+                    .map(ok::body));
         }
+        return withCatalogETag(ifNoneMatch, ok -> matiereService.getMatieresPaginated(domaine,
+                        niveau != null ? niveau.getValue() : null, sortBy, sortDirection, page, size)
+                        .map(result -> ok
+                                .header("X-Total-Count", String.valueOf(result.getTotalElements()))
+                                .body(result.getMatieres().stream().map(this::mapToResponse).toList())))
+                .onErrorReturn(IllegalArgumentException.class, ResponseEntity.badRequest().build());
     }
 
     /**
@@ -170,6 +227,21 @@ public class MatiereController {
                 .map(this::mapToResponse);
     }
 
+    /**
+     * Autocomplete subjects
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete subjects",
+            description = "Suggest subjects whose name or domain words start with the words typed, accents and case ignored, most booked first. "
+                    + "Served from memory, without a database query")
+    @ApiResponse(responseCode = "200", description = "Suggested subjects")
+    public Flux<MatiereResponse> autocompleteMatieres(
+            @Parameter(description = "Partial input, e.g. \"alg lin\"") @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Maximum number of suggestions (max 20)") @RequestParam(defaultValue = "10") int limit) {
+        return matiereService.autocompleteMatieres(q, limit)
+                .map(this::mapToResponse);
+    }
+
     /**
      * Get subjects by domain
      */
@@ -206,9 +278,10 @@ public class MatiereController {
     @GetMapping("/domains")
     @Operation(summary = "Get all domains", description = "Retrieve all available academic domains")
     @ApiResponse(responseCode = "200", description = "List of domains")
-    public Flux<String> getAllDomaines() {
+    public Mono<ResponseEntity<List<String>>> getAllDomaines(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
         log.info("Getting all domains");
-        return matiereService.getAllDomaines();
+        return withCatalogETag(ifNoneMatch, ok -> matiereService.getAllDomaines().collectList().map(ok::body));
     }
 
     /**
@@ -237,6 +310,31 @@ public class MatiereController {
         return matiereService.existsByNom(nom);
     }
 
+    /**
+     * Answer 304 when the client already holds the current catalogue version, otherwise let
+     * {@code respond} complete a 200 response carrying the catalogue ETag
+     */
+    private <T> Mono<ResponseEntity<T>> withCatalogETag(String ifNoneMatch,
+                                                         Function<ResponseEntity.BodyBuilder, Mono<ResponseEntity<T>>> respond) {
+        String etag = matiereService.getCatalogETag();
+        if (etag != null && ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag) || tag.equals("*")) {
+                    return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<T>build());
+                }
+            }
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return respond.apply(response);
+    }
+
     /**
      * Map Matiere entity to response DTO
      */
@@ -0,0 +1,102 @@
+package com.iiil.tutoring.controller;
+
+import com.iiil.tutoring.dto.notification.NotificationEventDTO;
+import com.iiil.tutoring.dto.notification.NotificationResponseDTO;
+import com.iiil.tutoring.service.notification.NotificationService;
+import com.iiil.tutoring.util.AuthUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * REST Controller for user notifications, including the real-time SSE stream
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@CrossOrigin(origins = "*")
+@Tag(name = "Notifications", description = "User notifications and real-time push")
+public class NotificationController {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationController.class);
+
+    private final NotificationService notificationService;
+
+    @Autowired
+    public NotificationController(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    /**
+     * Real-time notification stream of the authenticated user. EventSource cannot send
+     * an Authorization header, so the access token may also be given as {@code access_token}.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream new notifications and unread count changes (SSE)")
+    public Flux<ServerSentEvent<NotificationEventDTO>> streamNotifications() {
+        return currentUserId()
+                .doOnNext(userId -> log.info("GET /api/notifications/stream - UserId: {}", userId))
+                .flatMapMany(notificationService::streamNotifications)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType())
+                        .build());
+    }
+
+    @GetMapping("/unread")
+    @Operation(summary = "Get unread notifications")
+    public Flux<NotificationResponseDTO> getUnreadNotifications() {
+        return currentUserId()
+                .flatMapMany(notificationService::getUnreadNotifications);
+    }
+
+    @GetMapping("/unread/count")
+    @Operation(summary = "Get unread notification count (served from memory for connected users)")
+    public Mono<ResponseEntity<Map<String, Long>>> getUnreadCount() {
+        return currentUserId()
+                .flatMap(notificationService::getUnreadCount)
+                .map(count -> ResponseEntity.ok(Map.of("unreadCount", count)));
+    }
+
+    @PostMapping("/unread/reconcile")
+    @Operation(summary = "Recompute the unread count from the database")
+    public Mono<ResponseEntity<Map<String, Long>>> reconcileUnreadCount() {
+        return currentUserId()
+                .flatMap(notificationService::reconcileUnreadCount)
+                .map(count -> ResponseEntity.ok(Map.of("unreadCount", count)));
+    }
+
+    @PutMapping("/{notificationId}/read")
+    @Operation(summary = "Mark a notification as read")
+    public Mono<ResponseEntity<Void>> markAsRead(@PathVariable Long notificationId) {
+        return currentUserId()
+                .flatMap(userId -> notificationService.markAsRead(notificationId, userId))
+                .map(updated -> updated
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
+    }
+
+    @PutMapping("/read-all")
+    @Operation(summary = "Mark all notifications as read")
+    public Mono<ResponseEntity<Map<String, Integer>>> markAllAsRead() {
+        return currentUserId()
+                .flatMap(notificationService::markAllAsRead)
+                .map(updated -> ResponseEntity.ok(Map.of("updated", updated)));
+    }
+
+    // Notifications are only ever served to their recipient
+    private Mono<Long> currentUserId() {
+        return AuthUtil.getCurrentUserId()
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required")));
+    }
+}
@@ -1,6 +1,7 @@
 package com.iiil.tutoring.controller;
 
 import com.iiil.tutoring.dto.session.*;
+import com.iiil.tutoring.service.session.SessionSeriesService;
 import com.iiil.tutoring.service.session.SessionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -22,10 +23,12 @@ public class SessionController {
     private static final Logger log = LoggerFactory.getLogger(SessionController.class);
 
     private final SessionService sessionService;
+    private final SessionSeriesService sessionSeriesService;
 
     @Autowired
-    public SessionController(SessionService sessionService) {
+    public SessionController(SessionService sessionService, SessionSeriesService sessionSeriesService) {
         this.sessionService = sessionService;
+        this.sessionSeriesService = sessionSeriesService;
     }
 
     @PostMapping
@@ -115,4 +118,55 @@ public class SessionController {
                 .doOnComplete(() -> log.info("Completed fetching sessions for student: {}", studentId))
                 .doOnError(error -> log.error("Error in controller for student {}: {}", studentId, error.getMessage(), error));
     }
+
+    // ===============================================
+    // RECURRING SERIES
+    // ===============================================
+
+    @PostMapping("/series")
+    @Operation(summary = "Create a weekly recurring series of sessions",
+               description = "Expands the pattern server-side, validates every occurrence in one pass and returns per-occurrence conflicts")
+    public Mono<ResponseEntity<SessionSeriesResponseDTO>> createSeries(
+            @Valid @RequestBody CreateSessionSeriesDTO createDTO) {
+        return sessionSeriesService.createSeries(createDTO)
+                .map(result -> result.getSerieId() != null
+                        ? ResponseEntity.status(HttpStatus.CREATED).body(result)
+                        : ResponseEntity.status(HttpStatus.CONFLICT).body(result))
+                .onErrorResume(e -> {
+                    log.error("Error creating session series: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.badRequest().build());
+                });
+    }
+
+    @GetMapping("/series/{serieId}")
+    @Operation(summary = "Get all sessions of a recurring series")
+    public Flux<SessionResponseDTO> getSeriesSessions(
+            @PathVariable Long serieId) {
+        return sessionSeriesService.getSeriesSessions(serieId);
+    }
+
+    @PostMapping("/series/{serieId}/reschedule")
+    @Operation(summary = "Shift the remaining occurrences of a recurring series")
+    public Mono<ResponseEntity<SessionSeriesResponseDTO>> rescheduleSeries(
+            @PathVariable Long serieId,
+            @Valid @RequestBody RescheduleSeriesDTO rescheduleDTO) {
+        return sessionSeriesService.rescheduleSeries(serieId, rescheduleDTO)
+                .map(result -> result.hasConflits()
+                        ? ResponseEntity.status(HttpStatus.CONFLICT).body(result)
+                        : ResponseEntity.ok(result))
+                .onErrorResume(e -> {
+                    log.error("Error rescheduling series {}: {}", serieId, e.getMessage());
+                    return Mono.just(ResponseEntity.badRequest().build());
+                });
+    }
+
+    @PostMapping("/series/{serieId}/cancel")
+    @Operation(summary = "Cancel the remaining occurrences of a recurring series")
+    public Mono<ResponseEntity<Integer>> cancelSeries(
+            @PathVariable Long serieId,
+            @RequestParam(required = false) String reason) {
+        return sessionSeriesService.cancelSeries(serieId, reason)
+                .map(ResponseEntity::ok)
+                .onErrorReturn(ResponseEntity.badRequest().build());
+    }
 }
\ No newline at end of file
@@ -1,5 +1,16 @@
 package com.iiil.tutoring.controller;
 
+import com.iiil.tutoring.security.AuthRateLimiter;
+import com.iiil.tutoring.security.PasswordHashingService;
+import com.iiil.tutoring.security.TokenBucketRateLimiter;
+import com.iiil.tutoring.security.TokenRevocationService;
+import com.iiil.tutoring.service.MatiereCatalog;
+import com.iiil.tutoring.service.export.DataExportService;
+import com.iiil.tutoring.service.notification.NotificationBatchWriter;
+import com.iiil.tutoring.service.notification.NotificationPushService;
+import com.iiil.tutoring.service.recommendation.TutorRecommender;
+import com.iiil.tutoring.service.search.TutorSearchIndex;
+import com.iiil.tutoring.service.notification.NotificationRetentionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -24,6 +35,36 @@ public class SystemController {
     @Autowired
     private DatabaseClient databaseClient;
 
+    @Autowired
+    private NotificationBatchWriter notificationBatchWriter;
+
+    @Autowired
+    private NotificationPushService notificationPushService;
+
+    @Autowired
+    private NotificationRetentionService notificationRetentionService;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private AuthRateLimiter authRateLimiter;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private DataExportService dataExportService;
+
+    @Autowired
+    private TutorSearchIndex tutorSearchIndex;
+
+    @Autowired
+    private TutorRecommender tutorRecommender;
+
+    @Autowired
+    private MatiereCatalog matiereCatalog;
+
     /**
      * Application health check
      */
@@ -130,6 +171,203 @@ public class SystemController {
                 ));
     }
 
+    /**
+     * Notification batch writer throughput
+     */
+    @GetMapping("/metrics/notifications")
+    @Operation(
+            summary = "Notification writer metrics",
+            description = "Rows written, statements executed and throughput of the notification batch writer, "
+                    + "and the state of the cross-node push"
+    )
+    public Mono<Map<String, Object>> notificationMetrics() {
+        return Mono.fromCallable(() -> {
+            NotificationBatchWriter.BatchWriterStats stats = notificationBatchWriter.getStats();
+            return Map.of(
+                "notifications_written", stats.getNotificationsWritten(),
+                "statements_executed", stats.getStatementsExecuted(),
+                "failed_chunks", stats.getFailedChunks(),
+                "chunk_size", stats.getChunkSize(),
+                "avg_rows_per_statement", stats.getAverageRowsPerStatement(),
+                "notifications_per_second", stats.getNotificationsPerSecond(),
+                "connected_users", notificationPushService.getConnectedUserCount(),
+                "push_listening", notificationPushService.isListening(),
+                "push_remote_events", notificationPushService.getRemoteMessageCount(),
+                "timestamp", LocalDateTime.now()
+            );
+        });
+    }
+
+    /**
+     * Notification retention sweep metrics
+     */
+    @GetMapping("/metrics/notifications/retention")
+    @Operation(
+            summary = "Notification retention metrics",
+            description = "Rows archived and purged by the notification retention sweep, and its last duration"
+    )
+    public Mono<Map<String, Object>> notificationRetentionMetrics() {
+        return Mono.fromCallable(() -> {
+            NotificationRetentionService.RetentionStats stats = notificationRetentionService.getStats();
+            return Map.of(
+                "sweeps", stats.getSweeps(),
+                "rows_archived", stats.getTotalArchived(),
+                "rows_purged", stats.getTotalPurged(),
+                "last_sweep_duration_ms", stats.getLastSweepDurationMillis(),
+                "last_sweep_at", stats.getLastSweepAt() != null ? stats.getLastSweepAt().toString() : "never",
+                "timestamp", LocalDateTime.now()
+            );
+        });
+    }
+
+    /**
+     * Password hashing pool depth and latency
+     */
+    @GetMapping("/metrics/password-hashing")
+    @Operation(
+            summary = "Password hashing metrics",
+            description = "Size, queue depth, rejections and latency of the bounded password hashing pool"
+    )
+    public Mono<Map<String, Object>> passwordHashingMetrics() {
+        return Mono.fromCallable(() -> {
+            PasswordHashingService.HashingStats stats = passwordHashingService.getStats();
+            return Map.ofEntries(
+                Map.entry("threads", stats.getThreads()),
+                Map.entry("max_queued", stats.getMaxQueued()),
+                Map.entry("running", stats.getRunning()),
+                Map.entry("queued", stats.getQueued()),
+                Map.entry("completed", stats.getCompleted()),
+                Map.entry("rejected", stats.getRejected()),
+                Map.entry("avg_wait_ms", stats.getAverageWaitMillis()),
+                Map.entry("max_wait_ms", stats.getMaxWaitMillis()),
+                Map.entry("avg_hash_ms", stats.getAverageHashMillis()),
+                Map.entry("timestamp", LocalDateTime.now())
+            );
+        });
+    }
+
+    /**
+     * Authentication rate limiter counters
+     */
+    @GetMapping("/metrics/auth-rate-limit")
+    @Operation(
+            summary = "Authentication rate limit metrics",
+            description = "Allowed and rejected attempts, tracked keys and evictions per authentication rate limiter"
+    )
+    public Mono<Map<String, Object>> authRateLimitMetrics() {
+        return Mono.fromCallable(() -> {
+            Map<String, Object> metrics = new java.util.LinkedHashMap<>();
+            for (TokenBucketRateLimiter limiter : authRateLimiter.getLimiters()) {
+                metrics.put(limiter.getName(), Map.of(
+                    "capacity", limiter.getCapacity(),
+                    "allowed", limiter.getAllowed(),
+                    "rejected", limiter.getRejected(),
+                    "tracked_keys", limiter.getTrackedKeys(),
+                    "evicted", limiter.getEvicted()
+                ));
+            }
+            metrics.put("timestamp", LocalDateTime.now());
+            return metrics;
+        });
+    }
+
+    /**
+     * Token revocation checks
+     */
+    @GetMapping("/metrics/token-revocation")
+    @Operation(
+            summary = "Token revocation metrics",
+            description = "Consumed refresh tokens, refresh token reuse and revoked users"
+    )
+    public Mono<Map<String, Object>> tokenRevocationMetrics() {
+        return Mono.fromCallable(() -> Map.of(
+                "refreshes_consumed", tokenRevocationService.getRefreshesConsumed(),
+                "refresh_reuse_detected", tokenRevocationService.getReuseDetected(),
+                "revoked_users", tokenRevocationService.getRevokedUserCount(),
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
+    /**
+     * Streaming export counters
+     */
+    @GetMapping("/metrics/exports")
+    @Operation(
+            summary = "Export metrics",
+            description = "Exports started and completed, rows and bytes streamed by the export endpoints"
+    )
+    public Mono<Map<String, Object>> exportMetrics() {
+        return Mono.fromCallable(() -> Map.of(
+                "exports_started", dataExportService.getExportsStarted(),
+                "exports_completed", dataExportService.getExportsCompleted(),
+                "rows_exported", dataExportService.getRowsExported(),
+                "bytes_written", dataExportService.getBytesWritten(),
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
+    /**
+     * Tutor search index counters
+     */
+    @GetMapping("/metrics/tutor-search")
+    @Operation(
+            summary = "Tutor search index metrics",
+            description = "Indexed tutors, queries and average query time of the in-memory tutor search index"
+    )
+    public Mono<Map<String, Object>> tutorSearchMetrics() {
+        return Mono.fromCallable(() -> Map.of(
+                "loaded", tutorSearchIndex.isLoaded(),
+                "indexed_tutors", tutorSearchIndex.getIndexedTutors(),
+                "queries", tutorSearchIndex.getQueries(),
+                "average_query_micros", tutorSearchIndex.getAverageQueryMicros(),
+                "updates", tutorSearchIndex.getUpdates(),
+                "rebuilds", tutorSearchIndex.getRebuilds(),
+                "ranked_tutors", tutorSearchIndex.getRankedTutors(),
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
+    /**
+     * Tutor recommendation model counters
+     */
+    @GetMapping("/metrics/recommendations")
+    @Operation(
+            summary = "Tutor recommendation metrics",
+            description = "Students and tutors of the recommendation model, similarity neighbors, batch builds and served recommendations"
+    )
+    public Mono<Map<String, Object>> recommendationMetrics() {
+        return Mono.fromCallable(() -> Map.of(
+                "students", tutorRecommender.getStudents(),
+                "tutors", tutorRecommender.getTutors(),
+                "neighbors", tutorRecommender.getNeighbors(),
+                "builds", tutorRecommender.getBuilds(),
+                "last_build_ms", tutorRecommender.getLastBuildMillis(),
+                "recommendations", tutorRecommender.getRecommendations(),
+                "student_refreshes", tutorRecommender.getStudentRefreshes(),
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
+    /**
+     * Matière catalogue cache counters
+     */
+    @GetMapping("/metrics/matieres")
+    @Operation(
+            summary = "Matière catalogue metrics",
+            description = "Size, version, hits, misses and reloads of the in-memory matière catalogue"
+    )
+    public Mono<Map<String, Object>> matiereCatalogMetrics() {
+        return Mono.fromCallable(() -> Map.of(
+                "loaded", matiereCatalog.isLoaded(),
+                "matieres", matiereCatalog.getSize(),
+                "etag", String.valueOf(matiereCatalog.getETag()),
+                "hits", matiereCatalog.getHits(),
+                "misses", matiereCatalog.getMisses(),
+                "reloads", matiereCatalog.getReloads(),
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
     /**
      * Simple ping endpoint
      */
@@ -19,6 +19,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * REST Controller for Tutor Management
@@ -94,64 +95,111 @@ public class TutorController {
      * Get all active tutors
      */
     @GetMapping
-    @Operation(summary = "Get all active tutors", description = "Retrieve all active tutors")
-    public Flux<TutorSummaryResponse> getAllActiveTutors() {
+    @Operation(summary = "Get all active tutors",
+            description = "Retrieve a page of active tutors, most recent first. The cursor of the next page is returned in the X-Next-Cursor header")
+    public Mono<ResponseEntity<List<TutorSummaryResponse>>> getAllActiveTutors(
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
         log.debug("Fetching all active tutors");
-        return tutorService.getAllActiveTutors();
+        return toPageResponse(tutorService.getAllActiveTutors(cursor, size));
     }
 
     /**
      * Get available tutors for booking
      */
     @GetMapping("/available")
-    @Operation(summary = "Get available tutors", description = "Get tutors available for booking")
-    public Flux<TutorSummaryResponse> getAvailableTutors() {
+    @Operation(summary = "Get available tutors",
+            description = "Get a page of tutors available for booking, best rated first. The cursor of the next page is returned in the X-Next-Cursor header")
+    public Mono<ResponseEntity<List<TutorSummaryResponse>>> getAvailableTutors(
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
         log.debug("Fetching available tutors");
-        return tutorService.getAvailableTutors();
+        return toPageResponse(tutorService.getAvailableTutors(cursor, size));
     }
 
     /**
      * Get verified tutors
      */
     @GetMapping("/verified")
-    @Operation(summary = "Get verified tutors", description = "Get all verified tutors")
-    public Flux<TutorSummaryResponse> getVerifiedTutors() {
+    @Operation(summary = "Get verified tutors",
+            description = "Get a page of verified tutors, best rated first. The cursor of the next page is returned in the X-Next-Cursor header")
+    public Mono<ResponseEntity<List<TutorSummaryResponse>>> getVerifiedTutors(
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
         log.debug("Fetching verified tutors");
-        return tutorService.getVerifiedTutors();
+        return toPageResponse(tutorService.getVerifiedTutors(cursor, size));
     }
 
     /**
      * Get top-rated tutors
      */
     @GetMapping("/top-rated")
-    @Operation(summary = "Get top-rated tutors", description = "Get highest rated tutors")
+    @Operation(summary = "Get top-rated tutors",
+            description = "Get highest ranked tutors (Bayesian average of their ratings), overall or for one matière")
     public Flux<TutorSummaryResponse> getTopRatedTutors(
             @Parameter(description = "Maximum number of tutors to return") 
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Optional matière ID") @RequestParam(required = false) Long matiereId) {
         log.debug("Fetching top {} rated tutors", limit);
-        return tutorService.getTopRatedTutors(limit);
+        return tutorService.getTopRatedTutors(limit, matiereId);
+    }
+
+    /**
+     * Get tutors recommended to a student
+     */
+    @GetMapping("/recommended/{studentId}")
+    @Operation(summary = "Get recommended tutors",
+            description = "Tutors similar to the ones the student completed sessions with and rated well, then the best ranked tutors of the student's matières")
+    public Flux<TutorSummaryResponse> getRecommendedTutors(
+            @Parameter(description = "Student (user) ID") @PathVariable Long studentId,
+            @Parameter(description = "Maximum number of tutors to return (max 100)") @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Fetching {} recommended tutors for student {}", limit, studentId);
+        return tutorService.getRecommendedTutors(studentId, limit);
     }
 
     /**
      * Search tutors by keyword
      */
     @GetMapping("/search")
-    @Operation(summary = "Search tutors", description = "Search tutors by keyword in name, specialty, or description")
-    public Flux<TutorSummaryResponse> searchTutors(
-            @Parameter(description = "Search keyword") @RequestParam(required = false) String keyword) {
+    @Operation(summary = "Search tutors",
+            description = "Search tutors by keyword in name, specialty, diplomas or description, ordered by relevance. "
+                    + "Accents and typos are tolerated; each result carries its relevance score and the total number of "
+                    + "matches is returned in the X-Total-Count header")
+    public Mono<ResponseEntity<List<TutorSummaryResponse>>> searchTutors(
+            @Parameter(description = "Search keyword") @RequestParam(required = false) String keyword,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
         log.debug("Searching tutors with keyword: {}", keyword);
-        return tutorService.searchTutors(keyword);
+        return tutorService.searchTutors(keyword, page, size)
+                .map(result -> ResponseEntity.ok()
+                        .header("X-Total-Count", String.valueOf(result.getTotalElements()))
+                        .body(result.getTutors()));
     }
 
     /**
      * Advanced search with filters
      */
     @PostMapping("/search")
-    @Operation(summary = "Advanced tutor search", description = "Search tutors with advanced filters")
+    @Operation(summary = "Advanced tutor search",
+            description = "Search tutors with advanced filters. With latitude, longitude and radiusKm, only the tutors within the radius are returned, nearest first, with their distanceKm")
     @ApiResponse(responseCode = "200", description = "Search results")
     public Flux<TutorSummaryResponse> searchTutorsWithFilters(
             @Valid @RequestBody TutorSearchRequest searchRequest) {
         log.debug("Advanced search with filters: {}", searchRequest);
+        return tutorService.searchTutorsWithFilters(searchRequest)
+                .flatMapIterable(TutorSearchResponse::getTutors);
+    }
+
+    /**
+     * Faceted search: a page of results with the total and the facet counts
+     */
+    @PostMapping("/search/facets")
+    @Operation(summary = "Faceted tutor search",
+            description = "Search tutors with filters and get the total count and facet counts (matières, villes, modalités, vérifié, disponible)")
+    @ApiResponse(responseCode = "200", description = "Search results with facets")
+    public Mono<TutorSearchResponse> searchTutorsWithFacets(
+            @Valid @RequestBody TutorSearchRequest searchRequest) {
+        log.debug("Faceted search with filters: {}", searchRequest);
         return tutorService.searchTutorsWithFilters(searchRequest);
     }
 
@@ -159,34 +207,43 @@ public class TutorController {
      * Get tutors by specialty (matiere)
      */
     @GetMapping("/specialty/{matiereId}")
-    @Operation(summary = "Get tutors by specialty", description = "Get tutors filtered by matiere ID")
-    public Flux<TutorSummaryResponse> getTutorsBySpecialty(
-            @Parameter(description = "Matiere ID") @PathVariable Long matiereId) {
+    @Operation(summary = "Get tutors by specialty",
+            description = "Get a page of tutors filtered by matiere ID, best rated first. The cursor of the next page is returned in the X-Next-Cursor header")
+    public Mono<ResponseEntity<List<TutorSummaryResponse>>> getTutorsBySpecialty(
+            @Parameter(description = "Matiere ID") @PathVariable Long matiereId,
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
         log.debug("Fetching tutors by matiere ID: {}", matiereId);
-        return tutorService.getTutorsBySpecialty(matiereId);
+        return toPageResponse(tutorService.getTutorsBySpecialty(matiereId, cursor, size));
     }
 
     /**
      * Get tutors by location
      */
     @GetMapping("/location/{ville}")
-    @Operation(summary = "Get tutors by location", description = "Get tutors in a specific city")
-    public Flux<TutorSummaryResponse> getTutorsByLocation(
-            @Parameter(description = "City name") @PathVariable String ville) {
+    @Operation(summary = "Get tutors by location",
+            description = "Get a page of tutors in a specific city, best rated first. The cursor of the next page is returned in the X-Next-Cursor header")
+    public Mono<ResponseEntity<List<TutorSummaryResponse>>> getTutorsByLocation(
+            @Parameter(description = "City name") @PathVariable String ville,
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
         log.debug("Fetching tutors by city: {}", ville);
-        return tutorService.getTutorsByLocation(ville);
+        return toPageResponse(tutorService.getTutorsByLocation(ville, cursor, size));
     }
 
     /**
      * Get tutors by price range
      */
     @GetMapping("/price-range")
-    @Operation(summary = "Get tutors by price range", description = "Get tutors within specified price range")
-    public Flux<TutorSummaryResponse> getTutorsByPriceRange(
+    @Operation(summary = "Get tutors by price range",
+            description = "Get a page of tutors within specified price range, cheapest first. The cursor of the next page is returned in the X-Next-Cursor header")
+    public Mono<ResponseEntity<List<TutorSummaryResponse>>> getTutorsByPriceRange(
             @Parameter(description = "Minimum hourly rate") @RequestParam BigDecimal minPrice,
-            @Parameter(description = "Maximum hourly rate") @RequestParam BigDecimal maxPrice) {
+            @Parameter(description = "Maximum hourly rate") @RequestParam BigDecimal maxPrice,
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
         log.debug("Fetching tutors by price range: {} - {}", minPrice, maxPrice);
-        return tutorService.getTutorsByPriceRange(minPrice, maxPrice);
+        return toPageResponse(tutorService.getTutorsByPriceRange(minPrice, maxPrice, cursor, size));
     }
 
     // === ADMINISTRATION OPERATIONS ===
@@ -370,6 +427,37 @@ public class TutorController {
                 });
     }
 
+    /**
+     * Replace the specialties of many tutors (catalogue import)
+     */
+    @PutMapping("/specialties/bulk")
+    @Operation(summary = "Bulk import tutor specialties",
+            description = "Replace the specialties of up to 1000 tutors in one request: only the differences are written. The import is rejected if a tutor or matière ID is unknown")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Specialties imported"),
+            @ApiResponse(responseCode = "400", description = "Unknown tutor or matière ID, or invalid data")
+    })
+    public Mono<TutorSpecialitesImportResponse> importTutorSpecialties(
+            @Valid @RequestBody TutorSpecialitesImportRequest request) {
+        log.info("Importing specialties of {} tutor(s)", request.getTutors().size());
+        return tutorService.importTutorSpecialities(request);
+    }
+
+    /**
+     * Write a listing page as a JSON array, with the next page cursor in X-Next-Cursor
+     * (an invalid cursor is reported as 400 by the IllegalArgumentException handler)
+     */
+    private Mono<ResponseEntity<List<TutorSummaryResponse>>> toPageResponse(Mono<TutorPageResponse> page) {
+        return page
+                .map(result -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (result.getNextCursor() != null) {
+                        response.header("X-Next-Cursor", result.getNextCursor());
+                    }
+                    return response.body(result.getTutors());
+                });
+    }
+
     // Error response DTO
     private static class ErrorResponse {
         private final String code;
@@ -383,4 +471,4 @@ public class TutorController {
         public String getCode() { return code; }
         public String getMessage() { return message; }
     }
-}
\ No newline at end of file
+}
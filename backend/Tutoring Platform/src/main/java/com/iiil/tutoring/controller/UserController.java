@@ -23,6 +23,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -49,18 +50,25 @@ public class UserController {
     /**
      * Get all users with roles
      */
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
     @Operation(
             summary = "Get all users with roles",
-            description = "Retrieve a list of all users in the system with their assigned roles. Requires admin privileges.",
+            description = "Retrieve a list of all users in the system with their assigned roles. Requires admin privileges. "
+                    + "Request application/x-ndjson to stream one user per line (admin exports).",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
                             description = "List of users with roles retrieved successfully",
-                            content = @Content(
-                                    mediaType = "application/json",
-                                    schema = @Schema(implementation = UserWithRolesDTO.class)
-                            )
+                            content = {
+                                    @Content(
+                                            mediaType = "application/json",
+                                            schema = @Schema(implementation = UserWithRolesDTO.class)
+                                    ),
+                                    @Content(
+                                            mediaType = "application/x-ndjson",
+                                            schema = @Schema(implementation = UserWithRolesDTO.class)
+                                    )
+                            }
                     ),
                     @ApiResponse(
                             responseCode = "403",
@@ -69,7 +77,14 @@ public class UserController {
             }
     )
     @PreAuthorize("hasRole('ADMIN')")
-    public Flux<UserWithRolesDTO> getAllUsers() {
+    public Flux<UserWithRolesDTO> getAllUsers(
+            @Parameter(description = "Return only users with an id greater than this one (keyset pagination)")
+            @RequestParam(required = false) Long afterId,
+            @Parameter(description = "Page size; when omitted, all users are streamed")
+            @RequestParam(required = false) Integer size) {
+        if (afterId != null || size != null) {
+            return userService.getUsersWithRolesPage(afterId, size != null ? size : Integer.MAX_VALUE, null);
+        }
         return userService.getAllUsersWithRoles();
     }
 
@@ -293,8 +308,7 @@ public class UserController {
     public Flux<UserWithRolesDTO> getUsersByStatus(@PathVariable String status) {
         try {
             UserStatus userStatus = UserStatus.valueOf(status.toUpperCase());
-            return userService.getUsersByStatus(userStatus)
-                    .flatMap(user -> userService.convertToUserWithRolesDTO(user));
+            return userService.streamUsersWithRoles(userStatus);
         } catch (IllegalArgumentException e) {
             return Flux.empty();
         }
@@ -0,0 +1,22 @@
+package com.iiil.tutoring.dto.matiere;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk imports of subjects
+ */
+@Data
+@NoArgsConstructor
+public class MatiereImportRequest {
+
+    @NotEmpty(message = "Au moins une matière doit être fournie")
+    @Size(max = 1000, message = "Un import ne peut pas dépasser 1000 matières")
+    @Valid
+    private List<CreateMatiereRequest> matieres;
+}
@@ -0,0 +1,21 @@
+package com.iiil.tutoring.dto.matiere;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a bulk import of subjects
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatiereImportResponse {
+
+    private List<MatiereResponse> created;
+
+    // Names already in the catalogue or repeated in the request
+    private List<String> skippedNoms;
+}
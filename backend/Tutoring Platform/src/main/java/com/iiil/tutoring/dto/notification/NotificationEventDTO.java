@@ -0,0 +1,74 @@
+package com.iiil.tutoring.dto.notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event pushed to connected clients on the notification stream
+ */
+public class NotificationEventDTO {
+
+    public static final String NEW_NOTIFICATION = "NEW_NOTIFICATION";
+    public static final String UNREAD_COUNT = "UNREAD_COUNT";
+    public static final String HEARTBEAT = "HEARTBEAT";
+
+    private String type;
+    private NotificationResponseDTO notification;
+    private long unreadCount;
+    private LocalDateTime timestamp;
+
+    // Constructors
+    public NotificationEventDTO() {}
+
+    public NotificationEventDTO(String type, NotificationResponseDTO notification, long unreadCount) {
+        this.type = type;
+        this.notification = notification;
+        this.unreadCount = unreadCount;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    // Factory methods
+    public static NotificationEventDTO newNotification(NotificationResponseDTO notification, long unreadCount) {
+        return new NotificationEventDTO(NEW_NOTIFICATION, notification, unreadCount);
+    }
+
+    public static NotificationEventDTO unreadCount(long unreadCount) {
+        return new NotificationEventDTO(UNREAD_COUNT, null, unreadCount);
+    }
+
+    public static NotificationEventDTO heartbeat(long unreadCount) {
+        return new NotificationEventDTO(HEARTBEAT, null, unreadCount);
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public NotificationResponseDTO getNotification() {
+        return notification;
+    }
+
+    public void setNotification(NotificationResponseDTO notification) {
+        this.notification = notification;
+    }
+
+    public long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public void setUnreadCount(long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+}
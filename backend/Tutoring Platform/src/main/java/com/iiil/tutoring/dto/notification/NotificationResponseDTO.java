@@ -0,0 +1,113 @@
+package com.iiil.tutoring.dto.notification;
+
+import com.iiil.tutoring.entity.Notification;
+import com.iiil.tutoring.enums.NotificationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for notification response
+ */
+public class NotificationResponseDTO {
+
+    private Long id;
+    private Long userId;
+    private String titre;
+    private String contenu;
+    private NotificationType type;
+    private Long entityId;
+    private String actionUrl;
+    private LocalDateTime dateCreation;
+    private boolean lue;
+
+    // Constructors
+    public NotificationResponseDTO() {}
+
+    // Factory methods
+    public static NotificationResponseDTO fromEntity(Notification notification) {
+        NotificationResponseDTO dto = new NotificationResponseDTO();
+        dto.setId(notification.getId());
+        dto.setUserId(notification.getUserId());
+        dto.setTitre(notification.getTitre());
+        dto.setContenu(notification.getContenu());
+        dto.setType(notification.getType());
+        dto.setEntityId(notification.getEntityId());
+        dto.setActionUrl(notification.getActionUrl());
+        dto.setDateCreation(notification.getDateCreation());
+        dto.setLue(notification.isLue());
+        return dto;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getTitre() {
+        return titre;
+    }
+
+    public void setTitre(String titre) {
+        this.titre = titre;
+    }
+
+    public String getContenu() {
+        return contenu;
+    }
+
+    public void setContenu(String contenu) {
+        this.contenu = contenu;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public void setType(NotificationType type) {
+        this.type = type;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getActionUrl() {
+        return actionUrl;
+    }
+
+    public void setActionUrl(String actionUrl) {
+        this.actionUrl = actionUrl;
+    }
+
+    public LocalDateTime getDateCreation() {
+        return dateCreation;
+    }
+
+    public void setDateCreation(LocalDateTime dateCreation) {
+        this.dateCreation = dateCreation;
+    }
+
+    public boolean isLue() {
+        return lue;
+    }
+
+    public void setLue(boolean lue) {
+        this.lue = lue;
+    }
+}
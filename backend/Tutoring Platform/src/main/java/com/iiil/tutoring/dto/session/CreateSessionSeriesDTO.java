@@ -0,0 +1,214 @@
+package com.iiil.tutoring.dto.session;
+
+import com.iiil.tutoring.enums.SessionType;
+import jakarta.validation.constraints.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * DTO for creating a weekly recurring series of sessions
+ */
+public class CreateSessionSeriesDTO {
+
+    @NotNull(message = "L'ID du tuteur est obligatoire")
+    private Long tuteurId;
+
+    @NotNull(message = "L'ID de l'étudiant est obligatoire")
+    private Long etudiantId;
+
+    @NotNull(message = "L'ID de la matière est obligatoire")
+    private Long matiereId;
+
+    @NotNull(message = "La date et heure de la première session sont obligatoires")
+    @Future(message = "La première session doit être dans le futur")
+    private LocalDateTime premiereDateHeure;
+
+    // Days of the week on which the series repeats; defaults to the day of the first session
+    private Set<DayOfWeek> joursSemaine;
+
+    @Min(value = 1, message = "L'intervalle minimum est d'une semaine")
+    @Max(value = 4, message = "L'intervalle maximum est de 4 semaines")
+    private int intervalleSemaines = 1;
+
+    // Either a number of occurrences or an end date must be provided
+    @Min(value = 1, message = "La série doit contenir au moins une occurrence")
+    @Max(value = 104, message = "La série ne peut pas dépasser 104 occurrences")
+    private Integer nombreOccurrences;
+
+    private LocalDate dateFin;
+
+    @Min(value = 30, message = "La durée minimum est de 30 minutes")
+    @Max(value = 480, message = "La durée maximum est de 8 heures (480 minutes)")
+    private int duree;
+
+    @NotNull(message = "Le type de session est obligatoire")
+    private SessionType typeSession;
+
+    @DecimalMin(value = "0.0", message = "Le prix doit être positif")
+    @DecimalMax(value = "1000.0", message = "Le prix ne peut pas dépasser 1000€")
+    private double prix;
+
+    @Size(max = 500, message = "Le lien visio ne peut pas dépasser 500 caractères")
+    private String lienVisio;
+
+    @Size(max = 1000, message = "Les notes ne peuvent pas dépasser 1000 caractères")
+    private String notes;
+
+    @Size(max = 200, message = "La salle ne peut pas dépasser 200 caractères")
+    private String salle;
+
+    private boolean requiresConfirmation = true;
+
+    // When true, conflicting occurrences are skipped instead of rejecting the whole series
+    private boolean ignorerConflits = false;
+
+    // Constructors
+    public CreateSessionSeriesDTO() {}
+
+    // Getters and Setters
+    public Long getTuteurId() {
+        return tuteurId;
+    }
+
+    public void setTuteurId(Long tuteurId) {
+        this.tuteurId = tuteurId;
+    }
+
+    public Long getEtudiantId() {
+        return etudiantId;
+    }
+
+    public void setEtudiantId(Long etudiantId) {
+        this.etudiantId = etudiantId;
+    }
+
+    public Long getMatiereId() {
+        return matiereId;
+    }
+
+    public void setMatiereId(Long matiereId) {
+        this.matiereId = matiereId;
+    }
+
+    public LocalDateTime getPremiereDateHeure() {
+        return premiereDateHeure;
+    }
+
+    public void setPremiereDateHeure(LocalDateTime premiereDateHeure) {
+        this.premiereDateHeure = premiereDateHeure;
+    }
+
+    public Set<DayOfWeek> getJoursSemaine() {
+        return joursSemaine;
+    }
+
+    public void setJoursSemaine(Set<DayOfWeek> joursSemaine) {
+        this.joursSemaine = joursSemaine;
+    }
+
+    public int getIntervalleSemaines() {
+        return intervalleSemaines;
+    }
+
+    public void setIntervalleSemaines(int intervalleSemaines) {
+        this.intervalleSemaines = intervalleSemaines;
+    }
+
+    public Integer getNombreOccurrences() {
+        return nombreOccurrences;
+    }
+
+    public void setNombreOccurrences(Integer nombreOccurrences) {
+        this.nombreOccurrences = nombreOccurrences;
+    }
+
+    public LocalDate getDateFin() {
+        return dateFin;
+    }
+
+    public void setDateFin(LocalDate dateFin) {
+        this.dateFin = dateFin;
+    }
+
+    public int getDuree() {
+        return duree;
+    }
+
+    public void setDuree(int duree) {
+        this.duree = duree;
+    }
+
+    public SessionType getTypeSession() {
+        return typeSession;
+    }
+
+    public void setTypeSession(SessionType typeSession) {
+        this.typeSession = typeSession;
+    }
+
+    public double getPrix() {
+        return prix;
+    }
+
+    public void setPrix(double prix) {
+        this.prix = prix;
+    }
+
+    public String getLienVisio() {
+        return lienVisio;
+    }
+
+    public void setLienVisio(String lienVisio) {
+        this.lienVisio = lienVisio;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public String getSalle() {
+        return salle;
+    }
+
+    public void setSalle(String salle) {
+        this.salle = salle;
+    }
+
+    public boolean isRequiresConfirmation() {
+        return requiresConfirmation;
+    }
+
+    public void setRequiresConfirmation(boolean requiresConfirmation) {
+        this.requiresConfirmation = requiresConfirmation;
+    }
+
+    public boolean isIgnorerConflits() {
+        return ignorerConflits;
+    }
+
+    public void setIgnorerConflits(boolean ignorerConflits) {
+        this.ignorerConflits = ignorerConflits;
+    }
+
+    @Override
+    public String toString() {
+        return "CreateSessionSeriesDTO{" +
+                "tuteurId=" + tuteurId +
+                ", etudiantId=" + etudiantId +
+                ", matiereId=" + matiereId +
+                ", premiereDateHeure=" + premiereDateHeure +
+                ", joursSemaine=" + joursSemaine +
+                ", intervalleSemaines=" + intervalleSemaines +
+                ", nombreOccurrences=" + nombreOccurrences +
+                ", dateFin=" + dateFin +
+                ", duree=" + duree +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+package com.iiil.tutoring.dto.session;
+
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for shifting the remaining occurrences of a recurring series
+ */
+public class RescheduleSeriesDTO {
+
+    // Shift applied to every remaining occurrence, e.g. 1440 to move the series one day later
+    private int decalageMinutes;
+
+    // Only occurrences after this instant are moved; defaults to now
+    private LocalDateTime depuis;
+
+    @Size(max = 500, message = "La raison ne peut pas dépasser 500 caractères")
+    private String raison;
+
+    // Constructors
+    public RescheduleSeriesDTO() {}
+
+    // Getters and Setters
+    public int getDecalageMinutes() {
+        return decalageMinutes;
+    }
+
+    public void setDecalageMinutes(int decalageMinutes) {
+        this.decalageMinutes = decalageMinutes;
+    }
+
+    public LocalDateTime getDepuis() {
+        return depuis;
+    }
+
+    public void setDepuis(LocalDateTime depuis) {
+        this.depuis = depuis;
+    }
+
+    public String getRaison() {
+        return raison;
+    }
+
+    public void setRaison(String raison) {
+        this.raison = raison;
+    }
+}
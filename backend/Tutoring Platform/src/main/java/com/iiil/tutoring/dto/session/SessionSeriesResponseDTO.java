@@ -0,0 +1,100 @@
+package com.iiil.tutoring.dto.session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the result of a recurring series operation (creation or reschedule)
+ */
+public class SessionSeriesResponseDTO {
+
+    private Long serieId;
+    private int occurrencesDemandees;
+    private int occurrencesTraitees;
+    private List<SessionResponseDTO> sessions = new ArrayList<>();
+    private List<OccurrenceConflict> conflits = new ArrayList<>();
+
+    // Constructors
+    public SessionSeriesResponseDTO() {}
+
+    // Getters and Setters
+    public Long getSerieId() {
+        return serieId;
+    }
+
+    public void setSerieId(Long serieId) {
+        this.serieId = serieId;
+    }
+
+    public int getOccurrencesDemandees() {
+        return occurrencesDemandees;
+    }
+
+    public void setOccurrencesDemandees(int occurrencesDemandees) {
+        this.occurrencesDemandees = occurrencesDemandees;
+    }
+
+    public int getOccurrencesTraitees() {
+        return occurrencesTraitees;
+    }
+
+    public void setOccurrencesTraitees(int occurrencesTraitees) {
+        this.occurrencesTraitees = occurrencesTraitees;
+    }
+
+    public List<SessionResponseDTO> getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(List<SessionResponseDTO> sessions) {
+        this.sessions = sessions;
+    }
+
+    public List<OccurrenceConflict> getConflits() {
+        return conflits;
+    }
+
+    public void setConflits(List<OccurrenceConflict> conflits) {
+        this.conflits = conflits;
+    }
+
+    public boolean hasConflits() {
+        return !conflits.isEmpty();
+    }
+
+    /**
+     * Conflict between one occurrence of the series and an existing booking
+     */
+    public static class OccurrenceConflict {
+        private LocalDateTime occurrenceDateHeure;
+        private Long sessionExistanteId;
+        private LocalDateTime sessionExistanteDebut;
+        private LocalDateTime sessionExistanteFin;
+        private String participant; // "TUTEUR" ou "ETUDIANT"
+
+        public OccurrenceConflict() {}
+
+        public OccurrenceConflict(LocalDateTime occurrenceDateHeure, Long sessionExistanteId,
+                                  LocalDateTime sessionExistanteDebut, LocalDateTime sessionExistanteFin,
+                                  String participant) {
+            this.occurrenceDateHeure = occurrenceDateHeure;
+            this.sessionExistanteId = sessionExistanteId;
+            this.sessionExistanteDebut = sessionExistanteDebut;
+            this.sessionExistanteFin = sessionExistanteFin;
+            this.participant = participant;
+        }
+
+        // Getters and setters
+        public LocalDateTime getOccurrenceDateHeure() { return occurrenceDateHeure; }
+        public void setOccurrenceDateHeure(LocalDateTime occurrenceDateHeure) { this.occurrenceDateHeure = occurrenceDateHeure; }
+        public Long getSessionExistanteId() { return sessionExistanteId; }
+        public void setSessionExistanteId(Long sessionExistanteId) { this.sessionExistanteId = sessionExistanteId; }
+        public LocalDateTime getSessionExistanteDebut() { return sessionExistanteDebut; }
+        public void setSessionExistanteDebut(LocalDateTime sessionExistanteDebut) { this.sessionExistanteDebut = sessionExistanteDebut; }
+        public LocalDateTime getSessionExistanteFin() { return sessionExistanteFin; }
+        public void setSessionExistanteFin(LocalDateTime sessionExistanteFin) { this.sessionExistanteFin = sessionExistanteFin; }
+        public String getParticipant() { return participant; }
+        public void setParticipant(String participant) { this.participant = participant; }
+    }
+}
@@ -0,0 +1,21 @@
+package com.iiil.tutoring.dto.tutor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one keyset page of a tutor listing
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutorPageResponse {
+
+    private List<TutorSummaryResponse> tutors;
+
+    // Cursor of the next page, null on the last page
+    private String nextCursor;
+}
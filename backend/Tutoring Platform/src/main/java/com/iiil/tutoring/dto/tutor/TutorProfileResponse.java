@@ -42,6 +42,8 @@ public class TutorProfileResponse {
     private Boolean coursPresentiel;
     private String ville;
     private String pays;
+    private Double latitude;
+    private Double longitude;
 
     // Audit fields
     private LocalDateTime createdAt;
@@ -84,6 +86,8 @@ public class TutorProfileResponse {
         this.coursPresentiel = tutor.getCoursPresentiel();
         this.ville = tutor.getVille();
         this.pays = tutor.getPays();
+        this.latitude = tutor.getLatitude();
+        this.longitude = tutor.getLongitude();
 
         this.createdAt = tutor.getCreatedAt();
         this.updatedAt = tutor.getUpdatedAt();
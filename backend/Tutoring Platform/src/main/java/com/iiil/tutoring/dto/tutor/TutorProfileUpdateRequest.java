@@ -47,6 +47,16 @@ public class TutorProfileUpdateRequest {
     @Size(max = 100, message = "Le pays ne peut pas dépasser 100 caractères")
     private String pays;
 
+    @DecimalMin(value = "-90.0", message = "La latitude doit être entre -90 et 90")
+    @DecimalMax(value = "90.0", message = "La latitude doit être entre -90 et 90")
+    @Schema(description = "Latitude of the in-person teaching location (with longitude)", example = "48.8566")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "La longitude doit être entre -180 et 180")
+    @DecimalMax(value = "180.0", message = "La longitude doit être entre -180 et 180")
+    @Schema(description = "Longitude of the in-person teaching location (with latitude)", example = "2.3522")
+    private Double longitude;
+
     private Boolean coursEnLigne;
 
     private Boolean coursPresentiel;
@@ -1,5 +1,7 @@
 package com.iiil.tutoring.dto.tutor;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -26,12 +28,30 @@ public class TutorSearchRequest {
     private Boolean availableOnly;
     private Boolean onlineOnly;
     private Boolean inPersonOnly;
+
+    // Radius search: tutors within radiusKm of (latitude, longitude)
+    @DecimalMin(value = "-90.0", message = "La latitude doit être entre -90 et 90")
+    @DecimalMax(value = "90.0", message = "La latitude doit être entre -90 et 90")
+    private Double latitude;
+    @DecimalMin(value = "-180.0", message = "La longitude doit être entre -180 et 180")
+    @DecimalMax(value = "180.0", message = "La longitude doit être entre -180 et 180")
+    private Double longitude;
+    @DecimalMin(value = "0.1", message = "Le rayon doit être entre 0.1 et 500 km")
+    @DecimalMax(value = "500.0", message = "Le rayon doit être entre 0.1 et 500 km")
+    private Double radiusKm;
     
     // Sorting options
-    private String sortBy = "rating"; // rating, price, name, date
+    private String sortBy; // rating, price, name, date, distance (nearest first); defaults to distance for a radius search, rating otherwise
     private String sortDirection = "desc"; // asc, desc
     
     // Pagination
     private Integer page = 0;
     private Integer size = 20;
+
+    /**
+     * Whether the request is a radius search
+     */
+    public boolean isGeoSearch() {
+        return latitude != null || longitude != null || radiusKm != null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.iiil.tutoring.dto.tutor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for a page of tutor search results with facet counts
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutorSearchResponse {
+
+    private List<TutorSummaryResponse> tutors;
+    private Long totalElements;
+    private Integer page;
+    private Integer size;
+
+    // Facet name (matieres, villes, modalites, verifie, disponible) -> counts over all matching tutors
+    private Map<String, List<FacetCount>> facets;
+
+    /**
+     * Number of matching tutors for one facet value
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetCount {
+        private String value;
+        private String label;
+        private Long count;
+    }
+}
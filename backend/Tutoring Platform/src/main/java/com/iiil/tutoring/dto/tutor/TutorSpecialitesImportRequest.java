@@ -0,0 +1,39 @@
+package com.iiil.tutoring.dto.tutor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk imports of tutor specialties: the complete list of matières of each tutor
+ */
+@Data
+@NoArgsConstructor
+public class TutorSpecialitesImportRequest {
+
+    @NotEmpty(message = "Au moins un tuteur doit être fourni")
+    @Size(max = 1000, message = "Un import ne peut pas dépasser 1000 tuteurs")
+    @Valid
+    private List<TutorSpecialites> tutors;
+
+    /**
+     * Specialties of one tutor; they replace the tutor's current specialties
+     */
+    @Data
+    @NoArgsConstructor
+    public static class TutorSpecialites {
+
+        @NotNull(message = "L'ID du tuteur est obligatoire")
+        private Long tutorId;
+
+        @NotNull(message = "La liste des spécialités est obligatoire")
+        @Schema(description = "Matière IDs; an empty list removes all specialties of the tutor", example = "[1, 3, 5]")
+        private List<Long> specialiteIds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.iiil.tutoring.dto.tutor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of a bulk import of tutor specialties
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutorSpecialitesImportResponse {
+
+    private int tutors;
+    private int changedTutors;
+    private long specialitesAdded;
+    private long specialitesRemoved;
+}
@@ -1,5 +1,6 @@
 package com.iiil.tutoring.dto.tutor;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -26,13 +27,29 @@ public class TutorSummaryResponse {
     private String pays;
     private String description;
 
+    // Relevance of the tutor for a keyword search, absent elsewhere
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double score;
+
+    // Distance in km from the point of a radius search, absent elsewhere
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm;
+
     /**
      * Constructor from Tutor and User entities
      */
     public TutorSummaryResponse(com.iiil.tutoring.entity.Tutor tutor, com.iiil.tutoring.entity.User user) {
-        this.id = tutor.getId();
-        this.fullName = user.getPrenom() + " " + user.getNom();
+        this(tutor, user.getPrenom() + " " + user.getNom(), null);
         // specialites will be set separately by the service layer
+    }
+
+    /**
+     * Constructor from a Tutor entity with the user name and specialties already resolved
+     */
+    public TutorSummaryResponse(com.iiil.tutoring.entity.Tutor tutor, String fullName, String specialites) {
+        this.id = tutor.getId();
+        this.fullName = fullName;
+        this.specialites = specialites;
         this.tarifHoraire = tutor.getTarifHoraire();
         this.noteMoyenne = tutor.getNoteMoyenne();
         this.nombreEvaluations = tutor.getNombreEvaluations();
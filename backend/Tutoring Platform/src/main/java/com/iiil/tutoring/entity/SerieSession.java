@@ -0,0 +1,176 @@
+package com.iiil.tutoring.entity;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.annotation.*;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Recurring session series entity (weekly pattern expanded into sessions)
+ */
+@Table("series_sessions")
+public class SerieSession {
+
+    @Id
+    private Long id;
+
+    @NotNull(message = "L'ID du tuteur est obligatoire")
+    @Column("tuteur_id")
+    private Long tuteurId;
+
+    @NotNull(message = "L'ID de l'étudiant est obligatoire")
+    @Column("etudiant_id")
+    private Long etudiantId;
+
+    @NotNull(message = "L'ID de la matière est obligatoire")
+    @Column("matiere_id")
+    private Long matiereId;
+
+    @NotNull(message = "La date de début est obligatoire")
+    @Column("date_debut")
+    private LocalDateTime dateDebut;
+
+    @NotBlank(message = "Les jours de la semaine sont obligatoires")
+    @Column("jours_semaine")
+    private String joursSemaine; // ex: "MONDAY,THURSDAY"
+
+    @Min(value = 1, message = "L'intervalle doit être d'au moins 1 semaine")
+    @Column("intervalle_semaines")
+    private int intervalleSemaines = 1;
+
+    @Min(value = 1, message = "La série doit contenir au moins une occurrence")
+    @Column("nombre_occurrences")
+    private int nombreOccurrences;
+
+    @Min(value = 1, message = "La durée doit être d'au moins 1 minute")
+    @Column("duree")
+    private int duree; // en minutes
+
+    @Column("created_at")
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    // Constructors
+    public SerieSession() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTuteurId() {
+        return tuteurId;
+    }
+
+    public void setTuteurId(Long tuteurId) {
+        this.tuteurId = tuteurId;
+    }
+
+    public Long getEtudiantId() {
+        return etudiantId;
+    }
+
+    public void setEtudiantId(Long etudiantId) {
+        this.etudiantId = etudiantId;
+    }
+
+    public Long getMatiereId() {
+        return matiereId;
+    }
+
+    public void setMatiereId(Long matiereId) {
+        this.matiereId = matiereId;
+    }
+
+    public LocalDateTime getDateDebut() {
+        return dateDebut;
+    }
+
+    public void setDateDebut(LocalDateTime dateDebut) {
+        this.dateDebut = dateDebut;
+    }
+
+    public String getJoursSemaine() {
+        return joursSemaine;
+    }
+
+    public void setJoursSemaine(String joursSemaine) {
+        this.joursSemaine = joursSemaine;
+    }
+
+    public int getIntervalleSemaines() {
+        return intervalleSemaines;
+    }
+
+    public void setIntervalleSemaines(int intervalleSemaines) {
+        this.intervalleSemaines = intervalleSemaines;
+    }
+
+    public int getNombreOccurrences() {
+        return nombreOccurrences;
+    }
+
+    public void setNombreOccurrences(int nombreOccurrences) {
+        this.nombreOccurrences = nombreOccurrences;
+    }
+
+    public int getDuree() {
+        return duree;
+    }
+
+    public void setDuree(int duree) {
+        this.duree = duree;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @Override
+    public String toString() {
+        return "SerieSession{" +
+                "id=" + id +
+                ", tuteurId=" + tuteurId +
+                ", etudiantId=" + etudiantId +
+                ", dateDebut=" + dateDebut +
+                ", joursSemaine='" + joursSemaine + '\'' +
+                ", intervalleSemaines=" + intervalleSemaines +
+                ", nombreOccurrences=" + nombreOccurrences +
+                '}';
+    }
+}
@@ -35,6 +35,9 @@ public class Session {
     @Column("demande_session_id")
     private Long demandeSessionId;
 
+    @Column("serie_id")
+    private Long serieId; // Série récurrente d'origine, le cas échéant
+
     @NotNull(message = "La date et heure sont obligatoires")
     @Column("date_heure")
     private LocalDateTime dateHeure;
@@ -131,6 +134,14 @@ public class Session {
         this.demandeSessionId = demandeSessionId;
     }
 
+    public Long getSerieId() {
+        return serieId;
+    }
+
+    public void setSerieId(Long serieId) {
+        this.serieId = serieId;
+    }
+
     public LocalDateTime getDateHeure() {
         return dateHeure;
     }
@@ -0,0 +1,211 @@
+package com.iiil.tutoring.entity;
+
+import com.iiil.tutoring.enums.JobStatus;
+import com.iiil.tutoring.enums.JobType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.annotation.*;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Durable session lifecycle job (outbox entry) claimed by workers across nodes
+ */
+@Table("session_jobs")
+public class SessionJob {
+
+    @Id
+    private Long id;
+
+    @NotNull(message = "Le type de job est obligatoire")
+    @Column("type")
+    private JobType type;
+
+    @Column("session_id")
+    private Long sessionId;
+
+    @Column("date_reference")
+    private LocalDateTime dateReference; // Date de session attendue au moment de la planification
+
+    @Column("parametre")
+    private Integer parametre; // ex: minutes avant la session pour un rappel
+
+    @NotBlank(message = "La clé d'idempotence est obligatoire")
+    @Column("idempotency_key")
+    private String idempotencyKey;
+
+    @NotNull(message = "Le statut est obligatoire")
+    @Column("statut")
+    private JobStatus statut = JobStatus.EN_ATTENTE;
+
+    @Column("tentatives")
+    private int tentatives;
+
+    @Column("max_tentatives")
+    private int maxTentatives = 5;
+
+    @NotNull(message = "La date d'exécution est obligatoire")
+    @Column("execute_apres")
+    private LocalDateTime executeApres;
+
+    @Column("verrouille_par")
+    private String verrouillePar;
+
+    @Column("verrouille_jusqua")
+    private LocalDateTime verrouilleJusqua;
+
+    @Column("derniere_erreur")
+    private String derniereErreur;
+
+    @Column("created_at")
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public SessionJob() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public JobType getType() {
+        return type;
+    }
+
+    public void setType(JobType type) {
+        this.type = type;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(Long sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public LocalDateTime getDateReference() {
+        return dateReference;
+    }
+
+    public void setDateReference(LocalDateTime dateReference) {
+        this.dateReference = dateReference;
+    }
+
+    public Integer getParametre() {
+        return parametre;
+    }
+
+    public void setParametre(Integer parametre) {
+        this.parametre = parametre;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public JobStatus getStatut() {
+        return statut;
+    }
+
+    public void setStatut(JobStatus statut) {
+        this.statut = statut;
+    }
+
+    public int getTentatives() {
+        return tentatives;
+    }
+
+    public void setTentatives(int tentatives) {
+        this.tentatives = tentatives;
+    }
+
+    public int getMaxTentatives() {
+        return maxTentatives;
+    }
+
+    public void setMaxTentatives(int maxTentatives) {
+        this.maxTentatives = maxTentatives;
+    }
+
+    public LocalDateTime getExecuteApres() {
+        return executeApres;
+    }
+
+    public void setExecuteApres(LocalDateTime executeApres) {
+        this.executeApres = executeApres;
+    }
+
+    public String getVerrouillePar() {
+        return verrouillePar;
+    }
+
+    public void setVerrouillePar(String verrouillePar) {
+        this.verrouillePar = verrouillePar;
+    }
+
+    public LocalDateTime getVerrouilleJusqua() {
+        return verrouilleJusqua;
+    }
+
+    public void setVerrouilleJusqua(LocalDateTime verrouilleJusqua) {
+        this.verrouilleJusqua = verrouilleJusqua;
+    }
+
+    public String getDerniereErreur() {
+        return derniereErreur;
+    }
+
+    public void setDerniereErreur(String derniereErreur) {
+        this.derniereErreur = derniereErreur;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // Business methods
+    public boolean isDernierEssai() {
+        return tentatives >= maxTentatives;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionJob{" +
+                "id=" + id +
+                ", type=" + type +
+                ", sessionId=" + sessionId +
+                ", idempotencyKey='" + idempotencyKey + '\'' +
+                ", statut=" + statut +
+                ", tentatives=" + tentatives +
+                ", executeApres=" + executeApres +
+                '}';
+    }
+}
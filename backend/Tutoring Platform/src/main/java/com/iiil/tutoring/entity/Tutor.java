@@ -11,7 +11,6 @@ import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 /**
@@ -53,16 +52,25 @@ public class Tutor {
     private String description;
 
     // === RATING AND VERIFICATION ===
+    // Rating columns are only written by the atomic increments of TutorRepository.applyRatingDelta:
+    // saving the entity never overwrites them with a stale copy
 
+    @ReadOnlyProperty
     @DecimalMin(value = "0.0", message = "La note doit être entre 0 et 5")
     @DecimalMax(value = "5.0", message = "La note doit être entre 0 et 5")
     @Column("note_moyenne")
     private BigDecimal noteMoyenne = BigDecimal.ZERO;
 
+    @ReadOnlyProperty
     @Min(value = 0, message = "Le nombre d'évaluations doit être positif")
     @Column("nombre_evaluations")
     private Integer nombreEvaluations = 0;
 
+    // Bayesian average of the ratings, used to rank tutors
+    @ReadOnlyProperty
+    @Column("score_classement")
+    private Double scoreClassement = 0.0;
+
     @Column("verifie")
     private Boolean verifie = false;
 
@@ -88,6 +96,17 @@ public class Tutor {
     @Column("pays")
     private String pays;
 
+    // Coordinates of the in-person teaching location, used by the radius search
+    @DecimalMin(value = "-90.0", message = "La latitude doit être entre -90 et 90")
+    @DecimalMax(value = "90.0", message = "La latitude doit être entre -90 et 90")
+    @Column("latitude")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "La longitude doit être entre -180 et 180")
+    @DecimalMax(value = "180.0", message = "La longitude doit être entre -180 et 180")
+    @Column("longitude")
+    private Double longitude;
+
     // === AUDIT FIELDS ===
 
     @CreatedDate
@@ -133,20 +152,6 @@ public class Tutor {
         return Boolean.TRUE.equals(verifie);
     }
 
-    /**
-     * Update tutor rating with new evaluation
-     */
-    public void updateRating(BigDecimal newRating) {
-        if (newRating == null || newRating.compareTo(BigDecimal.ZERO) < 0 || newRating.compareTo(BigDecimal.valueOf(5)) > 0) {
-            throw new IllegalArgumentException("La note doit être entre 0 et 5");
-        }
-        
-        BigDecimal totalPoints = noteMoyenne.multiply(BigDecimal.valueOf(nombreEvaluations));
-        totalPoints = totalPoints.add(newRating);
-        nombreEvaluations++;
-        noteMoyenne = totalPoints.divide(BigDecimal.valueOf(nombreEvaluations), 2, RoundingMode.HALF_UP);
-    }
-
     /**
      * Verify tutor profile
      */
@@ -0,0 +1,41 @@
+package com.iiil.tutoring.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * User-wide token revocation: every token of the user issued before {@code revokedBefore} is rejected
+ */
+@Table("user_token_revocations")
+public class UserTokenRevocation {
+
+    @Id
+    @Column("user_id")
+    private Long userId;
+
+    @Column("revoked_before")
+    private LocalDateTime revokedBefore;
+
+    // Constructors
+    public UserTokenRevocation() {}
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getRevokedBefore() {
+        return revokedBefore;
+    }
+
+    public void setRevokedBefore(LocalDateTime revokedBefore) {
+        this.revokedBefore = revokedBefore;
+    }
+}
@@ -0,0 +1,21 @@
+package com.iiil.tutoring.enums;
+
+/**
+ * Session lifecycle job status enumeration
+ */
+public enum JobStatus {
+    EN_ATTENTE("en_attente"),
+    EN_COURS("en_cours"),
+    TERMINE("termine"),
+    ECHOUE("echoue");
+
+    private final String value;
+
+    JobStatus(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
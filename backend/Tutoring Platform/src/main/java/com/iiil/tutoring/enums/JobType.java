@@ -0,0 +1,20 @@
+package com.iiil.tutoring.enums;
+
+/**
+ * Session lifecycle job type enumeration
+ */
+public enum JobType {
+    AUTO_START_SWEEP("auto_start_sweep"),
+    MISSED_SESSION_SWEEP("missed_session_sweep"),
+    SESSION_REMINDER("session_reminder");
+
+    private final String value;
+
+    JobType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
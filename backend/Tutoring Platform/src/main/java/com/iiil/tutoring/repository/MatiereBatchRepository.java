@@ -0,0 +1,20 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Matiere;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+/**
+ * Custom repository fragment inserting many matières in one statement
+ */
+public interface MatiereBatchRepository {
+
+    /**
+     * Insert the matières whose name is not taken yet, in a single {@code INSERT ... ON CONFLICT
+     * (nom) DO NOTHING}. Ids, versions and timestamps of the given instances are ignored.
+     *
+     * @return the inserted rows, in no particular order; names already present are skipped
+     */
+    Flux<Matiere> insertIgnoringExisting(Collection<Matiere> matieres);
+}
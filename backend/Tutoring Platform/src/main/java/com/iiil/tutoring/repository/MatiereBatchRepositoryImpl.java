@@ -0,0 +1,58 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Matiere;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+/**
+ * Implementation of {@link MatiereBatchRepository}: the columns are passed as parallel arrays and
+ * unnested, so the statement has four bind parameters whatever the batch size. Relies on the
+ * unique index on {@code matieres.nom}.
+ */
+public class MatiereBatchRepositoryImpl implements MatiereBatchRepository {
+
+    private static final String INSERT_QUERY = """
+        INSERT INTO matieres (nom, description, niveau, domaine)
+        SELECT * FROM unnest(CAST(:noms AS varchar[]), CAST(:descriptions AS text[]),
+                             CAST(:niveaux AS varchar[]), CAST(:domaines AS varchar[]))
+        ON CONFLICT (nom) DO NOTHING
+        RETURNING *
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    public MatiereBatchRepositoryImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Flux<Matiere> insertIgnoringExisting(Collection<Matiere> matieres) {
+        if (matieres.isEmpty()) {
+            return Flux.empty();
+        }
+        String[] noms = new String[matieres.size()];
+        String[] descriptions = new String[matieres.size()];
+        String[] niveaux = new String[matieres.size()];
+        String[] domaines = new String[matieres.size()];
+        int i = 0;
+        for (Matiere matiere : matieres) {
+            noms[i] = matiere.getNom();
+            descriptions[i] = matiere.getDescription();
+            niveaux[i] = matiere.getNiveau();
+            domaines[i] = matiere.getDomaine();
+            i++;
+        }
+        return databaseClient.sql(INSERT_QUERY)
+                .bind("noms", noms)
+                .bind("descriptions", descriptions)
+                .bind("niveaux", niveaux)
+                .bind("domaines", domaines)
+                .map((row, metadata) -> converter.read(Matiere.class, row, metadata))
+                .all();
+    }
+}
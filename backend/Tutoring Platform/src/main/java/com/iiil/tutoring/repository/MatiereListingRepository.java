@@ -0,0 +1,78 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Matiere;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment paginating matières in the database
+ */
+public interface MatiereListingRepository {
+
+    /**
+     * Load one page of matières with the total number of matching rows
+     *
+     * @param domaine   optional domain filter, null for all domains
+     * @param niveau    optional level filter, null for all levels
+     * @param ascending sort direction, ties broken by id in the same direction
+     */
+    Mono<MatierePage> findPage(String domaine, String niveau, SortField sortField, boolean ascending,
+                               long offset, int limit);
+
+    /**
+     * Columns a page can be sorted by
+     */
+    enum SortField {
+        NOM("nom"),
+        DOMAINE("domaine"),
+        NIVEAU("niveau"),
+        DATE("created_at");
+
+        private final String column;
+
+        SortField(String column) {
+            this.column = column;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+
+        /**
+         * Parse a sort parameter (nom, domaine, niveau, date), case-insensitive; null means nom
+         */
+        public static SortField fromParameter(String value) {
+            if (value == null || value.isBlank()) {
+                return NOM;
+            }
+            for (SortField field : values()) {
+                if (field.name().equalsIgnoreCase(value.trim())) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Critère de tri invalide: " + value);
+        }
+    }
+
+    /**
+     * A page of matières and the total number of matching rows
+     */
+    class MatierePage {
+        private final List<Matiere> matieres;
+        private final long totalElements;
+
+        public MatierePage(List<Matiere> matieres, long totalElements) {
+            this.matieres = matieres;
+            this.totalElements = totalElements;
+        }
+
+        public List<Matiere> getMatieres() {
+            return matieres;
+        }
+
+        public long getTotalElements() {
+            return totalElements;
+        }
+    }
+}
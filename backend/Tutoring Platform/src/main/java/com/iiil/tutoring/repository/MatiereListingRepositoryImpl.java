@@ -0,0 +1,79 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Matiere;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link MatiereListingRepository}: the page is cut with {@code LIMIT/OFFSET}
+ * and the total comes from a {@code COUNT(*) OVER ()} window in the same query. Only a page past
+ * the last row, which carries no count, needs a second query.
+ */
+public class MatiereListingRepositoryImpl implements MatiereListingRepository {
+
+    private static final String FILTERS = """
+        WHERE (CAST(:domaine AS varchar) IS NULL OR m.domaine = :domaine)
+          AND (CAST(:niveau AS varchar) IS NULL OR m.niveau = :niveau)
+        """;
+
+    // the ORDER BY placeholder only ever receives a SortField column and a fixed direction
+    private static final String PAGE_QUERY = """
+        SELECT m.*, COUNT(*) OVER () AS total_elements
+        FROM matieres m
+        """ + FILTERS + """
+        ORDER BY %s
+        LIMIT :limit OFFSET :offset
+        """;
+
+    private static final String COUNT_QUERY = "SELECT COUNT(*) FROM matieres m\n" + FILTERS;
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    public MatiereListingRepositoryImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Mono<MatierePage> findPage(String domaine, String niveau, SortField sortField, boolean ascending,
+                                      long offset, int limit) {
+        String direction = ascending ? "ASC" : "DESC";
+        String orderBy = "m." + sortField.getColumn() + " " + direction + " NULLS LAST, m.id " + direction;
+
+        DatabaseClient.GenericExecuteSpec spec = bindFilters(databaseClient.sql(PAGE_QUERY.formatted(orderBy)), domaine, niveau)
+                .bind("limit", limit)
+                .bind("offset", offset);
+
+        return spec.map((row, metadata) -> new PageRow(
+                        converter.read(Matiere.class, row, metadata),
+                        row.get("total_elements", Long.class)))
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    List<Matiere> matieres = rows.stream().map(PageRow::matiere).toList();
+                    if (!rows.isEmpty()) {
+                        return Mono.just(new MatierePage(matieres, rows.get(0).total()));
+                    }
+                    if (offset == 0) {
+                        return Mono.just(new MatierePage(matieres, 0));
+                    }
+                    return bindFilters(databaseClient.sql(COUNT_QUERY), domaine, niveau)
+                            .map(row -> row.get(0, Long.class))
+                            .one()
+                            .map(total -> new MatierePage(matieres, total));
+                });
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindFilters(DatabaseClient.GenericExecuteSpec spec,
+                                                                 String domaine, String niveau) {
+        spec = domaine != null ? spec.bind("domaine", domaine) : spec.bindNull("domaine", String.class);
+        return niveau != null ? spec.bind("niveau", niveau) : spec.bindNull("niveau", String.class);
+    }
+
+    private record PageRow(Matiere matiere, Long total) {
+    }
+}
@@ -9,7 +9,8 @@ import reactor.core.publisher.Mono;
 /**
  * Repository for Matiere entity
  */
-public interface MatiereRepository extends R2dbcRepository<Matiere, Long> {
+public interface MatiereRepository extends R2dbcRepository<Matiere, Long>, MatiereListingRepository,
+        MatiereBatchRepository {
 
     Flux<Matiere> findByNiveau(String niveau);
 
@@ -28,4 +29,22 @@ public interface MatiereRepository extends R2dbcRepository<Matiere, Long> {
 
     @Query("SELECT COUNT(*) FROM matieres WHERE domaine = :domaine")
     Mono<Long> countByDomaine(String domaine);
+
+    /**
+     * All matière ids, most booked first (sessions not cancelled), ties by name
+     */
+    @Query("""
+        SELECT m.id
+        FROM matieres m
+        LEFT JOIN sessions s ON s.matiere_id = m.id AND UPPER(s.statut) <> 'ANNULEE'
+        GROUP BY m.id, m.nom
+        ORDER BY COUNT(s.id) DESC, m.nom, m.id
+        """)
+    Flux<Long> findIdsByPopularity();
+
+    /**
+     * The ids among the given ones that exist, in one query
+     */
+    @Query("SELECT id FROM matieres WHERE id = ANY(:ids)")
+    Flux<Long> findExistingIds(Long[] ids);
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Notification;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Batch write operations for notifications that cannot be expressed with derived queries
+ */
+public interface NotificationBatchRepository {
+
+    /**
+     * Insert all notifications with multi-row INSERT statements and return them with their generated ids
+     */
+    Flux<Notification> insertAll(List<Notification> notifications);
+
+    /**
+     * Number of INSERT statements executed since startup; a large list is split into several statements
+     */
+    long getStatementsExecuted();
+}
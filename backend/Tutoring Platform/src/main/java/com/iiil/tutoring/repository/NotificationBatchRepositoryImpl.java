@@ -0,0 +1,120 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Notification;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Multi-row INSERT implementation of {@link NotificationBatchRepository}
+ */
+public class NotificationBatchRepositoryImpl implements NotificationBatchRepository {
+
+    // Keeps each statement well below the PostgreSQL bind parameter limit (7 params per row)
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String INSERT_PREFIX = """
+        INSERT INTO notifications (user_id, titre, contenu, type, entity_id, action_url, date_creation,
+                                   lue, created_at, updated_at, version)
+        VALUES
+        """;
+
+    private final DatabaseClient databaseClient;
+
+    private final AtomicLong statementsExecuted = new AtomicLong();
+
+    public NotificationBatchRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<Notification> insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return Flux.range(0, (notifications.size() + MAX_ROWS_PER_STATEMENT - 1) / MAX_ROWS_PER_STATEMENT)
+                .concatMap(chunk -> {
+                    int from = chunk * MAX_ROWS_PER_STATEMENT;
+                    int to = Math.min(from + MAX_ROWS_PER_STATEMENT, notifications.size());
+                    return insertChunk(notifications.subList(from, to));
+                });
+    }
+
+    @Override
+    public long getStatementsExecuted() {
+        return statementsExecuted.get();
+    }
+
+    private Flux<Notification> insertChunk(List<Notification> chunk) {
+        LocalDateTime now = LocalDateTime.now();
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append("(:userId").append(i)
+               .append(", :titre").append(i)
+               .append(", :contenu").append(i)
+               .append(", :type").append(i)
+               .append(", :entityId").append(i)
+               .append(", :actionUrl").append(i)
+               .append(", :dateCreation").append(i)
+               .append(", false, :now, :now, 0)");
+        }
+        sql.append("\nRETURNING id, user_id, type, entity_id");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString()).bind("now", now);
+        for (int i = 0; i < chunk.size(); i++) {
+            Notification notification = chunk.get(i);
+            LocalDateTime dateCreation = notification.getDateCreation() != null ? notification.getDateCreation() : now;
+            spec = spec.bind("userId" + i, notification.getUserId())
+                    .bind("titre" + i, notification.getTitre())
+                    .bind("contenu" + i, notification.getContenu())
+                    .bind("type" + i, notification.getType().name())
+                    .bind("dateCreation" + i, dateCreation);
+            spec = bindNullable(spec, "entityId" + i, notification.getEntityId(), Long.class);
+            spec = bindNullable(spec, "actionUrl" + i, notification.getActionUrl(), String.class);
+        }
+
+        // RETURNING order is not guaranteed: generated ids are matched on (user, type, entity);
+        // notifications sharing that key are interchangeable
+        Map<String, Deque<Notification>> byKey = new HashMap<>();
+        for (Notification notification : chunk) {
+            byKey.computeIfAbsent(key(notification.getUserId(), notification.getType().name(), notification.getEntityId()),
+                    k -> new ArrayDeque<>()).add(notification);
+        }
+        return spec.map(row -> {
+                    String key = key(row.get("user_id", Long.class), row.get("type", String.class),
+                            row.get("entity_id", Long.class));
+                    Deque<Notification> candidates = byKey.get(key);
+                    Notification notification = candidates != null ? candidates.poll() : null;
+                    if (notification == null) {
+                        throw new IllegalStateException("Inserted notification does not match any input row: " + key);
+                    }
+                    notification.setId(row.get("id", Long.class));
+                    if (notification.getDateCreation() == null) {
+                        notification.setDateCreation(now);
+                    }
+                    notification.setLue(false);
+                    notification.setCreatedAt(now);
+                    notification.setUpdatedAt(now);
+                    notification.setVersion(0L);
+                    return notification;
+                })
+                .all()
+                .doOnComplete(statementsExecuted::incrementAndGet);
+    }
+
+    private static String key(Long userId, String type, Long entityId) {
+        return userId + ":" + type + ":" + entityId;
+    }
+
+    private <T> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+                                                               String name, T value, Class<T> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+}
@@ -2,6 +2,7 @@ package com.iiil.tutoring.repository;
 
 import com.iiil.tutoring.entity.Notification;
 import com.iiil.tutoring.enums.NotificationType;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
@@ -12,7 +13,7 @@ import java.time.LocalDateTime;
 /**
  * Repository for Notification entity
  */
-public interface NotificationRepository extends R2dbcRepository<Notification, Long> {
+public interface NotificationRepository extends R2dbcRepository<Notification, Long>, NotificationBatchRepository {
 
     Flux<Notification> findByUserId(Long userId);
 
@@ -35,9 +36,58 @@ public interface NotificationRepository extends R2dbcRepository<Notification, Lo
     @Query("SELECT COUNT(*) FROM notifications WHERE user_id = :userId AND lue = false")
     Mono<Long> countUnreadByUserId(Long userId);
 
+    // Notifications announced by another node, restricted to the users connected to this one
+    @Query("SELECT * FROM notifications WHERE id = ANY(:ids) AND user_id = ANY(:userIds) ORDER BY id")
+    Flux<Notification> findByIdsAndUserIds(Long[] ids, Long[] userIds);
+
     @Query("SELECT * FROM notifications WHERE date_creation < :dateLimit AND lue = true")
     Flux<Notification> findOldReadNotifications(LocalDateTime dateLimit);
 
+    @Modifying
     @Query("UPDATE notifications SET lue = true WHERE user_id = :userId AND lue = false")
-    Mono<Void> markAllAsReadByUserId(Long userId);
-}
\ No newline at end of file
+    Mono<Integer> markAllAsReadByUserId(Long userId);
+
+    @Modifying
+    @Query("UPDATE notifications SET lue = true WHERE id = :id AND user_id = :userId AND lue = false")
+    Mono<Integer> markAsRead(Long id, Long userId);
+
+    // ===============================================
+    // RETENTION
+    // ===============================================
+
+    // Move one chunk of old read notifications to the archive; concurrent sweeps skip locked rows
+    @Modifying
+    @Query("""
+        WITH purged AS (
+            DELETE FROM notifications
+            WHERE id IN (
+                SELECT id FROM notifications
+                WHERE lue = true AND date_creation < :dateLimit
+                ORDER BY date_creation ASC
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, user_id, titre, contenu, type, lue, date_creation, entity_id, action_url, created_at
+        )
+        INSERT INTO notifications_archive (id, user_id, titre, contenu, type, lue, date_creation,
+                                           entity_id, action_url, created_at, archived_at)
+        SELECT id, user_id, titre, contenu, type, lue, date_creation, entity_id, action_url, created_at, CURRENT_TIMESTAMP
+        FROM purged
+        ON CONFLICT (id) DO NOTHING
+        """)
+    Mono<Integer> archiveReadNotificationsBefore(LocalDateTime dateLimit, int limit);
+
+    // Drop one chunk of archived notifications past the archive retention
+    @Modifying
+    @Query("""
+        DELETE FROM notifications_archive
+        WHERE id IN (
+            SELECT id FROM notifications_archive
+            WHERE date_creation < :dateLimit
+            ORDER BY date_creation ASC
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        """)
+    Mono<Integer> purgeArchivedNotificationsBefore(LocalDateTime dateLimit, int limit);
+}
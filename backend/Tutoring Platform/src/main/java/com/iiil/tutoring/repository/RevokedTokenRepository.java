@@ -0,0 +1,28 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.RevokedToken;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository for revoked refresh token ids
+ */
+public interface RevokedTokenRepository extends R2dbcRepository<RevokedToken, String> {
+
+    // Returns 0 when the jti was already revoked: the insert doubles as an atomic "use once" check
+    @Modifying
+    @Query("""
+        INSERT INTO revoked_tokens (jti, user_id, expires_at, revoked_at)
+        VALUES (:jti, :userId, :expiresAt, CURRENT_TIMESTAMP)
+        ON CONFLICT (jti) DO NOTHING
+        """)
+    Mono<Integer> revoke(String jti, Long userId, LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM revoked_tokens WHERE expires_at <= :now")
+    Mono<Integer> purgeExpired(LocalDateTime now);
+}
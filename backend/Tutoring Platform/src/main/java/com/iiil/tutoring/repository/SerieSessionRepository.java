@@ -0,0 +1,15 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.SerieSession;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Repository for SerieSession entity
+ */
+public interface SerieSessionRepository extends R2dbcRepository<SerieSession, Long> {
+
+    Flux<SerieSession> findByTuteurId(Long tuteurId);
+
+    Flux<SerieSession> findByEtudiantId(Long etudiantId);
+}
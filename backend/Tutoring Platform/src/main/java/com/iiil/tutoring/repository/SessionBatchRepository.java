@@ -0,0 +1,17 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Session;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Batch write operations for sessions that cannot be expressed with derived queries
+ */
+public interface SessionBatchRepository {
+
+    /**
+     * Insert all sessions with multi-row INSERT statements and return them with their generated ids
+     */
+    Flux<Session> insertAll(List<Session> sessions);
+}
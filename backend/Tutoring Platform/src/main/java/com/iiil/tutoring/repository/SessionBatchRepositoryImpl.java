@@ -0,0 +1,120 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Session;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Multi-row INSERT implementation of {@link SessionBatchRepository}
+ */
+public class SessionBatchRepositoryImpl implements SessionBatchRepository {
+
+    // Keeps each statement well below the PostgreSQL bind parameter limit (13 params per row)
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX = """
+        INSERT INTO sessions (tuteur_id, etudiant_id, matiere_id, demande_session_id, serie_id,
+                              date_heure, duree, statut, prix, type_session,
+                              lien_visio, notes, salle, created_at, updated_at, version)
+        VALUES
+        """;
+
+    private final DatabaseClient databaseClient;
+
+    public SessionBatchRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<Session> insertAll(List<Session> sessions) {
+        if (sessions.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return Flux.range(0, (sessions.size() + MAX_ROWS_PER_STATEMENT - 1) / MAX_ROWS_PER_STATEMENT)
+                .concatMap(chunk -> {
+                    int from = chunk * MAX_ROWS_PER_STATEMENT;
+                    int to = Math.min(from + MAX_ROWS_PER_STATEMENT, sessions.size());
+                    return insertChunk(sessions.subList(from, to));
+                });
+    }
+
+    private Flux<Session> insertChunk(List<Session> chunk) {
+        LocalDateTime now = LocalDateTime.now();
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append("(:tuteurId").append(i)
+               .append(", :etudiantId").append(i)
+               .append(", :matiereId").append(i)
+               .append(", :demandeSessionId").append(i)
+               .append(", :serieId").append(i)
+               .append(", :dateHeure").append(i)
+               .append(", :duree").append(i)
+               .append(", :statut").append(i)
+               .append(", :prix").append(i)
+               .append(", :typeSession").append(i)
+               .append(", :lienVisio").append(i)
+               .append(", :notes").append(i)
+               .append(", :salle").append(i)
+               .append(", :now, :now, 0)");
+        }
+        sql.append("\nRETURNING id, tuteur_id, etudiant_id, date_heure");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString()).bind("now", now);
+        for (int i = 0; i < chunk.size(); i++) {
+            Session session = chunk.get(i);
+            spec = spec.bind("tuteurId" + i, session.getTuteurId())
+                    .bind("etudiantId" + i, session.getEtudiantId())
+                    .bind("matiereId" + i, session.getMatiereId())
+                    .bind("dateHeure" + i, session.getDateHeure())
+                    .bind("duree" + i, session.getDuree())
+                    .bind("statut" + i, session.getStatut().getValue())
+                    .bind("prix" + i, session.getPrix())
+                    .bind("typeSession" + i, session.getTypeSession().getValue());
+            spec = bindNullable(spec, "demandeSessionId" + i, session.getDemandeSessionId(), Long.class);
+            spec = bindNullable(spec, "serieId" + i, session.getSerieId(), Long.class);
+            spec = bindNullable(spec, "lienVisio" + i, session.getLienVisio(), String.class);
+            spec = bindNullable(spec, "notes" + i, session.getNotes(), String.class);
+            spec = bindNullable(spec, "salle" + i, session.getSalle(), String.class);
+        }
+
+        // RETURNING order is not guaranteed: generated ids are matched on (tutor, student, start)
+        Map<String, Deque<Session>> byKey = new HashMap<>();
+        for (Session session : chunk) {
+            byKey.computeIfAbsent(key(session.getTuteurId(), session.getEtudiantId(), session.getDateHeure()),
+                    k -> new ArrayDeque<>()).add(session);
+        }
+        return spec.map(row -> {
+                    String key = key(row.get("tuteur_id", Long.class), row.get("etudiant_id", Long.class),
+                            row.get("date_heure", LocalDateTime.class));
+                    Deque<Session> candidates = byKey.get(key);
+                    Session session = candidates != null ? candidates.poll() : null;
+                    if (session == null) {
+                        throw new IllegalStateException("Inserted session does not match any input row: " + key);
+                    }
+                    session.setId(row.get("id", Long.class));
+                    session.setCreatedAt(now);
+                    session.setUpdatedAt(now);
+                    session.setVersion(0L);
+                    return session;
+                })
+                .all();
+    }
+
+    // timestamp columns keep microseconds
+    private static String key(Long tuteurId, Long etudiantId, LocalDateTime dateHeure) {
+        return tuteurId + ":" + etudiantId + ":" + dateHeure.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private <T> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+                                                               String name, T value, Class<T> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+}
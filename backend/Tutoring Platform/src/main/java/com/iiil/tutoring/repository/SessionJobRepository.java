@@ -0,0 +1,89 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.SessionJob;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository for SessionJob entity (durable job queue)
+ */
+public interface SessionJobRepository extends R2dbcRepository<SessionJob, Long> {
+
+    // Idempotent enqueue: a second job with the same key is silently ignored
+    @Modifying
+    @Query("""
+        INSERT INTO session_jobs (type, session_id, date_reference, parametre, idempotency_key,
+                                  statut, tentatives, max_tentatives, execute_apres, created_at, updated_at)
+        VALUES (:type, :sessionId, :dateReference, :parametre, :idempotencyKey,
+                'EN_ATTENTE', 0, :maxTentatives, :executeApres, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+        ON CONFLICT (idempotency_key) DO NOTHING
+        """)
+    Mono<Integer> enqueue(String type, Long sessionId, LocalDateTime dateReference, Integer parametre,
+                          String idempotencyKey, int maxTentatives, LocalDateTime executeApres);
+
+    // Atomically lease due jobs (and jobs whose lease expired with attempts left); concurrent workers skip locked rows
+    @Query("""
+        UPDATE session_jobs
+        SET statut = 'EN_COURS',
+            tentatives = tentatives + 1,
+            verrouille_par = :workerId,
+            verrouille_jusqua = :leaseUntil
+        WHERE id IN (
+            SELECT id FROM session_jobs
+            WHERE (statut = 'EN_ATTENTE' AND execute_apres <= :now)
+               OR (statut = 'EN_COURS' AND verrouille_jusqua < :now AND tentatives < max_tentatives)
+            ORDER BY execute_apres ASC
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING *
+        """)
+    Flux<SessionJob> claimDueJobs(String workerId, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    @Modifying
+    @Query("""
+        UPDATE session_jobs
+        SET statut = 'TERMINE', verrouille_par = NULL, verrouille_jusqua = NULL, derniere_erreur = NULL
+        WHERE id = :id AND verrouille_par = :workerId
+        """)
+    Mono<Integer> markCompleted(Long id, String workerId);
+
+    @Modifying
+    @Query("""
+        UPDATE session_jobs
+        SET statut = CASE WHEN tentatives >= max_tentatives THEN 'ECHOUE' ELSE 'EN_ATTENTE' END,
+            execute_apres = :retryAt,
+            verrouille_par = NULL,
+            verrouille_jusqua = NULL,
+            derniere_erreur = :erreur
+        WHERE id = :id AND verrouille_par = :workerId
+        """)
+    Mono<Integer> markFailed(Long id, String workerId, LocalDateTime retryAt, String erreur);
+
+    // A job whose last attempt never reported back (worker killed or hung) is not leased again
+    @Modifying
+    @Query("""
+        UPDATE session_jobs
+        SET statut = 'ECHOUE',
+            verrouille_par = NULL,
+            verrouille_jusqua = NULL,
+            derniere_erreur = 'Lease expired on the last attempt'
+        WHERE statut = 'EN_COURS' AND verrouille_jusqua < :now AND tentatives >= max_tentatives
+        """)
+    Mono<Integer> failExhaustedExpiredLeases(LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM session_jobs WHERE statut = 'TERMINE' AND updated_at < :dateLimit")
+    Mono<Integer> purgeCompletedBefore(LocalDateTime dateLimit);
+
+    @Query("SELECT COUNT(*) FROM session_jobs WHERE statut = 'EN_ATTENTE' AND execute_apres <= :now")
+    Mono<Long> countDueJobs(LocalDateTime now);
+
+    @Query("SELECT COUNT(*) FROM session_jobs WHERE statut = 'ECHOUE'")
+    Mono<Long> countFailedJobs();
+}
@@ -4,6 +4,7 @@ import com.iiil.tutoring.entity.Session;
 import com.iiil.tutoring.enums.SessionStatus;
 import com.iiil.tutoring.enums.SessionType;
 import com.iiil.tutoring.repository.result.SessionDetailsResult;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
@@ -14,7 +15,7 @@ import java.time.LocalDateTime;
 /**
  * Repository for Session entity
  */
-public interface SessionRepository extends R2dbcRepository<Session, Long> {
+public interface SessionRepository extends R2dbcRepository<Session, Long>, SessionBatchRepository {
 
     Flux<Session> findByTuteurId(Long tuteurId);
 
@@ -48,12 +49,26 @@ public interface SessionRepository extends R2dbcRepository<Session, Long> {
     @Query("SELECT COUNT(*) FROM sessions WHERE etudiant_id = :etudiantId AND statut = 'TERMINEE'")
     Mono<Long> countCompletedSessionsByEtudiant(Long etudiantId);
 
+    @Query("""
+        SELECT m.nom
+        FROM sessions s
+        JOIN matieres m ON m.id = s.matiere_id
+        WHERE s.etudiant_id = :etudiantId AND s.statut = 'terminee'
+        GROUP BY m.id, m.nom
+        ORDER BY COUNT(*) DESC, m.nom
+        LIMIT :limit
+        """)
+    Flux<String> findMostStudiedMatiereNames(Long etudiantId, int limit);
+
     @Query("SELECT SUM(prix) FROM sessions WHERE tuteur_id = :tuteurId AND statut = 'TERMINEE'")
     Mono<Double> getTotalEarningsByTuteur(Long tuteurId);
 
     @Query("SELECT * FROM sessions WHERE statut = 'CONFIRMEE' AND date_heure < :now")
     Flux<Session> findExpiredConfirmedSessions(LocalDateTime now);
 
+    @Query("SELECT * FROM sessions WHERE statut = 'confirmee' AND date_heure > :now ORDER BY date_heure ASC")
+    Flux<Session> findUpcomingConfirmedSessions(LocalDateTime now);
+
     // For scheduling service - conflict detection
     @Query("SELECT * FROM sessions WHERE tuteur_id = :tuteurId AND " +
            "((date_heure BETWEEN :startTime AND :endTime) OR " +
@@ -67,6 +82,75 @@ public interface SessionRepository extends R2dbcRepository<Session, Long> {
            "(date_heure <= :startTime AND date_heure + INTERVAL duree MINUTE >= :endTime))")
     Flux<Session> findByEtudiantIdAndDateRange(Long etudiantId, LocalDateTime startTime, LocalDateTime endTime);
 
+    // ===============================================
+    // RECURRING SERIES
+    // ===============================================
+
+    // Active bookings of either participant overlapping a window, used as the conflict index for a whole series
+    @Query("""
+        SELECT * FROM sessions
+        WHERE (tuteur_id = :tuteurId OR etudiant_id = :etudiantId)
+        AND statut IN ('demandee', 'confirmee', 'en_cours')
+        AND date_heure < :fin
+        AND date_heure + make_interval(mins => duree) > :debut
+        ORDER BY date_heure ASC
+        """)
+    Flux<Session> findActiveForParticipantsBetween(Long tuteurId, Long etudiantId, LocalDateTime debut, LocalDateTime fin);
+
+    @Query("SELECT * FROM sessions WHERE serie_id = :serieId ORDER BY date_heure ASC")
+    Flux<Session> findBySerieId(Long serieId);
+
+    @Query("""
+        UPDATE sessions
+        SET date_heure = date_heure + make_interval(mins => :minutes),
+            notes = COALESCE(notes, '') || :note,
+            version = version + 1
+        WHERE serie_id = :serieId
+        AND statut IN ('demandee', 'confirmee')
+        AND date_heure > :apres
+        RETURNING *
+        """)
+    Flux<Session> shiftSeriesOccurrences(Long serieId, LocalDateTime apres, int minutes, String note);
+
+    @Modifying
+    @Query("""
+        UPDATE sessions
+        SET statut = 'annulee',
+            notes = COALESCE(notes, '') || :note,
+            version = version + 1
+        WHERE serie_id = :serieId
+        AND statut IN ('demandee', 'confirmee')
+        AND date_heure > :apres
+        """)
+    Mono<Integer> cancelSeriesOccurrences(Long serieId, LocalDateTime apres, String note);
+
+    // ===============================================
+    // SET-BASED STATUS TRANSITIONS
+    // ===============================================
+
+    // Flip every confirmed session due in the window to EN_COURS in one statement
+    @Query("""
+        UPDATE sessions
+        SET statut = 'en_cours',
+            version = version + 1
+        WHERE statut = 'confirmee'
+        AND date_heure BETWEEN :debut AND :fin
+        RETURNING *
+        """)
+    Flux<Session> startDueSessions(LocalDateTime debut, LocalDateTime fin);
+
+    // Cancel every confirmed session in the window that was never started
+    @Query("""
+        UPDATE sessions
+        SET statut = 'annulee',
+            notes = CONCAT_WS(E'\\n\\n', NULLIF(notes, ''), :note),
+            version = version + 1
+        WHERE statut = 'confirmee'
+        AND date_heure BETWEEN :debut AND :fin
+        RETURNING *
+        """)
+    Flux<Session> cancelMissedSessions(LocalDateTime debut, LocalDateTime fin, String note);
+
     // ===============================================
     // ENHANCED QUERIES WITH JOIN - SESSIONS
     // ===============================================
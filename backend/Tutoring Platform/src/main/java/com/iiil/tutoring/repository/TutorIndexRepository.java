@@ -0,0 +1,70 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Tutor;
+import com.iiil.tutoring.enums.UserStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment loading tutors with everything the search index needs
+ */
+public interface TutorIndexRepository {
+
+    /**
+     * Load every tutor with its user name, status and specialties, in a single query
+     */
+    Flux<TutorIndexRow> findAllIndexRows();
+
+    /**
+     * Load one tutor with its user name, status and specialties
+     */
+    Mono<TutorIndexRow> findIndexRow(Long tutorId);
+
+    /**
+     * A tutor row with the user and specialty columns aggregated alongside it
+     */
+    class TutorIndexRow {
+        private final Tutor tutor;
+        private final String nom;
+        private final String prenom;
+        private final UserStatus statut;
+        private final List<Long> matiereIds;
+        private final List<String> matiereNoms;
+
+        public TutorIndexRow(Tutor tutor, String nom, String prenom, UserStatus statut,
+                             List<Long> matiereIds, List<String> matiereNoms) {
+            this.tutor = tutor;
+            this.nom = nom;
+            this.prenom = prenom;
+            this.statut = statut;
+            this.matiereIds = matiereIds;
+            this.matiereNoms = matiereNoms;
+        }
+
+        public Tutor getTutor() {
+            return tutor;
+        }
+
+        public String getNom() {
+            return nom;
+        }
+
+        public String getPrenom() {
+            return prenom;
+        }
+
+        public UserStatus getStatut() {
+            return statut;
+        }
+
+        public List<Long> getMatiereIds() {
+            return matiereIds;
+        }
+
+        public List<String> getMatiereNoms() {
+            return matiereNoms;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Tutor;
+import com.iiil.tutoring.enums.UserStatus;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Single-query implementation of {@link TutorIndexRepository}: tutors, users and specialties
+ * are joined and the specialty ids and names are collected with {@code array_agg}
+ */
+public class TutorIndexRepositoryImpl implements TutorIndexRepository {
+
+    private static final String SELECT_INDEX_ROWS = """
+        SELECT t.*,
+               u.nom AS user_nom,
+               u.prenom AS user_prenom,
+               u.statut AS user_statut,
+               COALESCE(array_agg(m.id ORDER BY m.nom) FILTER (WHERE m.id IS NOT NULL), '{}') AS matiere_ids,
+               COALESCE(array_agg(m.nom ORDER BY m.nom) FILTER (WHERE m.id IS NOT NULL), '{}') AS matiere_noms
+        FROM tutors t
+        JOIN users u ON u.id = t.id
+        LEFT JOIN tutor_specialites ts ON ts.tutor_id = t.id
+        LEFT JOIN matieres m ON m.id = ts.matiere_id
+        """;
+
+    private static final String ALL_QUERY = SELECT_INDEX_ROWS + "GROUP BY t.id, u.id";
+
+    private static final String BY_ID_QUERY = SELECT_INDEX_ROWS + "WHERE t.id = :tutorId GROUP BY t.id, u.id";
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    public TutorIndexRepositoryImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Flux<TutorIndexRow> findAllIndexRows() {
+        return databaseClient.sql(ALL_QUERY)
+                .map(this::toIndexRow)
+                .all();
+    }
+
+    @Override
+    public Mono<TutorIndexRow> findIndexRow(Long tutorId) {
+        return databaseClient.sql(BY_ID_QUERY)
+                .bind("tutorId", tutorId)
+                .map(this::toIndexRow)
+                .one();
+    }
+
+    private TutorIndexRow toIndexRow(Row row, RowMetadata metadata) {
+        Tutor tutor = converter.read(Tutor.class, row, metadata);
+        String statut = row.get("user_statut", String.class);
+        Long[] matiereIds = row.get("matiere_ids", Long[].class);
+        String[] matiereNoms = row.get("matiere_noms", String[].class);
+        return new TutorIndexRow(
+                tutor,
+                row.get("user_nom", String.class),
+                row.get("user_prenom", String.class),
+                statut != null ? UserStatus.valueOf(statut) : null,
+                matiereIds != null ? Arrays.asList(matiereIds) : List.of(),
+                matiereNoms != null ? Arrays.asList(matiereNoms) : List.of());
+    }
+}
@@ -0,0 +1,243 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Tutor;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Custom repository fragment listing active tutors a page at a time (keyset pagination), with
+ * the user name and the specialty names joined in the same query
+ */
+public interface TutorListingRepository {
+
+    /**
+     * Load one page of active tutors matching the query, after its cursor
+     */
+    Flux<TutorSummaryRow> findSummaryPage(TutorListingQuery query, int limit);
+
+    /**
+     * Sort orders of the listings; each one is a total order ending with the tutor id
+     */
+    enum ListingOrder {
+        /** created_at DESC, id DESC */
+        RECENT,
+        /** note_moyenne DESC, nombre_evaluations DESC, id DESC */
+        RATING,
+        /** tarif_horaire ASC, id ASC */
+        PRICE
+    }
+
+    /**
+     * Filters, order and position of a listing page. Only the filters that are set end up in
+     * the SQL.
+     */
+    class TutorListingQuery {
+        private final ListingOrder order;
+        private ListingCursor after;
+        private boolean availableOnly;
+        private boolean verifiedOnly;
+        private String ville;
+        private Long matiereId;
+        private BigDecimal minTarif;
+        private BigDecimal maxTarif;
+        private Integer minEvaluations;
+
+        public TutorListingQuery(ListingOrder order) {
+            this.order = order;
+        }
+
+        public TutorListingQuery after(ListingCursor after) {
+            this.after = after;
+            return this;
+        }
+
+        public TutorListingQuery availableOnly() {
+            this.availableOnly = true;
+            return this;
+        }
+
+        public TutorListingQuery verifiedOnly() {
+            this.verifiedOnly = true;
+            return this;
+        }
+
+        public TutorListingQuery ville(String ville) {
+            this.ville = ville;
+            return this;
+        }
+
+        public TutorListingQuery matiereId(Long matiereId) {
+            this.matiereId = matiereId;
+            return this;
+        }
+
+        public TutorListingQuery tarifBetween(BigDecimal minTarif, BigDecimal maxTarif) {
+            this.minTarif = minTarif;
+            this.maxTarif = maxTarif;
+            return this;
+        }
+
+        public TutorListingQuery minEvaluations(Integer minEvaluations) {
+            this.minEvaluations = minEvaluations;
+            return this;
+        }
+
+        public ListingOrder getOrder() {
+            return order;
+        }
+
+        public ListingCursor getAfter() {
+            return after;
+        }
+
+        public boolean isAvailableOnly() {
+            return availableOnly;
+        }
+
+        public boolean isVerifiedOnly() {
+            return verifiedOnly;
+        }
+
+        public String getVille() {
+            return ville;
+        }
+
+        public Long getMatiereId() {
+            return matiereId;
+        }
+
+        public BigDecimal getMinTarif() {
+            return minTarif;
+        }
+
+        public BigDecimal getMaxTarif() {
+            return maxTarif;
+        }
+
+        public Integer getMinEvaluations() {
+            return minEvaluations;
+        }
+    }
+
+    /**
+     * Position of the last tutor of a page in a listing order, exchanged with clients as an
+     * opaque token
+     */
+    class ListingCursor {
+        private final ListingOrder order;
+        private final Long id;
+        private final BigDecimal note;
+        private final Integer evaluations;
+        private final BigDecimal tarif;
+        private final LocalDateTime createdAt;
+
+        private ListingCursor(ListingOrder order, Long id, BigDecimal note, Integer evaluations,
+                              BigDecimal tarif, LocalDateTime createdAt) {
+            this.order = order;
+            this.id = id;
+            this.note = note;
+            this.evaluations = evaluations;
+            this.tarif = tarif;
+            this.createdAt = createdAt;
+        }
+
+        /**
+         * Cursor positioned on a tutor
+         */
+        public static ListingCursor of(ListingOrder order, Tutor tutor) {
+            return new ListingCursor(order, tutor.getId(),
+                    tutor.getNoteMoyenne() != null ? tutor.getNoteMoyenne() : BigDecimal.ZERO,
+                    tutor.getNombreEvaluations() != null ? tutor.getNombreEvaluations() : 0,
+                    tutor.getTarifHoraire(), tutor.getCreatedAt());
+        }
+
+        /**
+         * Decode a token produced by {@link #encode()} for the same order
+         *
+         * @throws IllegalArgumentException if the token is malformed or belongs to another order
+         */
+        public static ListingCursor decode(String token, ListingOrder order) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+                if (!parts[0].equals(order.name())) {
+                    throw new IllegalArgumentException("Curseur de pagination invalide");
+                }
+                Long id = Long.valueOf(parts[1]);
+                return switch (order) {
+                    case RATING -> new ListingCursor(order, id, new BigDecimal(parts[2]), Integer.valueOf(parts[3]), null, null);
+                    case PRICE -> new ListingCursor(order, id, null, null, new BigDecimal(parts[2]), null);
+                    case RECENT -> new ListingCursor(order, id, null, null, null, LocalDateTime.parse(parts[2]));
+                };
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Curseur de pagination invalide", e);
+            }
+        }
+
+        public String encode() {
+            String values = switch (order) {
+                case RATING -> note.toPlainString() + "|" + evaluations;
+                case PRICE -> tarif.toPlainString();
+                case RECENT -> createdAt.toString();
+            };
+            String raw = order.name() + "|" + id + "|" + values;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public BigDecimal getNote() {
+            return note;
+        }
+
+        public Integer getEvaluations() {
+            return evaluations;
+        }
+
+        public BigDecimal getTarif() {
+            return tarif;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+
+    /**
+     * A tutor row with its user name and comma-separated specialty names
+     */
+    class TutorSummaryRow {
+        private final Tutor tutor;
+        private final String nom;
+        private final String prenom;
+        private final String specialites;
+
+        public TutorSummaryRow(Tutor tutor, String nom, String prenom, String specialites) {
+            this.tutor = tutor;
+            this.nom = nom;
+            this.prenom = prenom;
+            this.specialites = specialites;
+        }
+
+        public Tutor getTutor() {
+            return tutor;
+        }
+
+        public String getNom() {
+            return nom;
+        }
+
+        public String getPrenom() {
+            return prenom;
+        }
+
+        public String getSpecialites() {
+            return specialites;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Tutor;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Implementation of {@link TutorListingRepository}: the page of tutors is selected first with a
+ * row-value keyset predicate (no OFFSET), then the specialty names of those tutors only are
+ * aggregated with {@code string_agg}. A page is a single round trip.
+ */
+public class TutorListingRepositoryImpl implements TutorListingRepository {
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    public TutorListingRepositoryImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Flux<TutorSummaryRow> findSummaryPage(TutorListingQuery query, int limit) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        StringBuilder page = new StringBuilder("""
+            SELECT t.*, u.nom AS user_nom, u.prenom AS user_prenom
+            FROM tutors t
+            JOIN users u ON u.id = t.id
+            WHERE u.statut = 'ACTIVE'""");
+
+        if (query.isAvailableOnly()) {
+            page.append(" AND t.disponible = true AND (t.cours_en_ligne = true OR t.cours_presentiel = true)");
+        }
+        if (query.isVerifiedOnly()) {
+            page.append(" AND t.verifie = true");
+        }
+        if (query.getVille() != null) {
+            page.append(" AND LOWER(t.ville) = LOWER(:ville)");
+            bindings.put("ville", query.getVille());
+        }
+        if (query.getMatiereId() != null) {
+            page.append(" AND EXISTS (SELECT 1 FROM tutor_specialites ts WHERE ts.tutor_id = t.id AND ts.matiere_id = :matiereId)");
+            bindings.put("matiereId", query.getMatiereId());
+        }
+        if (query.getMinTarif() != null) {
+            page.append(" AND t.tarif_horaire >= :minTarif");
+            bindings.put("minTarif", query.getMinTarif());
+        }
+        if (query.getMaxTarif() != null) {
+            page.append(" AND t.tarif_horaire <= :maxTarif");
+            bindings.put("maxTarif", query.getMaxTarif());
+        }
+        if (query.getMinEvaluations() != null) {
+            page.append(" AND t.nombre_evaluations >= :minEvaluations");
+            bindings.put("minEvaluations", query.getMinEvaluations());
+        }
+
+        ListingCursor after = query.getAfter();
+        String orderBy = switch (query.getOrder()) {
+            case RATING -> {
+                if (after != null) {
+                    page.append(" AND (t.note_moyenne, t.nombre_evaluations, t.id) < (:afterNote, :afterEvaluations, :afterId)");
+                    bindings.put("afterNote", after.getNote());
+                    bindings.put("afterEvaluations", after.getEvaluations());
+                }
+                yield "note_moyenne DESC, nombre_evaluations DESC, id DESC";
+            }
+            case PRICE -> {
+                if (after != null) {
+                    page.append(" AND (t.tarif_horaire, t.id) > (:afterTarif, :afterId)");
+                    bindings.put("afterTarif", after.getTarif());
+                }
+                yield "tarif_horaire ASC, id ASC";
+            }
+            case RECENT -> {
+                if (after != null) {
+                    page.append(" AND (t.created_at, t.id) < (:afterCreatedAt, :afterId)");
+                    bindings.put("afterCreatedAt", after.getCreatedAt());
+                }
+                yield "created_at DESC, id DESC";
+            }
+        };
+        if (after != null) {
+            bindings.put("afterId", after.getId());
+        }
+        page.append(" ORDER BY ").append(qualify(orderBy)).append(" LIMIT :limit");
+        bindings.put("limit", limit);
+
+        String sql = "WITH page AS (" + page + ") "
+                + "SELECT page.*, "
+                + "(SELECT string_agg(m.nom, ', ' ORDER BY m.nom) FROM tutor_specialites ts "
+                + "JOIN matieres m ON m.id = ts.matiere_id WHERE ts.tutor_id = page.id) AS specialite_noms "
+                + "FROM page ORDER BY " + orderBy;
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec.map((row, metadata) -> new TutorSummaryRow(
+                        converter.read(Tutor.class, row, metadata),
+                        row.get("user_nom", String.class),
+                        row.get("user_prenom", String.class),
+                        row.get("specialite_noms", String.class)))
+                .all();
+    }
+
+    // "a DESC, b DESC" -> "t.a DESC, t.b DESC" for the inner query
+    private static String qualify(String orderBy) {
+        return "t." + orderBy.replace(", ", ", t.");
+    }
+}
@@ -16,7 +16,8 @@ import java.math.BigDecimal;
  * Provides reactive database access for tutor management
  */
 @Repository
-public interface TutorRepository extends R2dbcRepository<Tutor, Long> {
+public interface TutorRepository extends R2dbcRepository<Tutor, Long>, TutorIndexRepository, TutorTextSearchRepository,
+        TutorListingRepository {
 
     // === BASIC QUERIES ===
     // Note: Email and status queries are now in UserRepository since Tutor references User
@@ -58,16 +59,6 @@ public interface TutorRepository extends R2dbcRepository<Tutor, Long> {
            "ORDER BY t.note_moyenne DESC")
     Flux<Tutor> findByMatiereId(Long matiereId);
 
-    /**
-     * Search tutors by keywords (name, description)
-     */
-    @Query("SELECT DISTINCT t.* FROM tutors t JOIN users u ON t.id = u.id WHERE u.statut = 'ACTIVE' AND (" +
-           "LOWER(u.nom) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(u.prenom) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%'))" +
-           ") ORDER BY t.note_moyenne DESC")
-    Flux<Tutor> searchByKeyword(String keyword);
-
     /**
      * Find tutors by hourly rate range
      */
@@ -111,6 +102,34 @@ public interface TutorRepository extends R2dbcRepository<Tutor, Long> {
     Flux<Tutor> findWithFilters(Long matiereId, String ville, BigDecimal minTarif, BigDecimal maxTarif, 
                                BigDecimal minRating, Boolean verifiedOnly, Boolean onlineOnly, Boolean inPersonOnly);
 
+    /**
+     * Advanced search restricted to the tutors located in a latitude/longitude box (uses the
+     * coordinates index); the caller measures the exact distances
+     */
+    @Query("SELECT DISTINCT t.* FROM tutors t " +
+           "JOIN users u ON t.id = u.id " +
+           "LEFT JOIN tutor_specialites ts ON t.id = ts.tutor_id " +
+           "WHERE u.statut = 'ACTIVE' " +
+           "AND t.latitude BETWEEN :minLat AND :maxLat " +
+           "AND t.longitude BETWEEN :minLon AND :maxLon " +
+           "AND (:matiereId IS NULL OR ts.matiere_id = :matiereId) " +
+           "AND (:ville IS NULL OR LOWER(t.ville) = LOWER(:ville)) " +
+           "AND (:minTarif IS NULL OR t.tarif_horaire >= :minTarif) " +
+           "AND (:maxTarif IS NULL OR t.tarif_horaire <= :maxTarif) " +
+           "AND (:minRating IS NULL OR t.note_moyenne >= :minRating) " +
+           "AND (:verifiedOnly = false OR t.verifie = true) " +
+           "AND (:onlineOnly = false OR t.cours_en_ligne = true) " +
+           "AND (:inPersonOnly = false OR t.cours_presentiel = true)")
+    Flux<Tutor> findWithFiltersInBox(Double minLat, Double maxLat, Double minLon, Double maxLon,
+                                     Long matiereId, String ville, BigDecimal minTarif, BigDecimal maxTarif,
+                                     BigDecimal minRating, Boolean verifiedOnly, Boolean onlineOnly, Boolean inPersonOnly);
+
+    /**
+     * The ids among the given ones that are tutors, in one query
+     */
+    @Query("SELECT id FROM tutors WHERE id = ANY(:ids)")
+    Flux<Long> findExistingIds(Long[] ids);
+
     // === STATISTICS AND ANALYTICS ===
 
     /**
@@ -146,11 +165,27 @@ public interface TutorRepository extends R2dbcRepository<Tutor, Long> {
     // === PROFILE MANAGEMENT ===
 
     /**
-     * Update tutor rating
+     * Atomically add a delta to the rating sum and count of a tutor and recompute the average and
+     * the ranking score (Bayesian average: priorWeight virtual ratings of priorMean). The row lock
+     * of the UPDATE serializes concurrent evaluations, so no increment is lost.
+     * Use (note, 1) for a new rating, (-note, -1) to remove one, (newNote - oldNote, 0) to change one.
      */
     @Modifying
-    @Query("UPDATE tutors SET note_moyenne = :noteMoyenne, nombre_evaluations = :nombreEvaluations, updated_at = CURRENT_TIMESTAMP WHERE id = :id")
-    Mono<Integer> updateRating(Long id, BigDecimal noteMoyenne, Integer nombreEvaluations);
+    @Query("""
+        UPDATE tutors
+        SET somme_notes = somme_notes + :sumDelta,
+            nombre_evaluations = nombre_evaluations + :countDelta,
+            note_moyenne = CASE WHEN nombre_evaluations + :countDelta > 0
+                                THEN ROUND((somme_notes + :sumDelta) / (nombre_evaluations + :countDelta), 2)
+                                ELSE 0 END,
+            score_classement = CASE WHEN nombre_evaluations + :countDelta > 0
+                                    THEN (:priorWeight * :priorMean + somme_notes + :sumDelta) / (:priorWeight + nombre_evaluations + :countDelta)
+                                    ELSE 0 END,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE id = :id
+          AND nombre_evaluations + :countDelta >= 0
+        """)
+    Mono<Integer> applyRatingDelta(Long id, BigDecimal sumDelta, Integer countDelta, Double priorMean, Double priorWeight);
 
     /**
      * Update verification status
@@ -0,0 +1,52 @@
+package com.iiil.tutoring.repository;
+
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Custom repository fragment replacing the specialties of many tutors in one statement
+ */
+public interface TutorSpecialiteBatchRepository {
+
+    /**
+     * Make the specialties of each tutor exactly the given matières: missing rows are inserted
+     * and extra rows deleted, existing rows are left untouched. A tutor mapped to an empty
+     * collection loses all its specialties.
+     *
+     * @return the number of inserted and deleted rows of each tutor
+     */
+    Flux<SpecialiteChanges> replaceSpecialites(Map<Long, ? extends Collection<Long>> matiereIdsByTutor);
+
+    /**
+     * Rows inserted and deleted for one tutor
+     */
+    class SpecialiteChanges {
+        private final Long tutorId;
+        private final long inserted;
+        private final long deleted;
+
+        public SpecialiteChanges(Long tutorId, long inserted, long deleted) {
+            this.tutorId = tutorId;
+            this.inserted = inserted;
+            this.deleted = deleted;
+        }
+
+        public Long getTutorId() {
+            return tutorId;
+        }
+
+        public long getInserted() {
+            return inserted;
+        }
+
+        public long getDeleted() {
+            return deleted;
+        }
+
+        public boolean isChanged() {
+            return inserted > 0 || deleted > 0;
+        }
+    }
+}
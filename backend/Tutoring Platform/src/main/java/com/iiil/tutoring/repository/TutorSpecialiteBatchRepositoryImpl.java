@@ -0,0 +1,76 @@
+package com.iiil.tutoring.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link TutorSpecialiteBatchRepository}: the wanted (tutor, matière) pairs are
+ * passed as two parallel arrays and unnested, then a single statement deletes the rows that are
+ * no longer wanted and inserts the new ones with a multi-row {@code INSERT ... ON CONFLICT DO
+ * NOTHING}. Both data-modifying CTEs see the same snapshot, and the row counts are returned per
+ * tutor.
+ */
+public class TutorSpecialiteBatchRepositoryImpl implements TutorSpecialiteBatchRepository {
+
+    private static final String REPLACE_QUERY = """
+        WITH targets AS (
+            SELECT DISTINCT unnest(CAST(:targetTutorIds AS bigint[])) AS tutor_id
+        ),
+        wanted AS (
+            SELECT DISTINCT w.tutor_id, w.matiere_id
+            FROM unnest(CAST(:tutorIds AS bigint[]), CAST(:matiereIds AS bigint[])) AS w(tutor_id, matiere_id)
+        ),
+        deleted AS (
+            DELETE FROM tutor_specialites ts
+            USING targets
+            WHERE ts.tutor_id = targets.tutor_id
+              AND NOT EXISTS (SELECT 1 FROM wanted w WHERE w.tutor_id = ts.tutor_id AND w.matiere_id = ts.matiere_id)
+            RETURNING ts.tutor_id
+        ),
+        inserted AS (
+            INSERT INTO tutor_specialites (tutor_id, matiere_id)
+            SELECT tutor_id, matiere_id FROM wanted
+            ON CONFLICT (tutor_id, matiere_id) DO NOTHING
+            RETURNING tutor_id
+        )
+        SELECT targets.tutor_id,
+               (SELECT COUNT(*) FROM inserted i WHERE i.tutor_id = targets.tutor_id) AS inserted,
+               (SELECT COUNT(*) FROM deleted d WHERE d.tutor_id = targets.tutor_id) AS deleted
+        FROM targets
+        """;
+
+    private final DatabaseClient databaseClient;
+
+    public TutorSpecialiteBatchRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<SpecialiteChanges> replaceSpecialites(Map<Long, ? extends Collection<Long>> matiereIdsByTutor) {
+        if (matiereIdsByTutor.isEmpty()) {
+            return Flux.empty();
+        }
+        List<Long> tutorIds = new ArrayList<>();
+        List<Long> matiereIds = new ArrayList<>();
+        matiereIdsByTutor.forEach((tutorId, matieres) -> {
+            for (Long matiereId : matieres) {
+                tutorIds.add(tutorId);
+                matiereIds.add(matiereId);
+            }
+        });
+        return databaseClient.sql(REPLACE_QUERY)
+                .bind("targetTutorIds", matiereIdsByTutor.keySet().toArray(new Long[0]))
+                .bind("tutorIds", tutorIds.toArray(new Long[0]))
+                .bind("matiereIds", matiereIds.toArray(new Long[0]))
+                .map((row, metadata) -> new SpecialiteChanges(
+                        row.get("tutor_id", Long.class),
+                        row.get("inserted", Long.class),
+                        row.get("deleted", Long.class)))
+                .all();
+    }
+}
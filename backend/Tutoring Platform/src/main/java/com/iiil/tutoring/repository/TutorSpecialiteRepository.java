@@ -1,6 +1,7 @@
 package com.iiil.tutoring.repository;
 
 import com.iiil.tutoring.entity.TutorSpecialite;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
@@ -11,7 +12,7 @@ import reactor.core.publisher.Mono;
  * Repository for tutor specialties (junction table between tutors and matières)
  */
 @Repository
-public interface TutorSpecialiteRepository extends R2dbcRepository<TutorSpecialite, Long> {
+public interface TutorSpecialiteRepository extends R2dbcRepository<TutorSpecialite, Long>, TutorSpecialiteBatchRepository {
 
     /**
      * Find all specialties for a specific tutor
@@ -28,6 +29,15 @@ public interface TutorSpecialiteRepository extends R2dbcRepository<TutorSpeciali
      */
     Mono<Void> deleteByTutorId(Long tutorId);
 
+    /**
+     * Delete one specialty of a tutor
+     *
+     * @return the number of deleted rows (0 or 1)
+     */
+    @Modifying
+    @Query("DELETE FROM tutor_specialites WHERE tutor_id = :tutorId AND matiere_id = :matiereId")
+    Mono<Integer> deleteByTutorIdAndMatiereId(Long tutorId, Long matiereId);
+
     /**
      * Check if a tutor has a specific specialty
      */
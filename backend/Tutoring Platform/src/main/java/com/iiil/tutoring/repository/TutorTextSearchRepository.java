@@ -0,0 +1,61 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Tutor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Custom repository fragment for full-text and fuzzy tutor keyword search
+ */
+public interface TutorTextSearchRepository {
+
+    /**
+     * Search active tutors by keyword over name, specialties, diplomas and description, ordered
+     * by relevance. Matching ignores accents and case, stems French words and tolerates typos.
+     */
+    Flux<TutorSearchHit> searchByText(String keyword, int limit, long offset);
+
+    /**
+     * Number of active tutors matching the keyword, for a page past the last match
+     */
+    Mono<Long> countByText(String keyword);
+
+    /**
+     * A matching tutor with its relevance score and the total number of matches
+     */
+    class TutorSearchHit {
+        private final Tutor tutor;
+        private final String nom;
+        private final String prenom;
+        private final double score;
+        private final long totalHits;
+
+        public TutorSearchHit(Tutor tutor, String nom, String prenom, double score, long totalHits) {
+            this.tutor = tutor;
+            this.nom = nom;
+            this.prenom = prenom;
+            this.score = score;
+            this.totalHits = totalHits;
+        }
+
+        public Tutor getTutor() {
+            return tutor;
+        }
+
+        public String getNom() {
+            return nom;
+        }
+
+        public String getPrenom() {
+            return prenom;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public long getTotalHits() {
+            return totalHits;
+        }
+    }
+}
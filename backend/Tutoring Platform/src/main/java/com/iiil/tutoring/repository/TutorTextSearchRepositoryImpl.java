@@ -0,0 +1,80 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.Tutor;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of {@link TutorTextSearchRepository} over the {@code search_vector} (tsvector,
+ * french configuration) and {@code search_text} (trigram) columns of {@code tutors}, both kept
+ * up to date by triggers and backed by GIN indexes. A tutor matches when the stemmed query
+ * matches its document or when the keyword is close to a word of its name, specialties or
+ * diplomas (typos); the score adds the text rank and the word similarity.
+ */
+public class TutorTextSearchRepositoryImpl implements TutorTextSearchRepository {
+
+    private static final String KEYWORD = """
+        WITH q AS (
+            SELECT websearch_to_tsquery('french', f_unaccent(:keyword)) AS ts,
+                   lower(f_unaccent(:keyword)) AS kw
+        )
+        """;
+
+    private static final String MATCHES = """
+        FROM tutors t
+        JOIN users u ON u.id = t.id
+        CROSS JOIN q
+        WHERE u.statut = 'ACTIVE'
+          AND (t.search_vector @@ q.ts OR q.kw <% t.search_text)
+        """;
+
+    private static final String SEARCH_QUERY = KEYWORD + """
+        SELECT t.*,
+               u.nom AS user_nom,
+               u.prenom AS user_prenom,
+               CAST(ts_rank_cd(t.search_vector, q.ts, 1) + word_similarity(q.kw, t.search_text) AS double precision) AS score,
+               count(*) OVER () AS total_hits
+        """ + MATCHES + """
+        ORDER BY score DESC, t.note_moyenne DESC, t.id
+        LIMIT :limit OFFSET :offset
+        """;
+
+    private static final String COUNT_QUERY = KEYWORD + "SELECT count(*)\n" + MATCHES;
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    public TutorTextSearchRepositoryImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Flux<TutorSearchHit> searchByText(String keyword, int limit, long offset) {
+        return databaseClient.sql(SEARCH_QUERY)
+                .bind("keyword", keyword)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map((row, metadata) -> {
+                    Double score = row.get("score", Double.class);
+                    Long totalHits = row.get("total_hits", Long.class);
+                    return new TutorSearchHit(
+                            converter.read(Tutor.class, row, metadata),
+                            row.get("user_nom", String.class),
+                            row.get("user_prenom", String.class),
+                            score != null ? score : 0.0,
+                            totalHits != null ? totalHits : 0L);
+                })
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countByText(String keyword) {
+        return databaseClient.sql(COUNT_QUERY)
+                .bind("keyword", keyword)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+}
@@ -0,0 +1,42 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.User;
+import com.iiil.tutoring.enums.UserStatus;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment listing users together with their role names
+ */
+public interface UserListingRepository {
+
+    /**
+     * Load a page of users ordered by id, after {@code afterId} (keyset pagination), with the
+     * role names of every user aggregated in the same query
+     *
+     * @param statut optional status filter, null for all users
+     */
+    Flux<UserWithRoleNames> findPageWithRoles(Long afterId, UserStatus statut, int limit);
+
+    /**
+     * A user row with its role names
+     */
+    class UserWithRoleNames {
+        private final User user;
+        private final List<String> roles;
+
+        public UserWithRoleNames(User user, List<String> roles) {
+            this.user = user;
+            this.roles = roles;
+        }
+
+        public User getUser() {
+            return user;
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+    }
+}
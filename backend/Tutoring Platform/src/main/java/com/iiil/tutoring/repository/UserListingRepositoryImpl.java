@@ -0,0 +1,55 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.User;
+import com.iiil.tutoring.enums.UserStatus;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Single-query implementation of {@link UserListingRepository}: users and roles are joined
+ * and the role names are collected with {@code array_agg}, instead of one role query per user.
+ * Roles keep their assignment order, so the first one is still the user's primary role.
+ */
+public class UserListingRepositoryImpl implements UserListingRepository {
+
+    private static final String PAGE_QUERY = """
+        SELECT u.*,
+               COALESCE(array_agg(r.nom ORDER BY ur.id) FILTER (WHERE r.nom IS NOT NULL), '{}') AS role_names
+        FROM users u
+        LEFT JOIN user_roles ur ON ur.user_id = u.id
+        LEFT JOIN roles r ON r.id = ur.role_id
+        WHERE u.id > :afterId
+          AND (CAST(:statut AS varchar) IS NULL OR u.statut = :statut)
+        GROUP BY u.id
+        ORDER BY u.id
+        LIMIT :limit
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    public UserListingRepositoryImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Flux<UserWithRoleNames> findPageWithRoles(Long afterId, UserStatus statut, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(PAGE_QUERY)
+                .bind("afterId", afterId != null ? afterId : 0L)
+                .bind("limit", limit);
+        spec = statut != null ? spec.bind("statut", statut.name()) : spec.bindNull("statut", String.class);
+
+        return spec.map((row, metadata) -> {
+                    User user = converter.read(User.class, row, metadata);
+                    String[] roleNames = row.get("role_names", String[].class);
+                    List<String> roles = roleNames != null ? Arrays.asList(roleNames) : List.of();
+                    return new UserWithRoleNames(user, roles);
+                })
+                .all();
+    }
+}
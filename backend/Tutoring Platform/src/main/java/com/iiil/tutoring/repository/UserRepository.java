@@ -10,7 +10,7 @@ import reactor.core.publisher.Mono;
 /**
  * Repository for User entity
  */
-public interface UserRepository extends R2dbcRepository<User, Long> {
+public interface UserRepository extends R2dbcRepository<User, Long>, UserListingRepository {
 
     Mono<User> findByEmail(String email);
 
@@ -0,0 +1,29 @@
+package com.iiil.tutoring.repository;
+
+import com.iiil.tutoring.entity.UserTokenRevocation;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository for user-wide token revocations
+ */
+public interface UserTokenRevocationRepository extends R2dbcRepository<UserTokenRevocation, Long> {
+
+    @Modifying
+    @Query("""
+        INSERT INTO user_token_revocations (user_id, revoked_before)
+        VALUES (:userId, :revokedBefore)
+        ON CONFLICT (user_id) DO UPDATE
+        SET revoked_before = GREATEST(user_token_revocations.revoked_before, EXCLUDED.revoked_before)
+        """)
+    Mono<Integer> revokeBefore(Long userId, LocalDateTime revokedBefore);
+
+    // Older revocations no longer matter: every token they cover has expired
+    @Query("SELECT * FROM user_token_revocations WHERE revoked_before > :since")
+    Flux<UserTokenRevocation> findRevokedSince(LocalDateTime since);
+}
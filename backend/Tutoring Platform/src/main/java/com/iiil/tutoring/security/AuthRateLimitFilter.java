@@ -0,0 +1,54 @@
+package com.iiil.tutoring.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Per-IP throttling of the authentication endpoints. Runs ahead of the security chain, so a
+ * throttled request is answered with 429 before its body is read and before any database or
+ * BCrypt work.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AuthRateLimitFilter implements WebFilter {
+
+    @Autowired
+    private AuthRateLimiter rateLimiter;
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+        if (!path.startsWith("/api/auth/")) {
+            return chain.filter(exchange);
+        }
+
+        long retryAfter;
+        if (HttpMethod.POST.equals(request.getMethod())
+                && (path.equals("/api/auth/login") || path.equals("/api/auth/refresh"))) {
+            retryAfter = rateLimiter.checkLoginIp(rateLimiter.resolveClientIp(request));
+        } else if (HttpMethod.POST.equals(request.getMethod()) && path.startsWith("/api/auth/register/")) {
+            retryAfter = rateLimiter.checkRegisterIp(rateLimiter.resolveClientIp(request));
+        } else {
+            return chain.filter(exchange);
+        }
+
+        if (retryAfter > 0) {
+            exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            exchange.getResponse().getHeaders().set("Retry-After", String.valueOf(retryAfter));
+            return exchange.getResponse().setComplete();
+        }
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,88 @@
+package com.iiil.tutoring.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Rate limits for the authentication endpoints: per client IP for login/refresh and for
+ * registration, and per account for login attempts (credential stuffing spreads over IPs but
+ * hits the same accounts). Buckets live in memory on each node.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final TokenBucketRateLimiter loginByIp;
+    private final TokenBucketRateLimiter loginByAccount;
+    private final TokenBucketRateLimiter registerByIp;
+
+    @Value("${tutoring.auth.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tutoring.auth.rate-limit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    public AuthRateLimiter(@Value("${tutoring.auth.rate-limit.login-ip.capacity:20}") int loginIpCapacity,
+                           @Value("${tutoring.auth.rate-limit.login-ip.per-minute:10}") int loginIpPerMinute,
+                           @Value("${tutoring.auth.rate-limit.login-account.capacity:5}") int accountCapacity,
+                           @Value("${tutoring.auth.rate-limit.login-account.per-minute:2}") int accountPerMinute,
+                           @Value("${tutoring.auth.rate-limit.register-ip.capacity:5}") int registerIpCapacity,
+                           @Value("${tutoring.auth.rate-limit.register-ip.per-minute:2}") int registerIpPerMinute,
+                           @Value("${tutoring.auth.rate-limit.max-keys:100000}") int maxKeys,
+                           @Value("${tutoring.auth.rate-limit.stripes:16}") int stripes) {
+        this.loginByIp = new TokenBucketRateLimiter("login-ip", loginIpCapacity, loginIpPerMinute, maxKeys, stripes);
+        this.loginByAccount = new TokenBucketRateLimiter("login-account", accountCapacity, accountPerMinute, maxKeys, stripes);
+        this.registerByIp = new TokenBucketRateLimiter("register-ip", registerIpCapacity, registerIpPerMinute, maxKeys, stripes);
+    }
+
+    /**
+     * @return 0 if allowed, otherwise seconds to wait before retrying
+     */
+    public long checkLoginIp(String clientIp) {
+        return enabled ? loginByIp.tryAcquire(clientIp) : 0;
+    }
+
+    public long checkRegisterIp(String clientIp) {
+        return enabled ? registerByIp.tryAcquire(clientIp) : 0;
+    }
+
+    public long checkAccount(String email) {
+        return enabled && email != null ? loginByAccount.tryAcquire(email.trim().toLowerCase(Locale.ROOT)) : 0;
+    }
+
+    /**
+     * Forget the failed attempts of an account once it logs in successfully
+     */
+    public void resetAccount(String email) {
+        if (email != null) {
+            loginByAccount.reset(email.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Client address of a request; X-Forwarded-For is only honoured behind a trusted proxy
+     */
+    public String resolveClientIp(ServerHttpRequest request) {
+        if (trustForwardedFor) {
+            String forwarded = request.getHeaders().getFirst("X-Forwarded-For");
+            if (StringUtils.hasText(forwarded)) {
+                int comma = forwarded.indexOf(',');
+                return (comma >= 0 ? forwarded.substring(0, comma) : forwarded).trim();
+            }
+        }
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote == null) {
+            return "unknown";
+        }
+        return remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString();
+    }
+
+    public List<TokenBucketRateLimiter> getLimiters() {
+        return List.of(loginByIp, loginByAccount, registerByIp);
+    }
+}
@@ -0,0 +1,45 @@
+package com.iiil.tutoring.security;
+
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import reactor.core.publisher.Mono;
+
+/**
+ * Username/password authentication manager verifying passwords through {@link PasswordHashingService},
+ * so that form logins share the bounded hashing pool, its queue limit and its metrics with the
+ * rest of the application
+ */
+public class HashingReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final ReactiveUserDetailsService userDetailsService;
+    private final PasswordHashingService passwordHashing;
+    private final UserDetailsChecker accountStatusChecker = new AccountStatusUserDetailsChecker();
+
+    public HashingReactiveAuthenticationManager(ReactiveUserDetailsService userDetailsService,
+                                                PasswordHashingService passwordHashing) {
+        this.userDetailsService = userDetailsService;
+        this.passwordHashing = passwordHashing;
+    }
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        String username = authentication.getName();
+        String presentedPassword = authentication.getCredentials() != null
+                ? authentication.getCredentials().toString()
+                : "";
+
+        return userDetailsService.findByUsername(username)
+                .switchIfEmpty(Mono.error(new BadCredentialsException("Invalid Credentials")))
+                .doOnNext(accountStatusChecker::check)
+                .flatMap(user -> passwordHashing.matches(presentedPassword, user.getPassword())
+                        .filter(Boolean::booleanValue)
+                        .switchIfEmpty(Mono.error(new BadCredentialsException("Invalid Credentials")))
+                        .map(matched -> UsernamePasswordAuthenticationToken.authenticated(
+                                user, user.getPassword(), user.getAuthorities())));
+    }
+}
@@ -0,0 +1,132 @@
+package com.iiil.tutoring.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of verified tokens, so a client reusing the same token does not pay for a
+ * signature check and claims parse on every request. Entries are keyed by the SHA-256 of the
+ * token (raw tokens are never kept in memory) and never outlive the token expiration.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    @Value("${jwt.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${jwt.cache.max-ttl-ms:300000}") // 5 minutes
+    private long maxTtlMillis;
+
+    private final ConcurrentHashMap<String, CachedAuthentication> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Get the cached authentication of a token, or null if absent or expired
+     */
+    public UsernamePasswordAuthenticationToken get(String token) {
+        String key = hash(token);
+        CachedAuthentication cached = entries.get(key);
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (cached.expiresAtMillis <= System.currentTimeMillis()) {
+            entries.remove(key, cached);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return cached.authentication;
+    }
+
+    /**
+     * Cache the authentication built from a verified token until the token expires
+     */
+    public void put(String token, UsernamePasswordAuthenticationToken authentication, Date tokenExpiration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + maxTtlMillis;
+        if (tokenExpiration != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiration.getTime());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        entries.put(hash(token), new CachedAuthentication(authentication, expiresAt));
+    }
+
+    /**
+     * Drop every cached token of a user (role change, block, password update)
+     */
+    public void invalidateUser(String email) {
+        entries.values().removeIf(cached -> email.equals(cached.authentication.getName()));
+    }
+
+    /**
+     * Drop every cached token of a user, by the user id stored in the authentication details
+     */
+    public void invalidateUserId(Long userId) {
+        entries.values().removeIf(cached -> userId.equals(cached.authentication.getDetails()));
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // Remove expired entries first; if the cache is still full, drop a tenth of it
+    private void evict(long now) {
+        entries.values().removeIf(cached -> cached.expiresAtMillis <= now);
+        int toRemove = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<Map.Entry<String, CachedAuthentication>> iterator = entries.entrySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class CachedAuthentication {
+        private final UsernamePasswordAuthenticationToken authentication;
+        private final long expiresAtMillis;
+
+        private CachedAuthentication(UsernamePasswordAuthenticationToken authentication, long expiresAtMillis) {
+            this.authentication = authentication;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.iiil.tutoring.security;
 
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -15,7 +16,6 @@ import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * JWT Authentication filter for WebFlux
@@ -26,49 +26,83 @@ public class JwtAuthenticationFilter implements WebFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private JwtAuthenticationCache authenticationCache;
+
+    @Autowired
+    private TokenRevocationService revocationService;
+
     private static final String BEARER_PREFIX = "Bearer ";
 
+    // EventSource cannot set headers: the notification stream also takes the token as a query parameter
+    private static final String STREAM_PATH = "/api/notifications/stream";
+    private static final String ACCESS_TOKEN_PARAM = "access_token";
+
     @Override
     @NonNull
     public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
-        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String token = resolveToken(request);
 
-        if (authHeader != null && StringUtils.hasText(authHeader) && authHeader.startsWith(BEARER_PREFIX)) {
-            String token = authHeader.substring(BEARER_PREFIX.length());
-            
-            if (jwtUtil.isValidToken(token)) {
-                return authenticateToken(token)
-                        .flatMap(authentication -> {
-                            return chain.filter(exchange)
-                                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
-                        });
+        if (token != null) {
+            UsernamePasswordAuthenticationToken authentication = authenticateToken(token);
+            if (authentication != null) {
+                return chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
             }
         }
 
         return chain.filter(exchange);
     }
 
-    private Mono<UsernamePasswordAuthenticationToken> authenticateToken(String token) {
-        return Mono.fromCallable(() -> {
-            String email = jwtUtil.extractEmail(token);
-            String role = jwtUtil.extractRole(token);
-            Long userId = jwtUtil.extractUserId(token);
-
-            // Create authorities from role
-            List<SimpleGrantedAuthority> authorities = List.of(role)
-                    .stream()
-                    .map(r -> new SimpleGrantedAuthority("ROLE_" + r))
-                    .collect(Collectors.toList());
-
-            // Create authentication token
-            UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(email, null, authorities);
-            
-            // Add user ID as detail
-            authentication.setDetails(userId);
-            
-            return authentication;
-        });
+    private String resolveToken(ServerHttpRequest request) {
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && StringUtils.hasText(authHeader) && authHeader.startsWith(BEARER_PREFIX)) {
+            return authHeader.substring(BEARER_PREFIX.length());
+        }
+        if (STREAM_PATH.equals(request.getPath().pathWithinApplication().value())) {
+            String queryToken = request.getQueryParams().getFirst(ACCESS_TOKEN_PARAM);
+            return StringUtils.hasText(queryToken) ? queryToken : null;
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the authentication of a token: from the cache, or with a single verify-and-parse
+     */
+    private UsernamePasswordAuthenticationToken authenticateToken(String token) {
+        UsernamePasswordAuthenticationToken cached = authenticationCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Refresh tokens are not accepted as access tokens; revoked users' tokens are rejected
+        return jwtUtil.parseValidClaims(token)
+                .filter(claims -> claims.get("role") != null && !jwtUtil.isRefreshToken(claims))
+                .filter(claims -> !revocationService.isUserRevoked(claims.get("userId", Long.class), claims.getIssuedAt()))
+                .map(claims -> {
+                    UsernamePasswordAuthenticationToken authentication = buildAuthentication(claims);
+                    authenticationCache.put(token, authentication, claims.getExpiration());
+                    return authentication;
+                })
+                .orElse(null);
+    }
+
+    private UsernamePasswordAuthenticationToken buildAuthentication(Claims claims) {
+        String email = claims.getSubject();
+        String role = claims.get("role", String.class);
+        Long userId = claims.get("userId", Long.class);
+
+        // Create authorities from role
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+
+        // Create authentication token
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(email, null, authorities);
+
+        // Add user ID as detail
+        authentication.setDetails(userId);
+
+        return authentication;
     }
-}
\ No newline at end of file
+}
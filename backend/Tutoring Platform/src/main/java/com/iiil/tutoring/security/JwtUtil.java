@@ -3,6 +3,7 @@ package com.iiil.tutoring.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +11,8 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -18,6 +21,9 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -27,6 +33,18 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration:604800000}") // 7 days in milliseconds
     private Long refreshExpiration;
 
+    // Decoded once: the secret is immutable for the lifetime of the application
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     /**
      * Generate JWT token for user
      */
@@ -38,21 +56,39 @@ public class JwtUtil {
     }
 
     /**
-     * Generate refresh token
+     * Generate refresh token. It carries a unique id (jti) so it can be used only once, and the
+     * role and user id so a refresh does not need to reload the user.
+     */
+    public String generateRefreshToken(String email, String role, Long userId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        claims.put("role", role);
+        claims.put("userId", userId);
+        return createToken(claims, email, refreshExpiration, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Whether verified claims belong to a refresh token
      */
-    public String generateRefreshToken(String email) {
-        return createToken(new HashMap<>(), email, refreshExpiration);
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM));
     }
 
     /**
      * Create JWT token with claims
      */
     private String createToken(Map<String, Object> claims, String subject, Long expiration) {
+        return createToken(claims, subject, expiration, null);
+    }
+
+    private String createToken(Map<String, Object> claims, String subject, Long expiration, String tokenId) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .claims(claims)
+                .id(tokenId)
                 .subject(subject)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
                 .signWith(getSignInKey())
                 .compact();
     }
@@ -97,11 +133,18 @@ public class JwtUtil {
      * Extract all claims from token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Verify the signature and expiration of a token and return its claims in a single parse
+     */
+    public Optional<Claims> parseValidClaims(String token) {
+        try {
+            return Optional.of(extractAllClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -115,31 +158,24 @@ public class JwtUtil {
      * Validate token
      */
     public Boolean validateToken(String token, String email) {
-        final String tokenEmail = extractEmail(token);
-        return (tokenEmail.equals(email) && !isTokenExpired(token));
+        // Parsing already rejects expired tokens
+        return parseValidClaims(token)
+                .map(claims -> email.equals(claims.getSubject()))
+                .orElse(false);
     }
 
     /**
      * Validate token format and signature
      */
     public Boolean isValidToken(String token) {
-        try {
-            Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseValidClaims(token).isPresent();
     }
 
     /**
      * Get signing key for JWT
      */
     private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 
     /**
@@ -0,0 +1,156 @@
+package com.iiil.tutoring.security;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs password hashing and verification on a dedicated bounded scheduler instead of the
+ * Netty event loop. BCrypt takes 100+ ms per call at cost 12; running it inline stalls every
+ * other request on the same loop. Work beyond {@code threads + max-queued} pending calls is
+ * rejected immediately with a {@link RejectedExecutionException} rather than queued without bound.
+ */
+@Component
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler scheduler;
+    private final int threads;
+    private final int maxPending;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+
+    @Autowired
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${tutoring.password-hashing.threads:0}") int threads,
+                                  @Value("${tutoring.password-hashing.max-queued:256}") int maxQueued) {
+        this.passwordEncoder = passwordEncoder;
+        this.threads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors());
+        this.maxPending = this.threads + maxQueued;
+        // The pending counter enforces the limit; the scheduler cap is only a safety net
+        this.scheduler = Schedulers.newBoundedElastic(this.threads, this.maxPending, "password-hashing");
+    }
+
+    /**
+     * Hash a raw password
+     */
+    public Mono<String> encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Check a raw password against its stored hash
+     */
+    public Mono<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> Mono<T> submit(Callable<T> task) {
+        return Mono.defer(() -> {
+            if (pending.incrementAndGet() > maxPending) {
+                pending.decrementAndGet();
+                rejected.incrementAndGet();
+                return Mono.error(new RejectedExecutionException("Password hashing queue is full"));
+            }
+            long submittedAt = System.nanoTime();
+            return Mono.fromCallable(() -> {
+                        long startedAt = System.nanoTime();
+                        recordWait(startedAt - submittedAt);
+                        running.incrementAndGet();
+                        try {
+                            return task.call();
+                        } finally {
+                            running.decrementAndGet();
+                            totalHashNanos.addAndGet(System.nanoTime() - startedAt);
+                            completed.incrementAndGet();
+                        }
+                    })
+                    .subscribeOn(scheduler)
+                    .doOnError(RejectedExecutionException.class, error -> rejected.incrementAndGet())
+                    .doFinally(signal -> pending.decrementAndGet());
+        });
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+
+    // ===============================================
+    // METRICS
+    // ===============================================
+
+    public HashingStats getStats() {
+        long done = completed.get();
+        return new HashingStats(
+                threads,
+                maxPending - threads,
+                running.get(),
+                Math.max(0, pending.get() - running.get()),
+                done,
+                rejected.get(),
+                done > 0 ? totalWaitNanos.get() / done / 1_000_000.0 : 0.0,
+                maxWaitNanos.get() / 1_000_000.0,
+                done > 0 ? totalHashNanos.get() / done / 1_000_000.0 : 0.0
+        );
+    }
+
+    /**
+     * Snapshot of the hashing pool: sizing, current depth and latency
+     */
+    public static class HashingStats {
+        private final int threads;
+        private final int maxQueued;
+        private final int running;
+        private final int queued;
+        private final long completed;
+        private final long rejected;
+        private final double averageWaitMillis;
+        private final double maxWaitMillis;
+        private final double averageHashMillis;
+
+        public HashingStats(int threads, int maxQueued, int running, int queued, long completed, long rejected,
+                            double averageWaitMillis, double maxWaitMillis, double averageHashMillis) {
+            this.threads = threads;
+            this.maxQueued = maxQueued;
+            this.running = running;
+            this.queued = queued;
+            this.completed = completed;
+            this.rejected = rejected;
+            this.averageWaitMillis = averageWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+            this.averageHashMillis = averageHashMillis;
+        }
+
+        public int getThreads() { return threads; }
+        public int getMaxQueued() { return maxQueued; }
+        public int getRunning() { return running; }
+        public int getQueued() { return queued; }
+        public long getCompleted() { return completed; }
+        public long getRejected() { return rejected; }
+        public double getAverageWaitMillis() { return averageWaitMillis; }
+        public double getMaxWaitMillis() { return maxWaitMillis; }
+        public double getAverageHashMillis() { return averageHashMillis; }
+    }
+}
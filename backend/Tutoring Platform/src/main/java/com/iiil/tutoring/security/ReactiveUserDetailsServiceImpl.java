@@ -2,8 +2,8 @@ package com.iiil.tutoring.security;
 
 import com.iiil.tutoring.entity.User;
 import com.iiil.tutoring.enums.UserStatus;
-import com.iiil.tutoring.repository.UserRepository;
 import com.iiil.tutoring.service.RoleService;
+import com.iiil.tutoring.service.UserIdentityCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -23,14 +23,14 @@ import java.util.List;
 public class ReactiveUserDetailsServiceImpl implements ReactiveUserDetailsService {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserIdentityCache identityCache;
 
     @Autowired
     private RoleService roleService;
 
     @Override
     public Mono<UserDetails> findByUsername(String email) {
-        return userRepository.findByEmail(email)
+        return identityCache.findUserForAuthentication(email)
                 .filter(user -> user.getStatut() == UserStatus.ACTIVE)
                 .switchIfEmpty(Mono.error(new UsernameNotFoundException("Utilisateur non trouvé ou désactivé: " + email)))
                 .flatMap(user -> 
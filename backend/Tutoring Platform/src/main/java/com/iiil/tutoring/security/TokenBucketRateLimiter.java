@@ -0,0 +1,140 @@
+package com.iiil.tutoring.security;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free keyed token bucket. Each bucket is a single {@link AtomicLong} holding the
+ * theoretical arrival time of the next request (GCRA form of the token bucket), updated with
+ * CAS; no locks are taken on the hot path. Keys are spread over independent stripes, each
+ * bounded to {@code maxKeys / stripes} entries: when a stripe is full, buckets that have
+ * refilled completely are dropped first (they are equivalent to an absent key), then the
+ * oldest-iterated ones.
+ */
+public class TokenBucketRateLimiter {
+
+    private final String name;
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeysPerStripe;
+    private final List<ConcurrentHashMap<String, AtomicLong>> stripes;
+
+    private final AtomicLong allowed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    /**
+     * @param capacity        burst size (tokens available to a fresh key)
+     * @param refillPerMinute tokens added back per minute
+     * @param maxKeys         upper bound on tracked keys across all stripes
+     * @param stripeCount     number of independent stripes
+     */
+    public TokenBucketRateLimiter(String name, int capacity, int refillPerMinute, int maxKeys, int stripeCount) {
+        if (capacity < 1 || refillPerMinute < 1 || maxKeys < 1 || stripeCount < 1) {
+            throw new IllegalArgumentException("Rate limiter '" + name + "' requires positive limits");
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.emissionIntervalNanos = 60_000_000_000L / refillPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        List<ConcurrentHashMap<String, AtomicLong>> maps = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            maps.add(new ConcurrentHashMap<>());
+        }
+        this.stripes = List.copyOf(maps);
+    }
+
+    /**
+     * Take one token for a key
+     *
+     * @return 0 if the request is allowed, otherwise the number of seconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        ConcurrentHashMap<String, AtomicLong> stripe = stripeFor(key);
+        AtomicLong bucket = stripe.get(key);
+        if (bucket == null) {
+            if (stripe.size() >= maxKeysPerStripe) {
+                evict(stripe, now);
+            }
+            bucket = stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long storedArrival = bucket.get();
+            long arrival = Math.max(storedArrival, now);
+            long wait = arrival - now - burstToleranceNanos;
+            if (wait > 0) {
+                rejected.incrementAndGet();
+                return Math.max(1, (wait + 999_999_999L) / 1_000_000_000L);
+            }
+            if (bucket.compareAndSet(storedArrival, arrival + emissionIntervalNanos)) {
+                allowed.incrementAndGet();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Refill the bucket of a key (e.g. after a successful login)
+     */
+    public void reset(String key) {
+        stripeFor(key).remove(key);
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes.get(Math.floorMod(hash ^ (hash >>> 16), stripes.size()));
+    }
+
+    private void evict(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+        int before = stripe.size();
+        stripe.values().removeIf(bucket -> bucket.get() <= now);
+        Iterator<String> keys = stripe.keySet().iterator();
+        while (stripe.size() >= maxKeysPerStripe && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+        evicted.addAndGet(Math.max(0, before - stripe.size()));
+    }
+
+    // ===============================================
+    // METRICS
+    // ===============================================
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getAllowed() {
+        return allowed.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public long getEvicted() {
+        return evicted.get();
+    }
+
+    public int getTrackedKeys() {
+        int total = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            total += stripe.size();
+        }
+        return total;
+    }
+}
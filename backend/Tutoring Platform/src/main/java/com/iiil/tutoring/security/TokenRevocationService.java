@@ -0,0 +1,174 @@
+package com.iiil.tutoring.security;
+
+import com.iiil.tutoring.repository.RevokedTokenRepository;
+import com.iiil.tutoring.repository.UserTokenRevocationRepository;
+import com.iiil.tutoring.service.UserIdentityCache;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revocation of JWTs. Refresh tokens are single use: their jti is recorded in
+ * {@code revoked_tokens} when consumed, and presenting a consumed token again revokes every
+ * token of the user (the token was likely stolen). Blocking a user records a user-wide
+ * revocation, checked in memory on every request.
+ * <p>
+ * The database is the source of truth: the atomic insert of the jti decides whether a refresh
+ * token is still valid, and other nodes pick up user revocations on the next sync.
+ */
+@Component
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserTokenRevocationRepository userRevocationRepository;
+    private final JwtAuthenticationCache authenticationCache;
+    private final UserIdentityCache identityCache;
+    private final JwtUtil jwtUtil;
+
+    // user id -> epoch millis before which the user's tokens are rejected
+    private final ConcurrentHashMap<Long, Long> revokedBeforeByUser = new ConcurrentHashMap<>();
+
+    private final AtomicLong refreshesConsumed = new AtomicLong();
+    private final AtomicLong reuseDetected = new AtomicLong();
+
+    @Autowired
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  UserTokenRevocationRepository userRevocationRepository,
+                                  JwtAuthenticationCache authenticationCache,
+                                  UserIdentityCache identityCache,
+                                  JwtUtil jwtUtil) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRevocationRepository = userRevocationRepository;
+        this.authenticationCache = authenticationCache;
+        this.identityCache = identityCache;
+        this.jwtUtil = jwtUtil;
+    }
+
+    // ===============================================
+    // CHECKS (hot path)
+    // ===============================================
+
+    /**
+     * Whether a token of the user issued at {@code issuedAt} has been revoked user-wide
+     */
+    public boolean isUserRevoked(Long userId, Date issuedAt) {
+        if (userId == null) {
+            return false;
+        }
+        Long revokedBefore = revokedBeforeByUser.get(userId);
+        return revokedBefore != null && (issuedAt == null || issuedAt.getTime() < revokedBefore);
+    }
+
+    /**
+     * Consume a verified refresh token. Emits true exactly once per jti; a token already
+     * consumed is treated as reuse and revokes all tokens of the user. One statement either way:
+     * the insert of the jti is the check.
+     */
+    public Mono<Boolean> consumeRefreshToken(Claims claims) {
+        String jti = claims.getId();
+        Long userId = claims.get("userId", Long.class);
+        if (jti == null || userId == null || isUserRevoked(userId, claims.getIssuedAt())) {
+            return Mono.just(false);
+        }
+
+        return revokedTokenRepository.revoke(jti, userId, toLocalDateTime(claims.getExpiration().getTime()))
+                .flatMap(inserted -> {
+                    if (inserted > 0) {
+                        refreshesConsumed.incrementAndGet();
+                        return Mono.just(true);
+                    }
+                    reuseDetected.incrementAndGet();
+                    log.warn("Refresh token reuse detected for user {}, revoking all tokens", userId);
+                    return revokeUser(userId).thenReturn(false);
+                });
+    }
+
+    // ===============================================
+    // REVOCATION
+    // ===============================================
+
+    /**
+     * Revoke every token issued to a user so far, on subscription. Effective on this node as soon
+     * as the revocation is recorded.
+     */
+    public Mono<Void> revokeUser(Long userId) {
+        return Mono.defer(() -> {
+            // Token timestamps have second precision: round up so a token issued this second is covered
+            long revokedBefore = (System.currentTimeMillis() / 1000 + 1) * 1000;
+            return userRevocationRepository.revokeBefore(userId, toLocalDateTime(revokedBefore))
+                    .doOnSuccess(ignored -> applyUserRevocation(userId, revokedBefore))
+                    .then();
+        });
+    }
+
+    private void applyUserRevocation(Long userId, long revokedBefore) {
+        Long previous = revokedBeforeByUser.get(userId);
+        if (previous == null || previous < revokedBefore) {
+            revokedBeforeByUser.merge(userId, revokedBefore, Math::max);
+            authenticationCache.invalidateUserId(userId);
+            // also reached by the sync, which spreads role and status changes to other nodes' caches
+            identityCache.invalidateUser(userId);
+        }
+    }
+
+    // ===============================================
+    // SYNC
+    // ===============================================
+
+    /**
+     * Load user revocations recorded by other nodes and forget those older than any live token
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+    public void syncUserRevocations() {
+        long horizon = System.currentTimeMillis() - Math.max(jwtUtil.getExpirationTime(), jwtUtil.getRefreshExpirationTime());
+        revokedBeforeByUser.values().removeIf(revokedBefore -> revokedBefore < horizon);
+        userRevocationRepository.findRevokedSince(toLocalDateTime(horizon))
+                .doOnNext(revocation -> applyUserRevocation(revocation.getUserId(),
+                        revocation.getRevokedBefore().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
+                .subscribe(null, error -> log.error("Failed to sync user token revocations: {}", error.getMessage()));
+    }
+
+    /**
+     * Purge the jtis of expired refresh tokens: an expired token is rejected before its jti is checked
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:3600000}")
+    public void purgeExpiredTokens() {
+        revokedTokenRepository.purgeExpired(LocalDateTime.now())
+                .subscribe(
+                        count -> log.debug("Purged {} expired revoked token(s)", count),
+                        error -> log.error("Failed to purge revoked tokens: {}", error.getMessage()));
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    // ===============================================
+    // METRICS
+    // ===============================================
+
+    public long getRefreshesConsumed() {
+        return refreshesConsumed.get();
+    }
+
+    public long getReuseDetected() {
+        return reuseDetected.get();
+    }
+
+    public int getRevokedUserCount() {
+        return revokedBeforeByUser.size();
+    }
+}
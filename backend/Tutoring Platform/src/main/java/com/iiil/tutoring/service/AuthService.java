@@ -10,10 +10,12 @@ import com.iiil.tutoring.entity.User;
 import com.iiil.tutoring.enums.UserStatus;
 import com.iiil.tutoring.repository.UserRepository;
 import com.iiil.tutoring.security.JwtUtil;
+import com.iiil.tutoring.security.PasswordHashingService;
+import com.iiil.tutoring.security.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -34,7 +36,7 @@ public class AuthService {
     private UserService userService;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashing;
 
     @Autowired
     private JwtUtil jwtUtil;
@@ -45,16 +47,23 @@ public class AuthService {
     @Autowired
     private RoleService roleService;
 
+    @Autowired
+    private UserIdentityCache identityCache;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     /**
      * Authenticate user and return JWT tokens
      */
     public Mono<AuthResponse> login(LoginRequest loginRequest) {
         // Find user in users table (all users including tutors are in this table)
-        return userRepository.findByEmail(loginRequest.getEmail())
+        // Status and password hash are re-read: the cache may predate a change made on another node
+        return identityCache.findUserForAuthentication(loginRequest.getEmail())
                 .switchIfEmpty(Mono.error(new UsernameNotFoundException("Utilisateur non trouvé")))
                 .filter(user -> user.getStatut() == UserStatus.ACTIVE)
                 .switchIfEmpty(Mono.error(new BadCredentialsException("Compte désactivé")))
-                .filter(user -> passwordEncoder.matches(loginRequest.getMotDePasse(), user.getMotDePasse()))
+                .filterWhen(user -> passwordHashing.matches(loginRequest.getMotDePasse(), user.getMotDePasse()))
                 .switchIfEmpty(Mono.error(new BadCredentialsException("Mot de passe incorrect")))
                 .flatMap(user -> 
                     determineUserRole(user).map(role -> new Object[] { user, role })
@@ -69,7 +78,7 @@ public class AuthService {
                     }
                     
                     String token = jwtUtil.generateToken(user.getEmail(), role, user.getId());
-                    String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
+                    String refreshToken = jwtUtil.generateRefreshToken(user.getEmail(), role, user.getId());
                     
                     return new AuthResponse(
                             token,
@@ -87,13 +96,14 @@ public class AuthService {
      */
     public Mono<AuthResponse> registerStudent(StudentRegisterRequest request) {
         return checkEmailExists(request.getEmail())
-                .then(Mono.fromCallable(() -> {
+                .then(passwordHashing.encode(request.getMotDePasse()))
+                .map(encodedPassword -> {
                     // Create user data
                     User userData = new User();
                     userData.setNom(request.getNom());
                     userData.setPrenom(request.getPrenom());
                     userData.setEmail(request.getEmail());
-                    userData.setMotDePasse(passwordEncoder.encode(request.getMotDePasse()));
+                    userData.setMotDePasse(encodedPassword);
                     userData.setTelephone(request.getTelephone());
                     userData.setStatut(UserStatus.ACTIVE);
                     userData.setDateInscription(LocalDateTime.now());
@@ -105,7 +115,7 @@ public class AuthService {
                     etudiantData.setNiveau(request.getNiveau()); // This will use the enum setNiveau method
 
                     return new Object[] { userData, etudiantData };
-                }))
+                })
                 .flatMap(data -> {
                     User userData = (User) ((Object[]) data)[0];
                     Etudiant etudiantData = (Etudiant) ((Object[]) data)[1];
@@ -113,7 +123,7 @@ public class AuthService {
                             .map(savedStudent -> {
                                 String role = "STUDENT";
                                 String token = jwtUtil.generateToken(userData.getEmail(), role, savedStudent.getId());
-                                String refreshToken = jwtUtil.generateRefreshToken(userData.getEmail());
+                                String refreshToken = jwtUtil.generateRefreshToken(userData.getEmail(), role, savedStudent.getId());
                                 
                                 return new AuthResponse(
                                         token,
@@ -134,13 +144,14 @@ public class AuthService {
      */
     public Mono<AuthResponse> registerAdmin(CreateAdminRequest request) {
         return checkEmailExists(request.getEmail())
-                .then(Mono.defer(() -> {
+                .then(passwordHashing.encode(request.getMotDePasse()))
+                .flatMap(encodedPassword -> {
                     // Create user data
                     User userData = new User();
                     userData.setNom(request.getNom());
                     userData.setPrenom(request.getPrenom());
                     userData.setEmail(request.getEmail());
-                    userData.setMotDePasse(passwordEncoder.encode(request.getMotDePasse()));
+                    userData.setMotDePasse(encodedPassword);
                     userData.setTelephone(request.getTelephone());
                     userData.setStatut(UserStatus.ACTIVE);
                     userData.setDateInscription(LocalDateTime.now());
@@ -151,11 +162,11 @@ public class AuthService {
                     adminData.setDepartement(request.getDepartement() != null ? request.getDepartement() : "Administration");
 
                     return userService.createAdmin(userData, adminData);
-                }))
+                })
                 .map(savedAdmin -> {
                     String role = "ADMIN";
                     String token = jwtUtil.generateToken(request.getEmail(), role, savedAdmin.getId());
-                    String refreshToken = jwtUtil.generateRefreshToken(request.getEmail());
+                    String refreshToken = jwtUtil.generateRefreshToken(request.getEmail(), role, savedAdmin.getId());
                     
                     return new AuthResponse(
                             token,
@@ -187,7 +198,7 @@ public class AuthService {
                         .map(user -> {
                             String role = "TUTOR";
                             String token = jwtUtil.generateToken(user.getEmail(), role, user.getId());
-                            String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
+                            String refreshToken = jwtUtil.generateRefreshToken(user.getEmail(), role, user.getId());
                             
                             return new AuthResponse(
                                     token,
@@ -210,38 +221,43 @@ public class AuthService {
     }
 
     /**
-     * Refresh access token using refresh token
+     * Refresh access token using refresh token. Refresh tokens are rotated: each one can be used
+     * once, and the new pair is built from its claims. Role changes are handled by revocation;
+     * the status is re-read so that a user blocked on another node, whose revocation is not synced
+     * here yet, cannot get tokens dated after it.
      */
     public Mono<AuthResponse> refreshToken(RefreshTokenRequest request) {
-        String refreshToken = request.getRefreshToken();
-        
-        if (!jwtUtil.isValidToken(refreshToken)) {
+        // Verify the signature once; tokens issued before rotation (no jti, role or user id) are rejected
+        Claims claims = jwtUtil.parseValidClaims(request.getRefreshToken())
+                .filter(jwtUtil::isRefreshToken)
+                .filter(verified -> verified.getId() != null
+                        && verified.get("role") != null
+                        && verified.get("userId") != null)
+                .orElse(null);
+        if (claims == null) {
             return Mono.error(new BadCredentialsException("Refresh token invalide"));
         }
 
-        String email = jwtUtil.extractEmail(refreshToken);
-        
-        return userRepository.findByEmail(email)
-                .switchIfEmpty(Mono.error(new UsernameNotFoundException("Utilisateur non trouvé")))
-                .filter(user -> user.getStatut() == UserStatus.ACTIVE)
-                .switchIfEmpty(Mono.error(new BadCredentialsException("Compte désactivé")))
-                .flatMap(user -> 
-                    determineUserRole(user).map(role -> new Object[] { user, role })
-                )
-                .map(data -> {
-                    User user = (User) ((Object[]) data)[0];
-                    String role = (String) ((Object[]) data)[1];
-                    String newToken = jwtUtil.generateToken(user.getEmail(), role, user.getId());
-                    String newRefreshToken = jwtUtil.generateRefreshToken(user.getEmail());
-                    
-                    return new AuthResponse(
-                            newToken,
-                            newRefreshToken,
-                            jwtUtil.getExpirationTime(),
-                            user.getEmail(),
-                            role,
-                            user.getId()
-                    );
+        String email = claims.getSubject();
+        String role = claims.get("role", String.class);
+        Long userId = claims.get("userId", Long.class);
+
+        return tokenRevocationService.consumeRefreshToken(claims)
+                .flatMap(consumed -> {
+                    if (!consumed) {
+                        return Mono.error(new BadCredentialsException("Refresh token révoqué"));
+                    }
+                    return identityCache.findUserForAuthentication(email)
+                            .filter(user -> user.getId().equals(userId) && user.getStatut() == UserStatus.ACTIVE)
+                            .switchIfEmpty(Mono.error(new BadCredentialsException("Compte désactivé")))
+                            .map(user -> new AuthResponse(
+                                    jwtUtil.generateToken(email, role, userId),
+                                    jwtUtil.generateRefreshToken(email, role, userId),
+                                    jwtUtil.getExpirationTime(),
+                                    email,
+                                    role,
+                                    userId
+                            ));
                 });
     }
 
@@ -0,0 +1,246 @@
+package com.iiil.tutoring.service;
+
+import com.iiil.tutoring.entity.Matiere;
+import com.iiil.tutoring.repository.MatiereRepository;
+import com.iiil.tutoring.service.search.MatiereAutocompleteIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory copy of the matière catalogue (a few hundred rows that change once a term), indexed
+ * by id and name and sorted by name. It is loaded when the application is ready, reloaded after
+ * every create, update or delete through {@link MatiereService}, and periodically to pick up
+ * changes made by other nodes. Until the first load, reads go to the database.
+ * <p>
+ * Each snapshot carries a version stamp computed from the ids and entity versions of the
+ * matières, identical on every node for the same catalogue, which the API exposes as an ETag,
+ * and a {@link MatiereAutocompleteIndex} ranking the matières by number of sessions, refreshed
+ * with the catalogue. Cached instances are shared: callers must not modify them.
+ */
+@Component
+public class MatiereCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(MatiereCatalog.class);
+
+    private final MatiereRepository matiereRepository;
+
+    private volatile Snapshot snapshot;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong reloads = new AtomicLong();
+
+    @Autowired
+    public MatiereCatalog(MatiereRepository matiereRepository) {
+        this.matiereRepository = matiereRepository;
+    }
+
+    // ===============================================
+    // LOADING
+    // ===============================================
+
+    /**
+     * Load the catalogue once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * Reload the catalogue in the background
+     */
+    @Scheduled(fixedDelayString = "${tutoring.matieres.refresh-interval-ms:300000}",
+            initialDelayString = "${tutoring.matieres.refresh-interval-ms:300000}")
+    public void refresh() {
+        reload().subscribe();
+    }
+
+    /**
+     * Reload the catalogue from the database. Never fails: an error keeps the previous snapshot.
+     */
+    public Mono<Void> reload() {
+        return Mono.zip(matiereRepository.findAll().collectList(),
+                        matiereRepository.findIdsByPopularity().collectList())
+                .doOnNext(loaded -> {
+                    snapshot = new Snapshot(loaded.getT1(), loaded.getT2());
+                    reloads.incrementAndGet();
+                    log.debug("Loaded {} matière(s) in the catalogue, version {}", loaded.getT1().size(), snapshot.versionStamp);
+                })
+                .onErrorResume(error -> {
+                    log.warn("Failed to load the matière catalogue: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    // ===============================================
+    // READS
+    // ===============================================
+
+    /**
+     * Find a matière by id
+     */
+    public Mono<Matiere> findById(Long id) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            misses.incrementAndGet();
+            return matiereRepository.findById(id);
+        }
+        hits.incrementAndGet();
+        return Mono.justOrEmpty(current.byId.get(id));
+    }
+
+    /**
+     * Find a matière by exact name
+     */
+    public Mono<Matiere> findByNom(String nom) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            misses.incrementAndGet();
+            return matiereRepository.findByNom(nom);
+        }
+        hits.incrementAndGet();
+        return Mono.justOrEmpty(current.byNom.get(nom));
+    }
+
+    /**
+     * All matières, sorted by name
+     */
+    public Flux<Matiere> findAll() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            misses.incrementAndGet();
+            return matiereRepository.findAll().sort(Snapshot.BY_NOM);
+        }
+        hits.incrementAndGet();
+        return Flux.fromIterable(current.sorted);
+    }
+
+    /**
+     * The {@code limit} most booked matières whose name or domain words start with the words of
+     * the query, accents and case ignored
+     */
+    public Flux<Matiere> autocomplete(String query, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            misses.incrementAndGet();
+            String pattern = "%" + (query != null ? query.trim() : "") + "%";
+            return matiereRepository.findBySearchPattern(pattern).take(limit);
+        }
+        hits.incrementAndGet();
+        return Flux.fromIterable(current.autocomplete.complete(query, limit));
+    }
+
+    /**
+     * Version stamp of the catalogue as a quoted HTTP entity tag
+     */
+    public String getETag() {
+        Snapshot current = snapshot;
+        return current != null ? "\"" + Long.toHexString(current.versionStamp) + "\"" : null;
+    }
+
+    // ===============================================
+    // SNAPSHOT
+    // ===============================================
+
+    private static final class Snapshot {
+
+        private static final Comparator<Matiere> BY_NOM = Comparator
+                .comparing(Matiere::getNom, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                .thenComparing(Matiere::getId);
+
+        private final Map<Long, Matiere> byId;
+        private final Map<String, Matiere> byNom;
+        private final List<Matiere> sorted;
+        private final MatiereAutocompleteIndex autocomplete;
+        private final long versionStamp;
+
+        private Snapshot(List<Matiere> matieres, List<Long> idsByPopularity) {
+            Map<Long, Matiere> ids = new HashMap<>(matieres.size() * 2);
+            Map<String, Matiere> noms = new HashMap<>(matieres.size() * 2);
+            for (Matiere matiere : matieres) {
+                ids.put(matiere.getId(), matiere);
+                if (matiere.getNom() != null) {
+                    noms.put(matiere.getNom(), matiere);
+                }
+            }
+            List<Matiere> byName = new ArrayList<>(matieres);
+            byName.sort(BY_NOM);
+
+            // order-independent stamp of the (id, version) pairs
+            long stamp = matieres.size();
+            for (Matiere matiere : matieres) {
+                long version = matiere.getVersion() != null ? matiere.getVersion() : 0L;
+                stamp += mix(matiere.getId() * 0x9E3779B97F4A7C15L + version);
+            }
+
+            this.byId = ids;
+            this.byNom = noms;
+            this.sorted = Collections.unmodifiableList(byName);
+            this.autocomplete = MatiereAutocompleteIndex.build(byPopularity(ids, byName, idsByPopularity));
+            this.versionStamp = stamp;
+        }
+
+        // matières created between the two queries come last, by name
+        private static List<Matiere> byPopularity(Map<Long, Matiere> ids, List<Matiere> byName, List<Long> idsByPopularity) {
+            Set<Long> ordered = new HashSet<>();
+            List<Matiere> result = new ArrayList<>(byName.size());
+            for (Long id : idsByPopularity) {
+                Matiere matiere = ids.get(id);
+                if (matiere != null && ordered.add(id)) {
+                    result.add(matiere);
+                }
+            }
+            for (Matiere matiere : byName) {
+                if (ordered.add(matiere.getId())) {
+                    result.add(matiere);
+                }
+            }
+            return result;
+        }
+
+        // 64-bit finalizer of SplitMix64
+        private static long mix(long value) {
+            long z = value;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+
+    // ===============================================
+    // METRICS
+    // ===============================================
+
+    public int getSize() {
+        Snapshot current = snapshot;
+        return current != null ? current.sorted.size() : 0;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getReloads() {
+        return reloads.get();
+    }
+}
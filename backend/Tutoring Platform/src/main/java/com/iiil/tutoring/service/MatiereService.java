@@ -1,6 +1,7 @@
 package com.iiil.tutoring.service;
 
 import com.iiil.tutoring.entity.Matiere;
+import com.iiil.tutoring.repository.MatiereListingRepository;
 import com.iiil.tutoring.repository.MatiereRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -8,16 +9,26 @@ import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
 /**
- * Service for managing subjects (matieres)
+ * Service for managing subjects (matieres). Reads are served by the in-memory
+ * {@link MatiereCatalog}, which every write reloads.
  */
 @Service
 @Transactional
 public class MatiereService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_AUTOCOMPLETE_RESULTS = 20;
+
     @Autowired
     private MatiereRepository matiereRepository;
 
+    @Autowired
+    private MatiereCatalog catalog;
+
     /**
      * Create a new subject
      */
@@ -30,14 +41,15 @@ public class MatiereService {
                         return Mono.error(new IllegalArgumentException("Une matière avec ce nom existe déjà"));
                     }
                     return matiereRepository.save(matiere);
-                });
+                })
+                .flatMap(saved -> catalog.reload().thenReturn(saved));
     }
 
     /**
      * Get subject by ID
      */
     public Mono<Matiere> getMatiereById(Long id) {
-        return matiereRepository.findById(id)
+        return catalog.findById(id)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Matière non trouvée avec l'ID: " + id)));
     }
 
@@ -45,7 +57,7 @@ public class MatiereService {
      * Get all subjects
      */
     public Flux<Matiere> getAllMatieres() {
-        return matiereRepository.findAll();
+        return catalog.findAll();
     }
 
     /**
@@ -68,7 +80,8 @@ public class MatiereService {
                     } else {
                         return updateMatiereFields(existingMatiere, matiere);
                     }
-                });
+                })
+                .flatMap(saved -> catalog.reload().thenReturn(saved));
     }
 
     /**
@@ -77,7 +90,8 @@ public class MatiereService {
     public Mono<Void> deleteMatiere(Long id) {
         return matiereRepository.findById(id)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Matière non trouvée avec l'ID: " + id)))
-                .flatMap(matiere -> matiereRepository.delete(matiere));
+                .flatMap(matiere -> matiereRepository.delete(matiere))
+                .then(catalog.reload());
     }
 
     /**
@@ -88,46 +102,57 @@ public class MatiereService {
         return matiereRepository.findBySearchPattern(pattern);
     }
 
+    /**
+     * Suggest subjects for a partial input, most booked first, from the in-memory catalogue
+     */
+    public Flux<Matiere> autocompleteMatieres(String query, int limit) {
+        return catalog.autocomplete(query, Math.max(1, Math.min(limit, MAX_AUTOCOMPLETE_RESULTS)));
+    }
+
     /**
      * Get subjects by domain
      */
     public Flux<Matiere> getMatieresByDomaine(String domaine) {
-        return matiereRepository.findByDomaine(domaine);
+        return catalog.findAll().filter(matiere -> Objects.equals(matiere.getDomaine(), domaine));
     }
 
     /**
      * Get subjects by academic level
      */
     public Flux<Matiere> getMatieresByNiveau(String niveau) {
-        return matiereRepository.findByNiveau(niveau);
+        return catalog.findAll().filter(matiere -> Objects.equals(matiere.getNiveau(), niveau));
     }
 
     /**
      * Get subjects by domain and level
      */
     public Flux<Matiere> getMatieresByDomaineAndNiveau(String domaine, String niveau) {
-        return matiereRepository.findByDomaineAndNiveau(domaine, niveau);
+        return catalog.findAll().filter(matiere -> Objects.equals(matiere.getDomaine(), domaine)
+                && Objects.equals(matiere.getNiveau(), niveau));
     }
 
     /**
      * Get all available domains
      */
     public Flux<String> getAllDomaines() {
-        return matiereRepository.findAllDomaines();
+        return catalog.findAll()
+                .mapNotNull(Matiere::getDomaine)
+                .distinct()
+                .sort();
     }
 
     /**
      * Count subjects by domain
      */
     public Mono<Long> countMatieresByDomaine(String domaine) {
-        return matiereRepository.countByDomaine(domaine);
+        return getMatieresByDomaine(domaine).count();
     }
 
     /**
      * Check if subject exists by name
      */
     public Mono<Boolean> existsByNom(String nom) {
-        return matiereRepository.findByNom(nom).hasElement();
+        return catalog.findByNom(nom).hasElement();
     }
 
     /**
@@ -143,31 +168,48 @@ public class MatiereService {
     }
 
     /**
-     * Bulk create subjects
+     * Bulk create subjects in one statement. Names repeated in the list keep their first
+     * occurrence, and names already in the catalogue are skipped.
+     *
+     * @return the created subjects
      */
     public Flux<Matiere> createMatieres(Flux<Matiere> matieres) {
         return matieres
-                .flatMap(matiere -> createMatiere(matiere)
-                        .onErrorResume(error -> {
-                            // Log error and continue with next matiere
-                            System.err.println("Erreur lors de la création de la matière: " + matiere.getNom() + " - " + error.getMessage());
-                            return Mono.empty();
-                        }));
+                .collect(LinkedHashMap<String, Matiere>::new, (byNom, matiere) -> byNom.putIfAbsent(matiere.getNom(), matiere))
+                .flatMapMany(byNom -> matiereRepository.insertIgnoringExisting(byNom.values()))
+                .collectList()
+                .flatMapMany(created -> catalog.reload().thenMany(Flux.fromIterable(created)));
     }
 
     /**
-     * Get subjects with pagination
+     * Get one page of subjects, sorted and filtered in the database
+     *
+     * @param sortBy        nom (default), domaine, niveau or date
+     * @param sortDirection asc (default) or desc
      */
-    public Flux<Matiere> getMatieresPaginated(int page, int size) {
-        return matiereRepository.findAll()
-                .skip((long) page * size)
-                .take(size);
+    public Mono<MatiereListingRepository.MatierePage> getMatieresPaginated(String domaine, String niveau,
+                                                                           String sortBy, String sortDirection,
+                                                                           int page, int size) {
+        return Mono.defer(() -> {
+            MatiereListingRepository.SortField sortField = MatiereListingRepository.SortField.fromParameter(sortBy);
+            boolean ascending = sortDirection == null || !sortDirection.equalsIgnoreCase("desc");
+            int safePage = Math.max(0, page);
+            int safeSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            return matiereRepository.findPage(domaine, niveau, sortField, ascending, (long) safePage * safeSize, safeSize);
+        });
     }
 
     /**
      * Count total subjects
      */
     public Mono<Long> countAllMatieres() {
-        return matiereRepository.count();
+        return catalog.findAll().count();
+    }
+
+    /**
+     * Version stamp of the catalogue, as an HTTP entity tag (null until the catalogue is loaded)
+     */
+    public String getCatalogETag() {
+        return catalog.getETag();
     }
 }
\ No newline at end of file
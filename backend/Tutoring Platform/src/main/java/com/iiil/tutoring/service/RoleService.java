@@ -4,6 +4,7 @@ import com.iiil.tutoring.entity.Role;
 import com.iiil.tutoring.entity.UserRole;
 import com.iiil.tutoring.repository.RoleRepository;
 import com.iiil.tutoring.repository.UserRoleRepository;
+import com.iiil.tutoring.security.TokenRevocationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +24,12 @@ public class RoleService {
     @Autowired
     private UserRoleRepository userRoleRepository;
 
+    @Autowired
+    private UserIdentityCache identityCache;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     /**
      * Initialize default roles if they don't exist
      */
@@ -70,30 +77,35 @@ public class RoleService {
                                     return userRoleRepository.save(userRole);
                                 }
                             })
-                );
+                )
+                .doFinally(signal -> identityCache.invalidateUser(userId));
     }
 
     /**
-     * Get all roles for a user
+     * Get all roles for a user (served from the identity cache)
      */
     public Flux<Role> getUserRoles(Long userId) {
-        return userRoleRepository.findByUserId(userId)
-                .flatMap(userRole -> roleRepository.findById(userRole.getRoleId()));
+        return identityCache.getUserRoles(userId)
+                .flatMapIterable(roles -> roles);
     }
 
     /**
-     * Remove a role from a user
+     * Remove a role from a user. Tokens already issued carry the old role, so they are revoked.
      */
     public Mono<Void> removeRoleFromUser(Long userId, com.iiil.tutoring.enums.UserRole roleEnum) {
         return getRoleByName(roleEnum)
-                .flatMap(role -> userRoleRepository.deleteByUserIdAndRoleId(userId, role.getId()));
+                .flatMap(role -> userRoleRepository.deleteByUserIdAndRoleId(userId, role.getId()))
+                .then(tokenRevocationService.revokeUser(userId))
+                .doFinally(signal -> identityCache.invalidateUser(userId));
     }
 
     /**
      * Remove all roles from a user
      */
     public Mono<Void> removeAllUserRoles(Long userId) {
-        return userRoleRepository.deleteByUserId(userId);
+        return userRoleRepository.deleteByUserId(userId)
+                .then(tokenRevocationService.revokeUser(userId))
+                .doFinally(signal -> identityCache.invalidateUser(userId));
     }
 
     /**
@@ -12,15 +12,33 @@ import com.iiil.tutoring.repository.UserRoleRepository;
 import com.iiil.tutoring.repository.RoleRepository;
 import com.iiil.tutoring.repository.TutorSpecialiteRepository;
 import com.iiil.tutoring.repository.MatiereRepository;
+import com.iiil.tutoring.repository.TutorListingRepository;
+import com.iiil.tutoring.repository.TutorListingRepository.ListingCursor;
+import com.iiil.tutoring.repository.TutorListingRepository.ListingOrder;
+import com.iiil.tutoring.repository.TutorListingRepository.TutorListingQuery;
+import com.iiil.tutoring.repository.TutorTextSearchRepository;
+import com.iiil.tutoring.security.PasswordHashingService;
+import com.iiil.tutoring.service.ranking.TutorRankingService;
+import com.iiil.tutoring.service.recommendation.TutorRecommender;
+import com.iiil.tutoring.service.search.TutorSearchIndex;
+import com.iiil.tutoring.util.GeoUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 /**
@@ -51,7 +69,25 @@ public class TutorService {
     private MatiereRepository matiereRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private MatiereCatalog matiereCatalog;
+
+    @Autowired
+    private PasswordHashingService passwordHashing;
+
+    @Autowired
+    private TutorSearchIndex searchIndex;
+
+    @Autowired
+    private TutorRankingService rankingService;
+
+    @Autowired
+    private TutorRecommender recommender;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_KEYWORD_LENGTH = 200;
+    private static final int MAX_LISTING_PAGE_SIZE = 100;
+    // above this many changed tutors an import rebuilds the search index instead of refreshing each tutor
+    private static final int MAX_INDEX_REFRESHES = 20;
 
     // === REGISTRATION AND PROFILE MANAGEMENT ===
 
@@ -62,13 +98,15 @@ public class TutorService {
         log.info("Registering new tutor with email: {}", request.getEmail());
         
         return checkEmailAvailability(request.getEmail())
-                .then(Mono.defer(() -> {
+                .then(validateMatieres(request.getSpecialiteIds() != null ? request.getSpecialiteIds() : List.of()))
+                .then(passwordHashing.encode(request.getMotDePasse()))
+                .flatMap(encodedPassword -> {
                     // Step 1: Create User first
                     User user = new User(
                         request.getNom(),
                         request.getPrenom(),
                         request.getEmail(),
-                        passwordEncoder.encode(request.getMotDePasse())
+                        encodedPassword
                     );
                     user.setTelephone(request.getTelephone());
                     user.setStatut(UserStatus.ACTIVE);
@@ -99,6 +137,7 @@ public class TutorService {
                                             tutor.setDescription(request.getDescription());
                                             tutor.setVille(request.getVille());
                                             tutor.setPays(request.getPays());
+                                            applyCoordinates(tutor, request.getLatitude(), request.getLongitude());
                                             
                                             if (request.getCoursEnLigne() != null) {
                                                 tutor.setCoursEnLigne(request.getCoursEnLigne());
@@ -112,24 +151,18 @@ public class TutorService {
                                                     .flatMap(savedTutor -> {
                                                         log.info("Created tutor with ID: {}", savedTutor.getId());
                                                         
-                                                        // Step 6: Save tutor specialities
+                                                        // Step 6: Save tutor specialities (validated above) in one statement
                                                         if (request.getSpecialiteIds() != null && !request.getSpecialiteIds().isEmpty()) {
-                                                            return Flux.fromIterable(request.getSpecialiteIds())
-                                                                    .flatMap(matiereId -> 
-                                                                        // Validate that matiere exists
-                                                                        matiereRepository.findById(matiereId)
-                                                                            .switchIfEmpty(Mono.error(new IllegalArgumentException(
-                                                                                "Matière introuvable avec l'ID: " + matiereId)))
-                                                                            .map(matiere -> new TutorSpecialite(savedTutor.getId(), matiereId))
-                                                                    )
-                                                                    .flatMap(tutorSpecialiteRepository::save)
+                                                            return tutorSpecialiteRepository
+                                                                    .replaceSpecialites(Map.of(savedTutor.getId(), request.getSpecialiteIds()))
                                                                     .then(Mono.just(savedTutor));
                                                         }
                                                         return Mono.just(savedTutor);
                                                     });
                                         });
                             });
-                }))
+                })
+                .flatMap(tutor -> searchIndex.refreshTutor(tutor.getId()).thenReturn(tutor))
                 .doOnSuccess(tutor -> log.info("Successfully registered tutor with ID: {}", tutor.getId()))
                 .doOnError(error -> log.error("Failed to register tutor: {}", error.getMessage(), error));
     }
@@ -176,17 +209,16 @@ public class TutorService {
                     updateTutorFromRequest(tutor, request)
                             .then(tutorRepository.save(tutor))
                             .flatMap(savedTutor -> {
-                                // Update specialties if provided
+                                // Update specialties if provided: only the differences are written
                                 if (request.getSpecialiteIds() != null) {
-                                    return tutorSpecialiteRepository.deleteByTutorId(id)
-                                            .then(Flux.fromIterable(request.getSpecialiteIds())
-                                                    .map(matiereId -> new TutorSpecialite(id, matiereId))
-                                                    .flatMap(tutorSpecialiteRepository::save)
-                                                    .then(Mono.just(savedTutor)));
+                                    return validateMatieres(request.getSpecialiteIds())
+                                            .thenMany(tutorSpecialiteRepository.replaceSpecialites(Map.of(id, request.getSpecialiteIds())))
+                                            .then(Mono.just(savedTutor));
                                 }
                                 return Mono.just(savedTutor);
                             })
                 )
+                .flatMap(tutor -> searchIndex.refreshTutor(id).thenReturn(tutor))
                 .flatMap(tutor -> userRepository.findById(tutor.getId())
                         .map(user -> new TutorProfileResponse(tutor, user)))
                 .doOnSuccess(response -> log.info("Successfully updated tutor profile: {}", id))
@@ -213,103 +245,259 @@ public class TutorService {
                                 return tutorRepository.save(tutor);
                             }));
                 })
-                .then()
+                .then(searchIndex.refreshTutor(id))
                 .doOnSuccess(v -> log.info("Successfully deleted tutor: {}", id));
     }
 
     // === SEARCH AND FILTERING ===
 
     /**
-     * Get all active tutors
+     * Get a page of active tutors, most recent first
      */
-    public Flux<TutorSummaryResponse> getAllActiveTutors() {
-        log.debug("Fetching all active tutors");
-        return tutorRepository.findActiveTutors()
-                .flatMap(this::createTutorSummaryResponse);
+    public Mono<TutorPageResponse> getAllActiveTutors(String cursor, int size) {
+        log.debug("Fetching active tutors after cursor {}", cursor);
+        return listTutors(new TutorListingQuery(ListingOrder.RECENT), cursor, size);
     }
 
     /**
-     * Get available tutors for booking
+     * Get a page of tutors available for booking, best rated first
      */
-    public Flux<TutorSummaryResponse> getAvailableTutors() {
-        log.debug("Fetching available tutors");
-        return tutorRepository.findAvailableTutors()
-                .flatMap(this::toTutorSummaryResponse);
+    public Mono<TutorPageResponse> getAvailableTutors(String cursor, int size) {
+        log.debug("Fetching available tutors after cursor {}", cursor);
+        return listTutors(new TutorListingQuery(ListingOrder.RATING).availableOnly(), cursor, size);
     }
 
     /**
-     * Get verified tutors
+     * Get a page of verified tutors, best rated first
      */
-    public Flux<TutorSummaryResponse> getVerifiedTutors() {
-        log.debug("Fetching verified tutors");
-        return tutorRepository.findVerifiedTutors()
-                .flatMap(this::toTutorSummaryResponse);
+    public Mono<TutorPageResponse> getVerifiedTutors(String cursor, int size) {
+        log.debug("Fetching verified tutors after cursor {}", cursor);
+        return listTutors(new TutorListingQuery(ListingOrder.RATING).verifiedOnly(), cursor, size);
     }
 
     /**
-     * Search tutors by keyword
+     * Search tutors by keyword, ordered by relevance. Full-text (French stemming, accents ignored)
+     * over name, specialties, diplomas and description, with typo tolerance on name, specialties
+     * and diplomas. Without a keyword, returns a page of all active tutors.
      */
-    public Flux<TutorSummaryResponse> searchTutors(String keyword) {
-        log.debug("Searching tutors with keyword: {}", keyword);
+    public Mono<TutorSearchResponse> searchTutors(String keyword, int page, int size) {
+        log.debug("Searching tutors with keyword: {} (page {}, size {})", keyword, page, size);
+        int safePage = Math.max(0, page);
+        int safeSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        long offset = (long) safePage * safeSize;
+
         if (keyword == null || keyword.trim().isEmpty()) {
-            return getAllActiveTutors();
+            TutorSearchRequest allTutors = new TutorSearchRequest();
+            allTutors.setPage(safePage);
+            allTutors.setSize(safeSize);
+            return searchTutorsWithFilters(allTutors);
         }
-        return tutorRepository.searchByKeyword(keyword.trim())
-                .flatMap(this::toTutorSummaryResponse);
+
+        String query = keyword.trim().length() > MAX_KEYWORD_LENGTH
+                ? keyword.trim().substring(0, MAX_KEYWORD_LENGTH)
+                : keyword.trim();
+        return tutorRepository.searchByText(query, safeSize, offset)
+                .collectList()
+                .flatMap(hits -> {
+                    // A page past the last match carries no count
+                    Mono<Long> total = !hits.isEmpty() ? Mono.just(hits.get(0).getTotalHits())
+                            : offset == 0 ? Mono.just(0L)
+                            : tutorRepository.countByText(query);
+                    return total.map(totalHits -> new TutorSearchResponse(
+                            hits.stream().map(this::toTutorSummaryResponse).collect(Collectors.toList()),
+                            totalHits,
+                            safePage,
+                            safeSize,
+                            Map.of()));
+                });
     }
 
     /**
-     * Advanced search with filters
+     * Advanced search with filters, answered from the in-memory search index with facet counts.
+     * Falls back to the database (without facets) until the index has been loaded.
+     * <p>
+     * With a latitude, longitude and radius, only the tutors located within the radius match,
+     * nearest first unless another sort is requested, and each result carries its distance.
      */
-    public Flux<TutorSummaryResponse> searchTutorsWithFilters(TutorSearchRequest searchRequest) {
+    public Mono<TutorSearchResponse> searchTutorsWithFilters(TutorSearchRequest searchRequest) {
         log.debug("Advanced search with filters: {}", searchRequest);
-        
-        return tutorRepository.findWithFilters(
+
+        if (searchRequest.isGeoSearch() && (searchRequest.getLatitude() == null
+                || searchRequest.getLongitude() == null || searchRequest.getRadiusKm() == null)) {
+            return Mono.error(new IllegalArgumentException(
+                    "La latitude, la longitude et le rayon sont requis pour une recherche par distance"));
+        }
+
+        if (!searchIndex.isLoaded()) {
+            int page = searchRequest.getPage() != null ? Math.max(0, searchRequest.getPage()) : 0;
+            int size = searchRequest.getSize() != null ? Math.max(1, searchRequest.getSize()) : 20;
+            if (searchRequest.isGeoSearch()) {
+                return searchNearbyInDatabase(searchRequest, page, size);
+            }
+            return tutorRepository.findWithFilters(
+                    searchRequest.getMatiereId(),
+                    searchRequest.getVille(),
+                    searchRequest.getMinTarif(),
+                    searchRequest.getMaxTarif(),
+                    searchRequest.getMinRating(),
+                    Boolean.TRUE.equals(searchRequest.getVerifiedOnly()),
+                    Boolean.TRUE.equals(searchRequest.getOnlineOnly()),
+                    Boolean.TRUE.equals(searchRequest.getInPersonOnly())
+            ).flatMapSequential(this::toTutorSummaryResponse)
+                    .collectList()
+                    .map(tutors -> new TutorSearchResponse(
+                            tutors.stream().skip((long) page * size).limit(size).collect(Collectors.toList()),
+                            (long) tutors.size(), page, size, Map.of()));
+        }
+
+        return Mono.fromCallable(() -> searchIndex.search(searchRequest))
+                .map(result -> new TutorSearchResponse(
+                        result.getTutors().stream()
+                                .map(document -> {
+                                    TutorSummaryResponse response = new TutorSummaryResponse(document.getTutor(),
+                                            document.getFullName(), String.join(", ", document.getMatiereNoms()));
+                                    Double distance = result.getDistancesKm().get(document.getId());
+                                    response.setDistanceKm(distance != null ? roundDistance(distance) : null);
+                                    return response;
+                                })
+                                .collect(Collectors.toList()),
+                        result.getTotal(),
+                        result.getPage(),
+                        result.getSize(),
+                        result.getFacets().entrySet().stream()
+                                .collect(Collectors.toMap(Map.Entry::getKey, entry -> toFacetCounts(entry.getValue()),
+                                        (first, second) -> first, LinkedHashMap::new))));
+    }
+
+    // radius search before the index is loaded: bounding box in SQL, exact distance and order here
+    private Mono<TutorSearchResponse> searchNearbyInDatabase(TutorSearchRequest searchRequest, int page, int size) {
+        double latitude = searchRequest.getLatitude();
+        double longitude = searchRequest.getLongitude();
+        double[] box = GeoUtil.boundingBox(latitude, longitude, searchRequest.getRadiusKm());
+        return tutorRepository.findWithFiltersInBox(
+                box[0], box[1], box[2], box[3],
                 searchRequest.getMatiereId(),
                 searchRequest.getVille(),
                 searchRequest.getMinTarif(),
                 searchRequest.getMaxTarif(),
                 searchRequest.getMinRating(),
-                searchRequest.getVerifiedOnly(),
-                searchRequest.getOnlineOnly(),
-                searchRequest.getInPersonOnly()
-        ).flatMap(this::toTutorSummaryResponse);
+                Boolean.TRUE.equals(searchRequest.getVerifiedOnly()),
+                Boolean.TRUE.equals(searchRequest.getOnlineOnly()),
+                Boolean.TRUE.equals(searchRequest.getInPersonOnly())
+        ).filter(tutor -> distanceFrom(tutor, latitude, longitude) <= searchRequest.getRadiusKm())
+                .collectSortedList(Comparator.comparingDouble((Tutor tutor) -> distanceFrom(tutor, latitude, longitude))
+                        .thenComparing(Tutor::getId))
+                .flatMap(tutors -> Flux.fromIterable(tutors)
+                        .skip((long) page * size)
+                        .take(size)
+                        .flatMapSequential(tutor -> toTutorSummaryResponse(tutor)
+                                .doOnNext(response -> response.setDistanceKm(roundDistance(distanceFrom(tutor, latitude, longitude)))))
+                        .collectList()
+                        .map(pageTutors -> new TutorSearchResponse(pageTutors, (long) tutors.size(), page, size, Map.of())));
+    }
+
+    private static double distanceFrom(Tutor tutor, double latitude, double longitude) {
+        return GeoUtil.distanceKm(latitude, longitude, tutor.getLatitude(), tutor.getLongitude());
+    }
+
+    private static double roundDistance(double distanceKm) {
+        return Math.round(distanceKm * 100) / 100.0;
+    }
+
+    // coordinates are set together or not at all
+    private static void applyCoordinates(Tutor tutor, Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("La latitude et la longitude doivent être fournies ensemble");
+        }
+        tutor.setLatitude(latitude);
+        tutor.setLongitude(longitude);
+    }
+
+    private List<TutorSearchResponse.FacetCount> toFacetCounts(List<TutorSearchIndex.FacetCount> counts) {
+        return counts.stream()
+                .map(count -> new TutorSearchResponse.FacetCount(count.getValue(), count.getLabel(), count.getCount()))
+                .collect(Collectors.toList());
     }
 
     /**
-     * Get tutors by specialty (matiere ID)
+     * Get a page of tutors teaching a matière, best rated first
      */
-    public Flux<TutorSummaryResponse> getTutorsBySpecialty(Long matiereId) {
+    public Mono<TutorPageResponse> getTutorsBySpecialty(Long matiereId, String cursor, int size) {
         log.debug("Fetching tutors by matiere ID: {}", matiereId);
-        return tutorRepository.findByMatiereId(matiereId)
-                .flatMap(this::toTutorSummaryResponse);
+        return listTutors(new TutorListingQuery(ListingOrder.RATING).matiereId(matiereId), cursor, size);
     }
 
     /**
-     * Get tutors by location
+     * Get a page of tutors in a city, best rated first
      */
-    public Flux<TutorSummaryResponse> getTutorsByLocation(String ville) {
+    public Mono<TutorPageResponse> getTutorsByLocation(String ville, String cursor, int size) {
         log.debug("Fetching tutors by city: {}", ville);
-        return tutorRepository.findByVille(ville)
-                .flatMap(this::toTutorSummaryResponse);
+        return listTutors(new TutorListingQuery(ListingOrder.RATING).ville(ville), cursor, size);
     }
 
     /**
-     * Get tutors by hourly rate range
+     * Get a page of tutors within an hourly rate range, cheapest first
      */
-    public Flux<TutorSummaryResponse> getTutorsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+    public Mono<TutorPageResponse> getTutorsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, String cursor, int size) {
         log.debug("Fetching tutors by price range: {} - {}", minPrice, maxPrice);
-        return tutorRepository.findByTarifHoraireBetween(minPrice, maxPrice)
-                .flatMap(this::toTutorSummaryResponse);
+        return listTutors(new TutorListingQuery(ListingOrder.PRICE).tarifBetween(minPrice, maxPrice), cursor, size);
     }
 
     /**
-     * Get top-rated tutors
+     * Tutors recommended to a student from their session and evaluation history, best first
      */
-    public Flux<TutorSummaryResponse> getTopRatedTutors(int limit) {
-        log.debug("Fetching top {} rated tutors", limit);
-        return tutorRepository.getTopRatedTutors(limit)
-                .flatMap(this::toTutorSummaryResponse);
+    public Flux<TutorSummaryResponse> getRecommendedTutors(Long studentId, int limit) {
+        log.debug("Fetching {} recommended tutors for student {}", limit, studentId);
+        int n = Math.max(1, Math.min(limit, MAX_LISTING_PAGE_SIZE));
+        return Mono.fromCallable(() -> recommender.recommend(studentId, n))
+                .flatMapIterable(tutorIds -> tutorIds)
+                .mapNotNull(searchIndex::getDocument)
+                .map(document -> new TutorSummaryResponse(document.getTutor(), document.getFullName(),
+                        String.join(", ", document.getMatiereNoms())));
+    }
+
+    /**
+     * Get top-ranked tutors, overall or for one matière, by ranking score (Bayesian average of
+     * the ratings). Read from the in-memory leaderboard; until it is loaded, falls back to the
+     * database ordered by average rating with at least 5 evaluations.
+     */
+    public Flux<TutorSummaryResponse> getTopRatedTutors(int limit, Long matiereId) {
+        log.debug("Fetching top {} rated tutors (matiere {})", limit, matiereId);
+        int k = Math.max(1, Math.min(limit, MAX_LISTING_PAGE_SIZE));
+        if (searchIndex.isLoaded()) {
+            return Flux.fromIterable(searchIndex.topRated(matiereId, k))
+                    .map(document -> new TutorSummaryResponse(document.getTutor(), document.getFullName(),
+                            String.join(", ", document.getMatiereNoms())));
+        }
+        return tutorRepository.findSummaryPage(new TutorListingQuery(ListingOrder.RATING).minEvaluations(5).matiereId(matiereId), k)
+                .map(this::toTutorSummaryResponse);
+    }
+
+    /**
+     * Load one keyset page of a listing. One extra row is read to know whether a next page
+     * exists; its cursor is returned only in that case.
+     */
+    private Mono<TutorPageResponse> listTutors(TutorListingQuery query, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_LISTING_PAGE_SIZE));
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                query.after(ListingCursor.decode(cursor, query.getOrder()));
+            } catch (IllegalArgumentException e) {
+                return Mono.error(e);
+            }
+        }
+        return tutorRepository.findSummaryPage(query, pageSize + 1)
+                .collectList()
+                .map(rows -> {
+                    boolean hasNext = rows.size() > pageSize;
+                    List<TutorListingRepository.TutorSummaryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+                    String nextCursor = hasNext
+                            ? ListingCursor.of(query.getOrder(), page.get(page.size() - 1).getTutor()).encode()
+                            : null;
+                    return new TutorPageResponse(
+                            page.stream().map(this::toTutorSummaryResponse).collect(Collectors.toList()),
+                            nextCursor);
+                });
     }
 
     // === ADMINISTRATION ===
@@ -325,6 +513,7 @@ public class TutorService {
                     tutor.verify();
                     return tutorRepository.save(tutor);
                 })
+                .flatMap(tutor -> searchIndex.refreshTutor(id).thenReturn(tutor))
                 .flatMap(tutor -> userRepository.findById(tutor.getId())
                         .map(user -> new TutorProfileResponse(tutor, user)))
                 .doOnSuccess(response -> log.info("Successfully verified tutor: {}", id));
@@ -341,6 +530,7 @@ public class TutorService {
                     tutor.unverify();
                     return tutorRepository.save(tutor);
                 })
+                .flatMap(tutor -> searchIndex.refreshTutor(id).thenReturn(tutor))
                 .flatMap(tutor -> userRepository.findById(tutor.getId())
                         .map(user -> new TutorProfileResponse(tutor, user)))
                 .doOnSuccess(response -> log.info("Successfully unverified tutor: {}", id));
@@ -357,21 +547,21 @@ public class TutorService {
                     tutor.setAvailability(available);
                     return tutorRepository.save(tutor);
                 })
+                .flatMap(tutor -> searchIndex.refreshTutor(id).thenReturn(tutor))
                 .flatMap(tutor -> userRepository.findById(tutor.getId())
                         .map(user -> new TutorProfileResponse(tutor, user)));
     }
 
     /**
-     * Update tutor rating (called after new evaluation)
+     * Add a rating to a tutor (evaluations are recorded automatically by EvaluationService)
      */
     public Mono<TutorProfileResponse> updateTutorRating(Long id, BigDecimal newRating) {
         log.info("Updating tutor rating for ID {}: {}", id, newRating);
         
         return getTutorById(id)
-                .flatMap(tutor -> {
-                    tutor.updateRating(newRating);
-                    return tutorRepository.save(tutor);
-                })
+                .flatMap(tutor -> rankingService.recordRating(id, newRating))
+                // Re-read the tutor: the rating columns are computed by the database
+                .then(Mono.defer(() -> getTutorById(id)))
                 .flatMap(tutor -> userRepository.findById(tutor.getId())
                         .map(user -> new TutorProfileResponse(tutor, user)))
                 .doOnSuccess(response -> log.info("Updated rating for tutor {}", id));
@@ -443,7 +633,8 @@ public class TutorService {
     public Mono<TutorSpecialiteDTO> addTutorSpeciality(Long tutorId, Long matiereId) {
         log.info("Adding specialty matière {} to tutor {}", matiereId, tutorId);
         
-        return tutorSpecialiteRepository.existsByTutorIdAndMatiereId(tutorId, matiereId)
+        return validateMatieres(List.of(matiereId))
+                .then(tutorSpecialiteRepository.existsByTutorIdAndMatiereId(tutorId, matiereId))
                 .flatMap(exists -> {
                     if (exists) {
                         return Mono.error(new IllegalArgumentException("Cette spécialité existe déjà pour ce tuteur"));
@@ -451,6 +642,7 @@ public class TutorService {
                     
                     TutorSpecialite specialite = new TutorSpecialite(tutorId, matiereId);
                     return tutorSpecialiteRepository.save(specialite)
+                            .flatMap(saved -> searchIndex.refreshTutor(tutorId).thenReturn(saved))
                             .flatMap(this::mapToSpecialiteDTO);
                 });
     }
@@ -461,11 +653,83 @@ public class TutorService {
     public Mono<Void> removeTutorSpeciality(Long tutorId, Long matiereId) {
         log.info("Removing specialty matière {} from tutor {}", matiereId, tutorId);
         
-        return tutorSpecialiteRepository.findByTutorId(tutorId)
-                .filter(specialite -> specialite.getMatiereId().equals(matiereId))
-                .next()
-                .flatMap(tutorSpecialiteRepository::delete)
-                .then();
+        return tutorSpecialiteRepository.deleteByTutorIdAndMatiereId(tutorId, matiereId)
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.error(new IllegalArgumentException("Spécialité introuvable pour ce tuteur"))
+                        : searchIndex.refreshTutor(tutorId));
+    }
+
+    /**
+     * Replace the specialties of many tutors at once (catalogue imports). Tutors and matières are
+     * each validated in one query, then one statement inserts and deletes only the differences.
+     * The whole import is rejected if one id is unknown.
+     */
+    public Mono<TutorSpecialitesImportResponse> importTutorSpecialities(TutorSpecialitesImportRequest request) {
+        // a tutor listed twice gets the union of its lists
+        Map<Long, Set<Long>> matiereIdsByTutor = new LinkedHashMap<>();
+        Set<Long> allMatiereIds = new LinkedHashSet<>();
+        for (TutorSpecialitesImportRequest.TutorSpecialites entry : request.getTutors()) {
+            matiereIdsByTutor.computeIfAbsent(entry.getTutorId(), tutorId -> new LinkedHashSet<>())
+                    .addAll(entry.getSpecialiteIds());
+            allMatiereIds.addAll(entry.getSpecialiteIds());
+        }
+        log.info("Importing specialties of {} tutor(s)", matiereIdsByTutor.size());
+
+        return validateTutors(matiereIdsByTutor.keySet())
+                .then(validateMatieres(allMatiereIds))
+                .thenMany(tutorSpecialiteRepository.replaceSpecialites(matiereIdsByTutor))
+                .collectList()
+                .flatMap(changes -> {
+                    List<Long> changedTutors = changes.stream()
+                            .filter(TutorSpecialiteRepository.SpecialiteChanges::isChanged)
+                            .map(TutorSpecialiteRepository.SpecialiteChanges::getTutorId)
+                            .collect(Collectors.toList());
+                    TutorSpecialitesImportResponse response = new TutorSpecialitesImportResponse(
+                            matiereIdsByTutor.size(),
+                            changedTutors.size(),
+                            changes.stream().mapToLong(TutorSpecialiteRepository.SpecialiteChanges::getInserted).sum(),
+                            changes.stream().mapToLong(TutorSpecialiteRepository.SpecialiteChanges::getDeleted).sum());
+                    if (changedTutors.size() > MAX_INDEX_REFRESHES) {
+                        searchIndex.rebuild();
+                        return Mono.just(response);
+                    }
+                    return Flux.fromIterable(changedTutors)
+                            .concatMap(searchIndex::refreshTutor)
+                            .then(Mono.just(response));
+                })
+                .doOnSuccess(response -> log.info("Imported specialties: {} tutor(s) changed, {} added, {} removed",
+                        response.getChangedTutors(), response.getSpecialitesAdded(), response.getSpecialitesRemoved()));
+    }
+
+    /**
+     * Check in one query that every matière id exists
+     */
+    private Mono<Void> validateMatieres(Collection<Long> matiereIds) {
+        return validateIds(matiereIds, matiereRepository::findExistingIds, "Matière(s) introuvable(s) avec l'ID: ");
+    }
+
+    /**
+     * Check in one query that every tutor id exists
+     */
+    private Mono<Void> validateTutors(Collection<Long> tutorIds) {
+        return validateIds(tutorIds, tutorRepository::findExistingIds, "Tuteur(s) non trouvé(s) avec l'ID: ");
+    }
+
+    private static Mono<Void> validateIds(Collection<Long> ids, Function<Long[], Flux<Long>> findExisting,
+                                          String message) {
+        Set<Long> missing = new LinkedHashSet<>(ids);
+        if (missing.contains(null)) {
+            return Mono.error(new IllegalArgumentException(message + "null"));
+        }
+        if (missing.isEmpty()) {
+            return Mono.empty();
+        }
+        return findExisting.apply(missing.toArray(new Long[0]))
+                .doOnNext(missing::remove)
+                .then(Mono.defer(() -> missing.isEmpty()
+                        ? Mono.<Void>empty()
+                        : Mono.error(new IllegalArgumentException(message + missing.stream()
+                                .map(String::valueOf).collect(Collectors.joining(", "))))));
     }
 
     // === UTILITIES ===
@@ -495,6 +759,9 @@ public class TutorService {
         if (request.getDescription() != null) tutor.setDescription(request.getDescription());
         if (request.getVille() != null) tutor.setVille(request.getVille());
         if (request.getPays() != null) tutor.setPays(request.getPays());
+        if (request.getLatitude() != null || request.getLongitude() != null) {
+            applyCoordinates(tutor, request.getLatitude(), request.getLongitude());
+        }
         
         if (request.getCoursEnLigne() != null || request.getCoursPresentiel() != null) {
             boolean onlineValue = request.getCoursEnLigne() != null ? request.getCoursEnLigne() : tutor.getCoursEnLigne();
@@ -520,7 +787,7 @@ public class TutorService {
      * Map TutorSpecialite entity to DTO with matière information
      */
     private Mono<TutorSpecialiteDTO> mapToSpecialiteDTO(TutorSpecialite specialite) {
-        return matiereRepository.findById(specialite.getMatiereId())
+        return matiereCatalog.findById(specialite.getMatiereId())
                 .map(matiere -> new TutorSpecialiteDTO(
                         specialite.getId(),
                         specialite.getTutorId(),
@@ -541,21 +808,21 @@ public class TutorService {
     }
 
     /**
-     * Create TutorSummaryResponse with specialties populated
+     * Convert a keyword search hit to TutorSummaryResponse, with specialties from the search index
      */
-    private Mono<TutorSummaryResponse> createTutorSummaryResponse(com.iiil.tutoring.entity.Tutor tutor) {
-        return userRepository.findById(tutor.getId())
-                .flatMap(user -> {
-                    TutorSummaryResponse response = new TutorSummaryResponse(tutor, user);
-                    
-                    return tutorSpecialiteRepository.findByTutorId(tutor.getId())
-                            .flatMap(specialite -> matiereRepository.findById(specialite.getMatiereId())
-                                    .map(matiere -> matiere.getNom()))
-                            .collectList()
-                            .map(specialiteNames -> {
-                                response.setSpecialites(String.join(", ", specialiteNames));
-                                return response;
-                            });
-                });
+    private TutorSummaryResponse toTutorSummaryResponse(TutorTextSearchRepository.TutorSearchHit hit) {
+        TutorSearchIndex.TutorDocument document = searchIndex.getDocument(hit.getTutor().getId());
+        TutorSummaryResponse response = new TutorSummaryResponse(hit.getTutor(), hit.getPrenom() + " " + hit.getNom(),
+                document != null ? String.join(", ", document.getMatiereNoms()) : null);
+        response.setScore(hit.getScore());
+        return response;
+    }
+
+    /**
+     * Convert a listing row (tutor, user name and specialties from one query) to TutorSummaryResponse
+     */
+    private TutorSummaryResponse toTutorSummaryResponse(TutorListingRepository.TutorSummaryRow row) {
+        return new TutorSummaryResponse(row.getTutor(), row.getPrenom() + " " + row.getNom(),
+                row.getSpecialites() != null ? row.getSpecialites() : "");
     }
 }
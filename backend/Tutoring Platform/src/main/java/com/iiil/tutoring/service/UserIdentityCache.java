@@ -0,0 +1,129 @@
+package com.iiil.tutoring.service;
+
+import com.iiil.tutoring.entity.Role;
+import com.iiil.tutoring.entity.User;
+import com.iiil.tutoring.repository.RoleRepository;
+import com.iiil.tutoring.repository.UserRepository;
+import com.iiil.tutoring.repository.UserRoleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache of role assignments (by user id) used on the authentication path: login, token refresh
+ * and user details lookup. Concurrent lookups of the same user share a single database query, so
+ * an authentication burst costs one role query per user. Entries expire after a short TTL and are
+ * invalidated explicitly whenever a role assignment, status or password changes, and when a user
+ * revocation recorded by another node is synced.
+ * <p>
+ * Users themselves are not cached: a credential check needs the current status and password hash,
+ * and {@link #findUserForAuthentication} reads them with the single query it would cost anyway.
+ */
+@Component
+public class UserIdentityCache {
+
+    private final UserRepository userRepository;
+    private final UserRoleRepository userRoleRepository;
+    private final RoleRepository roleRepository;
+
+    private final BoundedCache<Long, List<Role>> rolesByUserId;
+
+    @Autowired
+    public UserIdentityCache(UserRepository userRepository,
+                             UserRoleRepository userRoleRepository,
+                             RoleRepository roleRepository,
+                             @Value("${tutoring.auth-cache.ttl-seconds:300}") long ttlSeconds,
+                             @Value("${tutoring.auth-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.userRoleRepository = userRoleRepository;
+        this.roleRepository = roleRepository;
+        this.rolesByUserId = new BoundedCache<>(Duration.ofSeconds(ttlSeconds), maxEntries);
+    }
+
+    /**
+     * Find a user by email for a credential check, always from the database so that a status or
+     * password change made on another node is seen at once
+     */
+    public Mono<User> findUserForAuthentication(String email) {
+        return userRepository.findByEmail(email);
+    }
+
+    /**
+     * Get the roles assigned to a user, from the cache when possible
+     */
+    public Mono<List<Role>> getUserRoles(Long userId) {
+        return rolesByUserId.get(userId, key -> userRoleRepository.findByUserId(key)
+                .concatMap(userRole -> roleRepository.findById(userRole.getRoleId()))
+                .collectList());
+    }
+
+    /**
+     * Drop the cached roles of a user
+     */
+    public void invalidateUser(Long userId) {
+        rolesByUserId.invalidate(userId);
+    }
+
+    public long getHits() {
+        return rolesByUserId.hits.get();
+    }
+
+    public long getMisses() {
+        return rolesByUserId.misses.get();
+    }
+
+    /**
+     * Map of keys to cached Monos: a value is kept for the TTL, errors and empty results are not kept
+     */
+    private static final class BoundedCache<K, V> {
+        private final ConcurrentHashMap<K, Mono<V>> entries = new ConcurrentHashMap<>();
+        private final Duration ttl;
+        private final int maxEntries;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+
+        private BoundedCache(Duration ttl, int maxEntries) {
+            this.ttl = ttl;
+            this.maxEntries = maxEntries;
+        }
+
+        private Mono<V> get(K key, Function<K, Mono<V>> loader) {
+            Mono<V> cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            misses.incrementAndGet();
+            if (entries.size() >= maxEntries) {
+                evict();
+            }
+            Mono<V> loading = entries.computeIfAbsent(key, k -> loader.apply(k)
+                    .doOnError(error -> entries.remove(k))
+                    .cache(value -> ttl, error -> Duration.ZERO, () -> Duration.ZERO));
+            return loading;
+        }
+
+        private void invalidate(K key) {
+            entries.remove(key);
+        }
+
+        // Drop a tenth of the entries; expired ones reload on their next access anyway
+        private void evict() {
+            int toRemove = Math.max(1, maxEntries / 10);
+            Iterator<Map.Entry<K, Mono<V>>> iterator = entries.entrySet().iterator();
+            while (toRemove-- > 0 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -12,8 +12,11 @@ import com.iiil.tutoring.repository.EtudiantRepository;
 
 import com.iiil.tutoring.repository.AdminRepository;
 import com.iiil.tutoring.enums.UserStatus;
+import com.iiil.tutoring.security.PasswordHashingService;
+import com.iiil.tutoring.security.TokenRevocationService;
+import com.iiil.tutoring.service.search.TutorSearchIndex;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -43,7 +46,19 @@ public class UserService {
     private RoleService roleService;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashing;
+
+    @Autowired
+    private UserIdentityCache identityCache;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private TutorSearchIndex tutorSearchIndex;
+
+    @Value("${tutoring.users.listing.page-size:500}")
+    private int listingPageSize;
 
     /**
      * Create a new student user
@@ -132,34 +147,62 @@ public class UserService {
         return roleService.getUserRoles(user.getId())
                 .map(role -> role.getNom().getValue())
                 .collectList()
-                .map(roles -> {
-                    String primaryRole = roles.isEmpty() ? "USER" : roles.get(0);
-                    String userType = determineUserType(user);
-                    
-                    return new UserWithRolesDTO(
-                            user.getId(),
-                            user.getNom(),
-                            user.getPrenom(),
-                            user.getEmail(),
-                            user.getTelephone(),
-                            user.getStatut(),
-                            user.getPhoto(),
-                            user.getDateInscription(),
-                            roles,
-                            primaryRole,
-                            userType,
-                            user.getCreatedAt(),
-                            user.getUpdatedAt()
-                    );
-                });
+                .map(roles -> toUserWithRolesDTO(user, roles));
+    }
+
+    private UserWithRolesDTO toUserWithRolesDTO(User user, List<String> roles) {
+        String primaryRole = roles.isEmpty() ? "USER" : roles.get(0);
+        String userType = determineUserType(user);
+
+        return new UserWithRolesDTO(
+                user.getId(),
+                user.getNom(),
+                user.getPrenom(),
+                user.getEmail(),
+                user.getTelephone(),
+                user.getStatut(),
+                user.getPhoto(),
+                user.getDateInscription(),
+                roles,
+                primaryRole,
+                userType,
+                user.getCreatedAt(),
+                user.getUpdatedAt()
+        );
     }
 
     /**
      * Get all users with role information
      */
     public Flux<UserWithRolesDTO> getAllUsersWithRoles() {
-        return userRepository.findAll()
-                .flatMap(this::convertToUserWithRolesDTO);
+        return streamUsersWithRoles(null);
+    }
+
+    /**
+     * Stream users with their roles page by page: each page of {@code listingPageSize} users is
+     * loaded with its roles in a single query, and the next page starts after the last id
+     * (keyset pagination), so memory stays bounded whatever the number of users
+     *
+     * @param statut optional status filter, null for all users
+     */
+    public Flux<UserWithRolesDTO> streamUsersWithRoles(UserStatus statut) {
+        return userRepository.findPageWithRoles(0L, statut, listingPageSize)
+                .collectList()
+                .expand(page -> page.size() < listingPageSize
+                        ? Mono.empty()
+                        : userRepository.findPageWithRoles(page.get(page.size() - 1).getUser().getId(), statut, listingPageSize)
+                                .collectList())
+                .concatMapIterable(page -> page)
+                .map(row -> toUserWithRolesDTO(row.getUser(), row.getRoles()));
+    }
+
+    /**
+     * Get one page of users with their roles, starting after {@code afterId}
+     */
+    public Flux<UserWithRolesDTO> getUsersWithRolesPage(Long afterId, int size, UserStatus statut) {
+        int limit = Math.max(1, Math.min(size, listingPageSize));
+        return userRepository.findPageWithRoles(afterId, statut, limit)
+                .map(row -> toUserWithRolesDTO(row.getUser(), row.getRoles()));
     }
 
     /**
@@ -171,7 +214,7 @@ public class UserService {
     }
 
     /**
-     * Block a user (set status to SUSPENDED)
+     * Block a user (set status to SUSPENDED) and revoke all of their tokens
      */
     public Mono<User> blockUser(Long userId, String reason) {
         return userRepository.findById(userId)
@@ -180,6 +223,9 @@ public class UserService {
                     user.setStatut(UserStatus.SUSPENDED);
                     return userRepository.save(user);
                 })
+                .flatMap(user -> tokenRevocationService.revokeUser(userId).thenReturn(user))
+                .flatMap(user -> tutorSearchIndex.refreshTutor(userId).thenReturn(user))
+                .doFinally(signal -> identityCache.invalidateUser(userId))
                 .doOnSuccess(user -> System.out.println("✅ User " + userId + " has been blocked. Reason: " + reason))
                 .doOnError(error -> System.err.println("❌ Failed to block user " + userId + ": " + error.getMessage()));
     }
@@ -194,6 +240,8 @@ public class UserService {
                     user.setStatut(UserStatus.ACTIVE);
                     return userRepository.save(user);
                 })
+                .flatMap(user -> tutorSearchIndex.refreshTutor(userId).thenReturn(user))
+                .doFinally(signal -> identityCache.invalidateUser(userId))
                 .doOnSuccess(user -> System.out.println("✅ User " + userId + " has been unblocked. Reason: " + reason))
                 .doOnError(error -> System.err.println("❌ Failed to unblock user " + userId + ": " + error.getMessage()));
     }
@@ -230,6 +278,13 @@ public class UserService {
                         return updateUserFields(existingUser, updateRequest);
                     }
                 })
+                // A status change away from ACTIVE (e.g. suspension) revokes the user's tokens like blockUser
+                .flatMap(user -> user.getStatut() != UserStatus.ACTIVE
+                        ? tokenRevocationService.revokeUser(userId).thenReturn(user)
+                        : Mono.just(user))
+                // Name and status are indexed for tutor search
+                .flatMap(user -> tutorSearchIndex.refreshTutor(userId).thenReturn(user))
+                .doFinally(signal -> identityCache.invalidateUser(userId))
                 .doOnSuccess(user -> System.out.println("✅ User " + userId + " has been updated successfully"))
                 .doOnError(error -> System.err.println("❌ Error updating user " + userId + ": " + error.getMessage()));
     }
@@ -293,24 +348,31 @@ public class UserService {
 
         return userRepository.findById(userId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Utilisateur non trouvé")))
-                .flatMap(user -> {
-                    // Verify current password
-                    if (!passwordEncoder.matches(request.getCurrentPassword(), user.getMotDePasse())) {
-                        return Mono.just(PasswordUpdateResponse.failure("Le mot de passe actuel est incorrect"));
-                    }
-
-                    // Check if new password is different from current password
-                    if (passwordEncoder.matches(request.getNewPassword(), user.getMotDePasse())) {
-                        return Mono.just(PasswordUpdateResponse.failure("Le nouveau mot de passe doit être différent de l'ancien"));
-                    }
-
-                    // Encode and update password
-                    user.setMotDePasse(passwordEncoder.encode(request.getNewPassword()));
-                    
-                    return userRepository.save(user)
-                            .map(savedUser -> PasswordUpdateResponse.success("Mot de passe mis à jour avec succès"))
-                            .onErrorReturn(PasswordUpdateResponse.failure("Erreur lors de la mise à jour du mot de passe"));
-                })
+                .flatMap(user -> passwordHashing.matches(request.getCurrentPassword(), user.getMotDePasse())
+                        .flatMap(currentMatches -> {
+                            // Verify current password
+                            if (!currentMatches) {
+                                return Mono.just(PasswordUpdateResponse.failure("Le mot de passe actuel est incorrect"));
+                            }
+
+                            // Check if new password is different from current password
+                            return passwordHashing.matches(request.getNewPassword(), user.getMotDePasse())
+                                    .flatMap(unchanged -> {
+                                        if (unchanged) {
+                                            return Mono.just(PasswordUpdateResponse.failure("Le nouveau mot de passe doit être différent de l'ancien"));
+                                        }
+
+                                        // Encode and update password
+                                        return passwordHashing.encode(request.getNewPassword())
+                                                .flatMap(encodedPassword -> {
+                                                    user.setMotDePasse(encodedPassword);
+                                                    return userRepository.save(user)
+                                                            .doFinally(signal -> identityCache.invalidateUser(userId))
+                                                            .map(savedUser -> PasswordUpdateResponse.success("Mot de passe mis à jour avec succès"))
+                                                            .onErrorReturn(PasswordUpdateResponse.failure("Erreur lors de la mise à jour du mot de passe"));
+                                                });
+                                    });
+                        }))
                 .onErrorReturn(throwable -> {
                     if (throwable instanceof RuntimeException && throwable.getMessage().equals("Utilisateur non trouvé")) {
                         return true;
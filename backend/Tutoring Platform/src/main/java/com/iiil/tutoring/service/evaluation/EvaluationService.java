@@ -11,11 +11,15 @@ import com.iiil.tutoring.enums.SessionStatus;
 import com.iiil.tutoring.repository.EvaluationRepository;
 import com.iiil.tutoring.repository.SessionRepository;
 import com.iiil.tutoring.repository.UserRepository;
+import com.iiil.tutoring.service.ranking.TutorRankingService;
+import com.iiil.tutoring.service.recommendation.TutorRecommender;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -34,9 +38,16 @@ public class EvaluationService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TutorRankingService rankingService;
+
+    @Autowired
+    private TutorRecommender recommender;
+
     /**
-     * Create a new evaluation
+     * Create a new evaluation. A rating of a tutor is added to the tutor's aggregate.
      */
+    @Transactional
     public Mono<EvaluationResponseDTO> createEvaluation(CreateEvaluationDTO createDto) {
         return validateEvaluationCreation(createDto)
                 .flatMap(validation -> {
@@ -63,12 +74,18 @@ public class EvaluationService {
 
                     return evaluationRepository.save(evaluation);
                 })
+                .flatMap(saved -> isTutorRating(saved)
+                        ? rankingService.recordRating(saved.getEvalueId(), BigDecimal.valueOf(saved.getNote()))
+                                .then(recommender.refreshStudent(saved.getEvaluateurId()))
+                                .thenReturn(saved)
+                        : Mono.just(saved))
                 .flatMap(this::convertToResponseDTO);
     }
 
     /**
-     * Update an existing evaluation
+     * Update an existing evaluation. A changed rating of a tutor is applied to the tutor's aggregate.
      */
+    @Transactional
     public Mono<EvaluationResponseDTO> updateEvaluation(Long evaluationId, CreateEvaluationDTO updateDto) {
         return evaluationRepository.findById(evaluationId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Évaluation non trouvée")))
@@ -79,6 +96,7 @@ public class EvaluationService {
                     }
 
                     // Update fields
+                    int previousNote = evaluation.getNote();
                     evaluation.setNote(updateDto.getNote());
                     evaluation.setCommentaire(updateDto.getCommentaire());
                     evaluation.setDate(LocalDateTime.now()); // Update timestamp
@@ -91,7 +109,13 @@ public class EvaluationService {
                     evaluation.setPatience(updateDto.getPatience());
                     evaluation.setRecommanderais(updateDto.getRecommanderais());
 
-                    return evaluationRepository.save(evaluation);
+                    return evaluationRepository.save(evaluation)
+                            .flatMap(saved -> isTutorRating(saved)
+                                    ? rankingService.changeRating(saved.getEvalueId(),
+                                            BigDecimal.valueOf(previousNote), BigDecimal.valueOf(saved.getNote()))
+                                            .then(recommender.refreshStudent(saved.getEvaluateurId()))
+                                            .thenReturn(saved)
+                                    : Mono.just(saved));
                 })
                 .flatMap(this::convertToResponseDTO);
     }
@@ -198,8 +222,10 @@ public class EvaluationService {
     }
 
     /**
-     * Delete evaluation (only by evaluator within time limit)
+     * Delete evaluation (only by evaluator within time limit). A rating of a tutor is withdrawn
+     * from the tutor's aggregate.
      */
+    @Transactional
     public Mono<Void> deleteEvaluation(Long evaluationId, Long evaluatorId) {
         return evaluationRepository.findById(evaluationId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Évaluation non trouvée")))
@@ -214,10 +240,21 @@ public class EvaluationService {
                         return Mono.error(new IllegalArgumentException("Délai de suppression dépassé"));
                     }
 
-                    return evaluationRepository.delete(evaluation);
+                    return evaluationRepository.delete(evaluation)
+                            .then(isTutorRating(evaluation)
+                                    ? rankingService.removeRating(evaluation.getEvalueId(), BigDecimal.valueOf(evaluation.getNote()))
+                                            .then(recommender.refreshStudent(evaluation.getEvaluateurId()))
+                                    : Mono.empty());
                 });
     }
 
+    /**
+     * Whether an evaluation is a student's rating of a tutor
+     */
+    private boolean isTutorRating(Evaluation evaluation) {
+        return evaluation.getTypeEvaluation() == EvaluationType.ETUDIANT_VERS_TUTEUR;
+    }
+
     /**
      * Get average rating for a user
      */
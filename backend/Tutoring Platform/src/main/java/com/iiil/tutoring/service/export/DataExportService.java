@@ -0,0 +1,222 @@
+package com.iiil.tutoring.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streaming exports of large tables as NDJSON or CSV. Rows are read through a database cursor
+ * (R2DBC fetch size), encoded a chunk at a time and written as the client consumes them:
+ * demand from the HTTP response propagates back to the cursor, so memory stays constant
+ * whatever the number of rows.
+ */
+@Service
+public class DataExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(DataExportService.class);
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${tutoring.exports.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${tutoring.exports.rows-per-chunk:500}")
+    private int rowsPerChunk;
+
+    private final AtomicLong exportsStarted = new AtomicLong();
+    private final AtomicLong exportsCompleted = new AtomicLong();
+    private final AtomicLong rowsExported = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    @Autowired
+    public DataExportService(DatabaseClient databaseClient, ObjectMapper objectMapper) {
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Stream a dataset as encoded buffers, optionally gzip-compressed
+     *
+     * @param from optional lower bound (inclusive) on the dataset date column
+     * @param to   optional upper bound (exclusive) on the dataset date column
+     */
+    public Flux<DataBuffer> export(ExportDataset dataset, ExportFormat format,
+                                   LocalDateTime from, LocalDateTime to,
+                                   boolean gzip, DataBufferFactory bufferFactory) {
+        return Flux.defer(() -> {
+            exportsStarted.incrementAndGet();
+            long startedAt = System.currentTimeMillis();
+
+            Flux<byte[]> chunks = streamRows(dataset, from, to)
+                    .buffer(rowsPerChunk)
+                    .map(rows -> {
+                        rowsExported.addAndGet(rows.size());
+                        return format == ExportFormat.CSV ? encodeCsv(rows) : encodeNdjson(dataset, rows);
+                    });
+            if (format == ExportFormat.CSV) {
+                chunks = Flux.concat(Mono.fromCallable(() -> csvHeader(dataset)), chunks);
+            }
+            if (gzip) {
+                Flux<byte[]> plain = chunks;
+                chunks = Flux.using(GzipChunkEncoder::new,
+                        encoder -> plain.map(encoder::encode).concatWith(Mono.fromCallable(encoder::finish)),
+                        GzipChunkEncoder::close);
+            }
+
+            return chunks
+                    .filter(bytes -> bytes.length > 0)
+                    .doOnNext(bytes -> bytesWritten.addAndGet(bytes.length))
+                    .map(bufferFactory::wrap)
+                    .doOnComplete(() -> {
+                        exportsCompleted.incrementAndGet();
+                        log.info("Exported {} as {} in {} ms", dataset, format, System.currentTimeMillis() - startedAt);
+                    })
+                    .doOnCancel(() -> log.info("Export of {} cancelled by the client", dataset));
+        });
+    }
+
+    // ===============================================
+    // QUERY
+    // ===============================================
+
+    private Flux<List<Object>> streamRows(ExportDataset dataset, LocalDateTime from, LocalDateTime to) {
+        List<String> columns = dataset.getColumns();
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(String.join(", ", columns))
+                .append(" FROM ").append(dataset.getTable())
+                .append(" WHERE 1 = 1");
+        if (from != null) {
+            sql.append(" AND ").append(dataset.getDateColumn()).append(" >= :from");
+        }
+        if (to != null) {
+            sql.append(" AND ").append(dataset.getDateColumn()).append(" < :to");
+        }
+        sql.append(" ORDER BY id");
+
+        // The fetch size makes the driver page through a cursor instead of buffering the result
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .filter(statement -> statement.fetchSize(fetchSize));
+        if (from != null) {
+            spec = spec.bind("from", from);
+        }
+        if (to != null) {
+            spec = spec.bind("to", to);
+        }
+
+        return spec.map((row, metadata) -> {
+                    List<Object> values = new ArrayList<>(columns.size());
+                    for (String column : columns) {
+                        values.add(row.get(column));
+                    }
+                    return values;
+                })
+                .all();
+    }
+
+    // ===============================================
+    // ENCODING
+    // ===============================================
+
+    private byte[] encodeNdjson(ExportDataset dataset, List<List<Object>> rows) {
+        List<String> columns = dataset.getColumns();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(rows.size() * 256);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.setRootValueSeparator(null);
+            for (List<Object> row : rows) {
+                generator.writeStartObject();
+                for (int i = 0; i < columns.size(); i++) {
+                    generator.writeFieldName(columns.get(i));
+                    generator.writeObject(row.get(i));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private byte[] csvHeader(ExportDataset dataset) {
+        return (String.join(",", dataset.getColumns()) + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] encodeCsv(List<List<Object>> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 128);
+        for (List<Object> row : rows) {
+            for (int i = 0; i < row.size(); i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                appendCsvValue(csv, row.get(i));
+            }
+            csv.append("\r\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // RFC 4180 quoting; text starting with a formula character is prefixed so spreadsheets do not evaluate it
+    private static void appendCsvValue(StringBuilder csv, Object value) {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (value instanceof CharSequence && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            csv.append(text);
+            return;
+        }
+        csv.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        csv.append('"');
+    }
+
+    // ===============================================
+    // METRICS
+    // ===============================================
+
+    public long getExportsStarted() {
+        return exportsStarted.get();
+    }
+
+    public long getExportsCompleted() {
+        return exportsCompleted.get();
+    }
+
+    public long getRowsExported() {
+        return rowsExported.get();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+}
@@ -0,0 +1,61 @@
+package com.iiil.tutoring.service.export;
+
+import java.util.List;
+
+/**
+ * Tables that can be exported, with the exported columns and the column used for date filters
+ */
+public enum ExportDataset {
+
+    SESSIONS("sessions", "date_heure", List.of(
+            "id", "tuteur_id", "etudiant_id", "matiere_id", "date_heure", "duree", "statut",
+            "prix", "type_session", "created_at")),
+
+    EVALUATIONS("evaluations", "date", List.of(
+            "id", "session_id", "evaluateur_id", "evalue_id", "note", "type_evaluation",
+            "qualite_enseignement", "communication", "ponctualite", "preparation", "patience",
+            "recommanderais", "commentaire", "date")),
+
+    PAIEMENTS("paiements", "date_paiement", List.of(
+            "id", "session_id", "montant", "methode_paiement", "statut",
+            "reference_transaction", "date_paiement", "date_traitement", "commentaires")),
+
+    // Never export password hashes
+    USERS("users", "date_inscription", List.of(
+            "id", "nom", "prenom", "email", "telephone", "statut", "date_inscription", "created_at"));
+
+    private final String table;
+    private final String dateColumn;
+    private final List<String> columns;
+
+    ExportDataset(String table, String dateColumn, List<String> columns) {
+        this.table = table;
+        this.dateColumn = dateColumn;
+        this.columns = columns;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getDateColumn() {
+        return dateColumn;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public String getFileName() {
+        return name().toLowerCase();
+    }
+
+    public static ExportDataset fromValue(String value) {
+        for (ExportDataset dataset : values()) {
+            if (dataset.name().equalsIgnoreCase(value)) {
+                return dataset;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export dataset: " + value);
+    }
+}
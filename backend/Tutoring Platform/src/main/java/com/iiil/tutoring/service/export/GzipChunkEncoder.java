@@ -0,0 +1,65 @@
+package com.iiil.tutoring.service.export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Incremental gzip encoder: each chunk is compressed and sync-flushed on its own, so a
+ * streamed export can be compressed without holding the whole payload in memory. One
+ * instance per response; not thread-safe.
+ */
+class GzipChunkEncoder implements AutoCloseable {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(8192);
+    private final GZIPOutputStream gzip;
+
+    GzipChunkEncoder() {
+        try {
+            this.gzip = new GZIPOutputStream(output, 8192, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Compress a chunk; the returned bytes include the gzip header on the first call
+     */
+    byte[] encode(byte[] chunk) {
+        try {
+            gzip.write(chunk);
+            gzip.flush();
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Finish the stream and return the remaining bytes (gzip trailer)
+     */
+    byte[] finish() {
+        try {
+            gzip.finish();
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] drain() {
+        byte[] bytes = output.toByteArray();
+        output.reset();
+        return bytes;
+    }
+
+    @Override
+    public void close() {
+        try {
+            gzip.close();
+        } catch (IOException ignored) {
+            // Nothing left to release
+        }
+    }
+}
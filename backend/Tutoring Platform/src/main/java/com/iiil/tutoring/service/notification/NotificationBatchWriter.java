@@ -0,0 +1,122 @@
+package com.iiil.tutoring.service.notification;
+
+import com.iiil.tutoring.entity.Notification;
+import com.iiil.tutoring.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes notifications in chunks through multi-row INSERT statements instead of one
+ * {@code save} per entity. A broadcast to N recipients costs N / chunk-size round trips.
+ * Each committed chunk is handed to {@link NotificationPushService} for real-time delivery.
+ */
+@Component
+public class NotificationBatchWriter {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationPushService pushService;
+
+    @Value("${tutoring.notifications.batch.chunk-size:500}")
+    private int chunkSize;
+
+    // Throughput metrics
+    private final AtomicLong notificationsWritten = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+    private final AtomicLong failedChunks = new AtomicLong();
+
+    @Autowired
+    public NotificationBatchWriter(NotificationRepository notificationRepository,
+                                   NotificationPushService pushService) {
+        this.notificationRepository = notificationRepository;
+        this.pushService = pushService;
+    }
+
+    /**
+     * Write a stream of notifications, accumulating them into chunks as they arrive
+     */
+    public Flux<Notification> writeAll(Flux<Notification> notifications) {
+        return notifications
+                .buffer(chunkSize)
+                .concatMap(this::writeChunk);
+    }
+
+    /**
+     * Write an already materialized list of notifications
+     */
+    public Flux<Notification> writeAll(List<Notification> notifications) {
+        if (notifications.size() <= chunkSize) {
+            return writeChunk(notifications);
+        }
+        return writeAll(Flux.fromIterable(notifications));
+    }
+
+    /**
+     * Snapshot of the writer throughput since startup
+     */
+    public BatchWriterStats getStats() {
+        return new BatchWriterStats(
+                notificationsWritten.get(),
+                notificationRepository.getStatementsExecuted(),
+                failedChunks.get(),
+                writeNanos.get() / 1_000_000,
+                chunkSize);
+    }
+
+    private Flux<Notification> writeChunk(List<Notification> chunk) {
+        if (chunk.isEmpty()) {
+            return Flux.empty();
+        }
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return notificationRepository.insertAll(chunk)
+                    .collectList()
+                    .doOnError(error -> failedChunks.incrementAndGet())
+                    .flatMapMany(saved -> {
+                        writeNanos.addAndGet(System.nanoTime() - start);
+                        notificationsWritten.addAndGet(saved.size());
+                        return pushService.publish(saved).thenMany(Flux.fromIterable(saved));
+                    });
+        });
+    }
+
+    // ===============================================
+    // INNER CLASSES FOR DATA TRANSFER
+    // ===============================================
+
+    public static class BatchWriterStats {
+        private final long notificationsWritten;
+        private final long statementsExecuted;
+        private final long failedChunks;
+        private final long totalWriteMillis;
+        private final int chunkSize;
+
+        public BatchWriterStats(long notificationsWritten, long statementsExecuted, long failedChunks,
+                                long totalWriteMillis, int chunkSize) {
+            this.notificationsWritten = notificationsWritten;
+            this.statementsExecuted = statementsExecuted;
+            this.failedChunks = failedChunks;
+            this.totalWriteMillis = totalWriteMillis;
+            this.chunkSize = chunkSize;
+        }
+
+        // Getters
+        public long getNotificationsWritten() { return notificationsWritten; }
+        public long getStatementsExecuted() { return statementsExecuted; }
+        public long getFailedChunks() { return failedChunks; }
+        public long getTotalWriteMillis() { return totalWriteMillis; }
+        public int getChunkSize() { return chunkSize; }
+
+        public double getNotificationsPerSecond() {
+            return totalWriteMillis > 0 ? notificationsWritten * 1000.0 / totalWriteMillis : 0.0;
+        }
+
+        public double getAverageRowsPerStatement() {
+            return statementsExecuted > 0 ? (double) notificationsWritten / statementsExecuted : 0.0;
+        }
+    }
+}
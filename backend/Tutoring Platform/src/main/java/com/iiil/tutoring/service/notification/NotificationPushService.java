@@ -0,0 +1,371 @@
+package com.iiil.tutoring.service.notification;
+
+import com.iiil.tutoring.dto.notification.NotificationEventDTO;
+import com.iiil.tutoring.dto.notification.NotificationResponseDTO;
+import com.iiil.tutoring.entity.Notification;
+import com.iiil.tutoring.repository.NotificationRepository;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes newly written notifications to connected users and keeps their unread counts in memory.
+ * Each connected user has a dedicated channel, so publishing is a map lookup rather than a filter
+ * over every open stream. Counts are read from the database when a user connects and whenever
+ * a notification is pushed or marked as read; users without an open stream are not tracked.
+ * <p>
+ * Users are connected to one node only, so every write is also announced on the
+ * {@value #CHANNEL} PostgreSQL channel. Each node LISTENs on it through a dedicated connection
+ * and pushes the announced notifications of its own connected users, whichever node wrote them.
+ */
+@Component
+public class NotificationPushService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationPushService.class);
+
+    static final String CHANNEL = "notification_events";
+
+    // Payload: "<node>:n:<id>,<id>,..." for new notifications, "<node>:r:<userId>" for reads
+    private static final String KIND_NOTIFICATIONS = "n";
+    private static final String KIND_READ = "r";
+
+    // Keeps each payload below the 8000 byte limit of NOTIFY
+    private static final int IDS_PER_MESSAGE = 300;
+
+    private static final String COUNT_UNREAD_BY_USERS = """
+        SELECT user_id, COUNT(*) AS unread
+        FROM notifications
+        WHERE user_id = ANY(:userIds) AND lue = false
+        GROUP BY user_id
+        """;
+
+    private final NotificationRepository notificationRepository;
+    private final DatabaseClient databaseClient;
+
+    // Unpooled factory for the listener, which holds its connection for the lifetime of the node
+    private final ConnectionFactory listenerConnectionFactory;
+    private final boolean fanOut;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final ConcurrentHashMap<Long, UserChannel> channels = new ConcurrentHashMap<>();
+
+    private volatile Disposable listener;
+    private volatile boolean listening;
+    private final AtomicLong remoteMessages = new AtomicLong();
+
+    @Value("${tutoring.notifications.push.heartbeat-seconds:30}")
+    private long heartbeatSeconds;
+
+    @Value("${tutoring.notifications.push.buffer-size:256}")
+    private int bufferSize;
+
+    @Autowired
+    public NotificationPushService(NotificationRepository notificationRepository, DatabaseClient databaseClient) {
+        this.notificationRepository = notificationRepository;
+        this.databaseClient = databaseClient;
+        this.listenerConnectionFactory = unwrap(databaseClient.getConnectionFactory());
+        this.fanOut = listenerConnectionFactory instanceof PostgresqlConnectionFactory;
+    }
+
+    // ===============================================
+    // CONNECTIONS
+    // ===============================================
+
+    /**
+     * Open a notification stream for a user: the current unread count first,
+     * then every new notification, with periodic heartbeats to keep proxies from closing the stream
+     */
+    public Flux<NotificationEventDTO> connect(Long userId) {
+        return Flux.defer(() -> {
+            UserChannel channel = channels.compute(userId, (id, existing) -> {
+                UserChannel current = existing != null ? existing : new UserChannel(bufferSize);
+                current.subscribers++;
+                return current;
+            });
+
+            Mono<NotificationEventDTO> initialCount = notificationRepository.countUnreadByUserId(userId)
+                    .doOnNext(channel.unread::set)
+                    .map(NotificationEventDTO::unreadCount);
+            Flux<NotificationEventDTO> heartbeats = Flux.interval(Duration.ofSeconds(heartbeatSeconds))
+                    .map(tick -> NotificationEventDTO.heartbeat(channel.unread.get()));
+
+            return initialCount
+                    .concatWith(Flux.merge(channel.sink.asFlux(), heartbeats))
+                    .doFinally(signal -> release(userId, channel));
+        });
+    }
+
+    /**
+     * Number of users with at least one open notification stream
+     */
+    public int getConnectedUserCount() {
+        return channels.size();
+    }
+
+    public boolean isConnected(Long userId) {
+        return channels.containsKey(userId);
+    }
+
+    // ===============================================
+    // PUBLISHING
+    // ===============================================
+
+    /**
+     * Deliver freshly persisted notifications to their recipients connected here, and announce
+     * them to the other nodes. Failures are logged: the notifications are already stored
+     */
+    public Mono<Void> publish(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return Mono.empty();
+        }
+        return deliver(notifications)
+                .onErrorResume(error -> {
+                    log.warn("Failed to push {} notifications: {}", notifications.size(), error.getMessage());
+                    return Mono.empty();
+                })
+                .then(announceNotifications(notifications));
+    }
+
+    private Mono<Void> deliver(List<Notification> notifications) {
+        Long[] recipients = notifications.stream()
+                .map(Notification::getUserId)
+                .filter(channels::containsKey)
+                .distinct()
+                .toArray(Long[]::new);
+        if (recipients.length == 0) {
+            return Mono.empty();
+        }
+
+        return databaseClient.sql(COUNT_UNREAD_BY_USERS)
+                .bind("userIds", recipients)
+                .map(row -> Map.entry(row.get("user_id", Long.class), row.get("unread", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .doOnNext(counts -> {
+                    for (Notification notification : notifications) {
+                        UserChannel channel = channels.get(notification.getUserId());
+                        if (channel != null) {
+                            long unread = counts.getOrDefault(notification.getUserId(), 0L);
+                            channel.unread.set(unread);
+                            channel.emit(NotificationEventDTO.newNotification(NotificationResponseDTO.fromEntity(notification), unread));
+                        }
+                    }
+                })
+                .then();
+    }
+
+    // ===============================================
+    // UNREAD COUNTS
+    // ===============================================
+
+    /**
+     * In-memory unread count for a connected user, empty if the user has no open stream
+     */
+    public Mono<Long> getTrackedUnreadCount(Long userId) {
+        UserChannel channel = channels.get(userId);
+        return channel != null ? Mono.just(channel.unread.get()) : Mono.empty();
+    }
+
+    /**
+     * Replace the tracked count of a user with the database value and push it
+     */
+    public Mono<Long> reconcile(Long userId) {
+        return notificationRepository.countUnreadByUserId(userId)
+                .doOnNext(count -> {
+                    UserChannel channel = channels.get(userId);
+                    if (channel != null) {
+                        channel.unread.set(count);
+                        channel.emit(NotificationEventDTO.unreadCount(count));
+                    }
+                });
+    }
+
+    /**
+     * Record that notifications of a user were marked as read, here and on the other nodes
+     */
+    public Mono<Void> markedAsRead(Long userId, int count) {
+        if (count <= 0) {
+            return Mono.empty();
+        }
+        return reconcileIfConnected(userId)
+                .onErrorResume(error -> {
+                    log.warn("Failed to refresh unread count of user {}: {}", userId, error.getMessage());
+                    return Mono.empty();
+                })
+                .then(announce(KIND_READ, userId.toString()));
+    }
+
+    private Mono<Void> reconcileIfConnected(Long userId) {
+        return channels.containsKey(userId) ? reconcile(userId).then() : Mono.empty();
+    }
+
+    // ===============================================
+    // CROSS-NODE FAN-OUT
+    // ===============================================
+
+    /**
+     * Start listening to the other nodes once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startListening() {
+        if (!fanOut) {
+            log.info("Notification fan-out disabled: {} does not support LISTEN/NOTIFY",
+                    listenerConnectionFactory.getMetadata().getName());
+            return;
+        }
+        listener = Flux.usingWhen(Mono.from(listenerConnectionFactory.create()),
+                        this::listen,
+                        connection -> Mono.from(connection.close()).doFinally(signal -> listening = false))
+                .doOnError(error -> log.warn("Notification listener interrupted: {}", error.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .concatMap(payload -> onMessage(payload)
+                        .onErrorResume(error -> {
+                            log.warn("Failed to handle notification event {}: {}", payload, error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stopListening() {
+        Disposable current = listener;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Whether this node currently receives the notifications written by the other nodes
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    public long getRemoteMessageCount() {
+        return remoteMessages.get();
+    }
+
+    private Flux<String> listen(Connection connection) {
+        PostgresqlConnection postgres = (PostgresqlConnection) connection;
+        // Counts may have moved while the listener was down
+        Mono<String> subscribe = postgres.createStatement("LISTEN " + CHANNEL).execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .then(Mono.fromRunnable(() -> {
+                    listening = true;
+                    log.info("Listening to notification events as node {}", nodeId);
+                }))
+                .thenMany(Flux.fromIterable(channels.keySet()))
+                .concatMap(userId -> reconcileIfConnected(userId).onErrorResume(error -> Mono.empty()))
+                .then(Mono.<String>empty());
+
+        // Subscribed to the notifications before LISTEN so that no event is missed in between
+        return Flux.merge(postgres.getNotifications().mapNotNull(notification -> notification.getParameter()), subscribe)
+                .concatWith(Mono.error(new IllegalStateException("Notification listener connection closed")));
+    }
+
+    private Mono<Void> onMessage(String payload) {
+        String[] parts = payload.split(":", 3);
+        if (parts.length != 3 || parts[0].equals(nodeId) || channels.isEmpty()) {
+            return Mono.empty();
+        }
+        remoteMessages.incrementAndGet();
+
+        if (KIND_READ.equals(parts[1])) {
+            return reconcileIfConnected(Long.valueOf(parts[2]));
+        }
+        if (KIND_NOTIFICATIONS.equals(parts[1])) {
+            Long[] ids = Arrays.stream(parts[2].split(",")).map(Long::valueOf).toArray(Long[]::new);
+            Long[] connected = channels.keySet().toArray(new Long[0]);
+            return notificationRepository.findByIdsAndUserIds(ids, connected)
+                    .collectList()
+                    .flatMap(this::deliver);
+        }
+        return Mono.empty();
+    }
+
+    private Mono<Void> announceNotifications(List<Notification> notifications) {
+        if (!fanOut) {
+            return Mono.empty();
+        }
+        List<Long> ids = notifications.stream().map(Notification::getId).filter(Objects::nonNull).toList();
+        return Flux.range(0, (ids.size() + IDS_PER_MESSAGE - 1) / IDS_PER_MESSAGE)
+                .concatMap(page -> announce(KIND_NOTIFICATIONS,
+                        ids.subList(page * IDS_PER_MESSAGE, Math.min((page + 1) * IDS_PER_MESSAGE, ids.size())).stream()
+                                .map(String::valueOf)
+                                .collect(Collectors.joining(","))))
+                .then();
+    }
+
+    private Mono<Void> announce(String kind, String data) {
+        if (!fanOut) {
+            return Mono.empty();
+        }
+        return databaseClient.sql("SELECT pg_notify(:channel, :payload)")
+                .bind("channel", CHANNEL)
+                .bind("payload", nodeId + ":" + kind + ":" + data)
+                .then()
+                .onErrorResume(error -> {
+                    log.warn("Failed to announce notification event to the other nodes: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static ConnectionFactory unwrap(ConnectionFactory connectionFactory) {
+        ConnectionFactory current = connectionFactory;
+        while (current instanceof Wrapped<?> wrapped && wrapped.unwrap() instanceof ConnectionFactory delegate) {
+            current = delegate;
+        }
+        return current;
+    }
+
+    private void release(Long userId, UserChannel channel) {
+        channels.computeIfPresent(userId, (id, current) -> {
+            if (current != channel) {
+                return current;
+            }
+            return --current.subscribers == 0 ? null : current;
+        });
+    }
+
+    private static final class UserChannel {
+        private final Sinks.Many<NotificationEventDTO> sink;
+        private final AtomicLong unread = new AtomicLong();
+        private int subscribers; // guarded by ConcurrentHashMap.compute
+
+        private UserChannel(int bufferSize) {
+            this.sink = Sinks.many().multicast().onBackpressureBuffer(bufferSize, false);
+        }
+
+        // Emissions are serialized per user; a client too slow to drain its buffer misses events
+        // until it reconnects or reconciles
+        private synchronized void emit(NotificationEventDTO event) {
+            Sinks.EmitResult result = sink.tryEmitNext(event);
+            if (result.isFailure()) {
+                log.debug("Dropped {} event: {}", event.getType(), result);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.iiil.tutoring.service.notification;
+
+import com.iiil.tutoring.repository.NotificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the notifications table small: read notifications older than the retention period are
+ * moved to {@code notifications_archive}, and archived rows older than the archive retention are
+ * deleted. Both steps run in fixed-size chunks with a pause between chunks and a cap per sweep,
+ * so a large backlog is drained over several sweeps instead of in one long-running statement.
+ */
+@Service
+public class NotificationRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationRetentionService.class);
+
+    private final NotificationRepository notificationRepository;
+
+    @Value("${tutoring.notifications.retention.read-days:30}")
+    private int readRetentionDays;
+
+    @Value("${tutoring.notifications.retention.archive-days:365}")
+    private int archiveRetentionDays;
+
+    @Value("${tutoring.notifications.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${tutoring.notifications.retention.chunk-pause-ms:200}")
+    private long chunkPauseMillis;
+
+    @Value("${tutoring.notifications.retention.max-chunks-per-sweep:500}")
+    private int maxChunksPerSweep;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // Operational metrics
+    private final AtomicLong sweeps = new AtomicLong();
+    private final AtomicLong totalArchived = new AtomicLong();
+    private final AtomicLong totalPurged = new AtomicLong();
+    private final AtomicLong lastSweepDurationMillis = new AtomicLong();
+    private final AtomicReference<LocalDateTime> lastSweepAt = new AtomicReference<>();
+
+    @Autowired
+    public NotificationRetentionService(NotificationRepository notificationRepository) {
+        this.notificationRepository = notificationRepository;
+    }
+
+    @Scheduled(cron = "${tutoring.notifications.retention.cron:0 0 4 * * *}")
+    public void scheduledSweep() {
+        runSweep().subscribe(
+                null,
+                error -> log.error("Notification retention sweep failed: {}", error.getMessage()));
+    }
+
+    /**
+     * Run one retention sweep. Completes empty if a sweep is already running on this node.
+     */
+    public Mono<RetentionSweepResult> runSweep() {
+        return Mono.defer(() -> running.compareAndSet(false, true)
+                ? sweep().doFinally(signal -> running.set(false))
+                : Mono.empty());
+    }
+
+    private Mono<RetentionSweepResult> sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.nanoTime();
+        LocalDateTime readLimit = now.minusDays(readRetentionDays);
+        LocalDateTime archiveLimit = now.minusDays(archiveRetentionDays);
+
+        return drainInChunks(() -> notificationRepository.archiveReadNotificationsBefore(readLimit, chunkSize))
+                .zipWhen(archived -> drainInChunks(() -> notificationRepository.purgeArchivedNotificationsBefore(archiveLimit, chunkSize)))
+                .map(counts -> {
+                    long durationMillis = (System.nanoTime() - start) / 1_000_000;
+                    sweeps.incrementAndGet();
+                    totalArchived.addAndGet(counts.getT1());
+                    totalPurged.addAndGet(counts.getT2());
+                    lastSweepDurationMillis.set(durationMillis);
+                    lastSweepAt.set(now);
+                    log.info("Notification retention sweep: {} archived, {} purged from archive in {} ms",
+                            counts.getT1(), counts.getT2(), durationMillis);
+                    return new RetentionSweepResult(counts.getT1(), counts.getT2(), durationMillis);
+                });
+    }
+
+    /**
+     * Snapshot of the retention metrics since startup
+     */
+    public RetentionStats getStats() {
+        return new RetentionStats(
+                sweeps.get(),
+                totalArchived.get(),
+                totalPurged.get(),
+                lastSweepDurationMillis.get(),
+                lastSweepAt.get());
+    }
+
+    // Repeat a chunk statement while it returns full chunks, pausing between chunks to bound the rate
+    private Mono<Long> drainInChunks(Supplier<Mono<Integer>> chunk) {
+        return Mono.defer(chunk)
+                .expand(affected -> affected < chunkSize
+                        ? Mono.empty()
+                        : Mono.delay(Duration.ofMillis(chunkPauseMillis)).then(Mono.defer(chunk)))
+                .take(maxChunksPerSweep)
+                .reduce(0L, Long::sum);
+    }
+
+    // ===============================================
+    // INNER CLASSES FOR DATA TRANSFER
+    // ===============================================
+
+    public static class RetentionSweepResult {
+        private final long archived;
+        private final long purged;
+        private final long durationMillis;
+
+        public RetentionSweepResult(long archived, long purged, long durationMillis) {
+            this.archived = archived;
+            this.purged = purged;
+            this.durationMillis = durationMillis;
+        }
+
+        // Getters
+        public long getArchived() { return archived; }
+        public long getPurged() { return purged; }
+        public long getDurationMillis() { return durationMillis; }
+    }
+
+    public static class RetentionStats {
+        private final long sweeps;
+        private final long totalArchived;
+        private final long totalPurged;
+        private final long lastSweepDurationMillis;
+        private final LocalDateTime lastSweepAt;
+
+        public RetentionStats(long sweeps, long totalArchived, long totalPurged,
+                              long lastSweepDurationMillis, LocalDateTime lastSweepAt) {
+            this.sweeps = sweeps;
+            this.totalArchived = totalArchived;
+            this.totalPurged = totalPurged;
+            this.lastSweepDurationMillis = lastSweepDurationMillis;
+            this.lastSweepAt = lastSweepAt;
+        }
+
+        // Getters
+        public long getSweeps() { return sweeps; }
+        public long getTotalArchived() { return totalArchived; }
+        public long getTotalPurged() { return totalPurged; }
+        public long getLastSweepDurationMillis() { return lastSweepDurationMillis; }
+        public LocalDateTime getLastSweepAt() { return lastSweepAt; }
+    }
+}
@@ -0,0 +1,74 @@
+package com.iiil.tutoring.service.notification;
+
+import com.iiil.tutoring.dto.notification.NotificationEventDTO;
+import com.iiil.tutoring.dto.notification.NotificationResponseDTO;
+import com.iiil.tutoring.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service for reading notifications and their unread state.
+ * Unread counts of connected users are served from memory, refreshed from the database by
+ * {@link NotificationPushService} on every push and read; other users are counted in the database.
+ */
+@Service
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationPushService pushService;
+
+    @Autowired
+    public NotificationService(NotificationRepository notificationRepository,
+                               NotificationPushService pushService) {
+        this.notificationRepository = notificationRepository;
+        this.pushService = pushService;
+    }
+
+    /**
+     * Real-time notification stream for a user
+     */
+    public Flux<NotificationEventDTO> streamNotifications(Long userId) {
+        return pushService.connect(userId);
+    }
+
+    /**
+     * Get unread notifications of a user, most recent first
+     */
+    public Flux<NotificationResponseDTO> getUnreadNotifications(Long userId) {
+        return notificationRepository.findUnreadByUserId(userId)
+                .map(NotificationResponseDTO::fromEntity);
+    }
+
+    /**
+     * Get the unread count of a user
+     */
+    public Mono<Long> getUnreadCount(Long userId) {
+        return pushService.getTrackedUnreadCount(userId)
+                .switchIfEmpty(Mono.defer(() -> notificationRepository.countUnreadByUserId(userId)));
+    }
+
+    /**
+     * Recompute the unread count from the database
+     */
+    public Mono<Long> reconcileUnreadCount(Long userId) {
+        return pushService.reconcile(userId);
+    }
+
+    /**
+     * Mark a notification as read
+     */
+    public Mono<Boolean> markAsRead(Long notificationId, Long userId) {
+        return notificationRepository.markAsRead(notificationId, userId)
+                .flatMap(updated -> pushService.markedAsRead(userId, updated).thenReturn(updated > 0));
+    }
+
+    /**
+     * Mark all notifications of a user as read
+     */
+    public Mono<Integer> markAllAsRead(Long userId) {
+        return notificationRepository.markAllAsReadByUserId(userId)
+                .flatMap(updated -> pushService.markedAsRead(userId, updated).thenReturn(updated));
+    }
+}
@@ -0,0 +1,87 @@
+package com.iiil.tutoring.service.ranking;
+
+import com.iiil.tutoring.repository.TutorRepository;
+import com.iiil.tutoring.service.search.TutorSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Incremental aggregation of tutor ratings. Each evaluation applies an atomic SQL increment to
+ * the rating sum and count of the tutor, which also recomputes the average and the ranking
+ * score (Bayesian average); the search index and its leaderboard are then refreshed.
+ * Concurrent evaluations of one tutor are serialized by the row lock, never lost.
+ */
+@Service
+public class TutorRankingService {
+
+    private static final Logger log = LoggerFactory.getLogger(TutorRankingService.class);
+
+    private static final BigDecimal MAX_NOTE = BigDecimal.valueOf(5);
+
+    private final TutorRepository tutorRepository;
+    private final TutorSearchIndex searchIndex;
+
+    // The ranking score starts from priorWeight virtual ratings of priorMean
+    private final double priorMean;
+    private final double priorWeight;
+
+    @Autowired
+    public TutorRankingService(TutorRepository tutorRepository,
+                               TutorSearchIndex searchIndex,
+                               @Value("${tutoring.ranking.prior-mean:3.5}") double priorMean,
+                               @Value("${tutoring.ranking.prior-weight:5}") double priorWeight) {
+        this.tutorRepository = tutorRepository;
+        this.searchIndex = searchIndex;
+        this.priorMean = priorMean;
+        this.priorWeight = priorWeight;
+    }
+
+    /**
+     * Add a rating to a tutor
+     */
+    public Mono<Void> recordRating(Long tutorId, BigDecimal note) {
+        return validate(note).then(applyDelta(tutorId, note, 1));
+    }
+
+    /**
+     * Replace a rating of a tutor (evaluation updated)
+     */
+    public Mono<Void> changeRating(Long tutorId, BigDecimal oldNote, BigDecimal newNote) {
+        if (oldNote.compareTo(newNote) == 0) {
+            return Mono.empty();
+        }
+        return validate(newNote).then(applyDelta(tutorId, newNote.subtract(oldNote), 0));
+    }
+
+    /**
+     * Withdraw a rating from a tutor (evaluation deleted)
+     */
+    public Mono<Void> removeRating(Long tutorId, BigDecimal note) {
+        return applyDelta(tutorId, note.negate(), -1);
+    }
+
+    private Mono<Void> applyDelta(Long tutorId, BigDecimal sumDelta, int countDelta) {
+        return tutorRepository.applyRatingDelta(tutorId, sumDelta, countDelta, priorMean, priorWeight)
+                .flatMap(updated -> {
+                    if (updated == 0) {
+                        // Not a tutor, or a removal that would make the count negative
+                        log.debug("Rating delta ({}, {}) not applied to tutor {}", sumDelta, countDelta, tutorId);
+                        return Mono.empty();
+                    }
+                    return searchIndex.refreshTutor(tutorId);
+                });
+    }
+
+    private static Mono<Void> validate(BigDecimal note) {
+        if (note == null || note.signum() < 0 || note.compareTo(MAX_NOTE) > 0) {
+            return Mono.error(new IllegalArgumentException("La note doit être entre 0 et 5"));
+        }
+        return Mono.empty();
+    }
+}
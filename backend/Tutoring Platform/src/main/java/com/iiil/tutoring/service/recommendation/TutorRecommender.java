@@ -0,0 +1,411 @@
+package com.iiil.tutoring.service.recommendation;
+
+import com.iiil.tutoring.service.search.TutorSearchIndex;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuples;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tutor recommendations from the session and evaluation history, item-item collaborative
+ * filtering.
+ * <p>
+ * Each student has an affinity for the tutors they completed sessions with (log of the session
+ * count, scaled by the student's average rating of the tutor) and for the matières of those
+ * sessions. A scheduled batch computes the tutor-tutor cosine similarities over all students
+ * ({@link TutorSimilarityMatrix}, in parallel); between batches a student's profile is reloaded
+ * whenever they complete a session or rate a tutor. A student's recommendations are the tutors
+ * most similar to the ones they already had, then the best ranked tutors of their preferred
+ * matières for students without enough history. Only active tutors of the search index are
+ * recommended.
+ */
+@Component
+public class TutorRecommender {
+
+    private static final Logger log = LoggerFactory.getLogger(TutorRecommender.class);
+
+    private static final String INTERACTIONS_QUERY = """
+        SELECT i.etudiant_id, i.tuteur_id, i.matiere_id, i.sessions, r.note
+        FROM (SELECT s.etudiant_id, s.tuteur_id, s.matiere_id, COUNT(*) AS sessions
+              FROM sessions s
+              WHERE s.statut = 'terminee' %s
+              GROUP BY s.etudiant_id, s.tuteur_id, s.matiere_id) i
+        LEFT JOIN (SELECT e.evaluateur_id, e.evalue_id, AVG(e.note) AS note
+                   FROM evaluations e
+                   WHERE e.type_evaluation = 'ETUDIANT_VERS_TUTEUR' %s
+                   GROUP BY e.evaluateur_id, e.evalue_id) r
+               ON r.evaluateur_id = i.etudiant_id AND r.evalue_id = i.tuteur_id
+        """;
+
+    // package-private for the query tests
+    static final String ALL_INTERACTIONS = INTERACTIONS_QUERY.formatted("", "");
+
+    private static final String STUDENT_INTERACTIONS = INTERACTIONS_QUERY.formatted(
+            "AND s.etudiant_id = :studentId", "AND e.evaluateur_id = :studentId");
+
+    private final DatabaseClient databaseClient;
+    private final TutorSearchIndex searchIndex;
+
+    @Value("${tutoring.recommendations.neighbors:50}")
+    private int maxNeighbors;
+
+    @Value("${tutoring.recommendations.fetch-size:5000}")
+    private int fetchSize;
+
+    private final ForkJoinPool pool;
+
+    // tutor-tutor similarities of the last batch, and the dense index of each tutor id
+    private volatile Model model = new Model(new long[0], Map.of(), TutorSimilarityMatrix.empty());
+    // student id -> affinities, replaced by each batch and by each student refresh
+    private final ConcurrentHashMap<Long, StudentProfile> profiles = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean building = new AtomicBoolean();
+    private final AtomicLong builds = new AtomicLong();
+    private final AtomicLong lastBuildMillis = new AtomicLong();
+    private final AtomicLong recommendations = new AtomicLong();
+    private final AtomicLong studentRefreshes = new AtomicLong();
+
+    @Autowired
+    public TutorRecommender(DatabaseClient databaseClient, TutorSearchIndex searchIndex,
+                            @Value("${tutoring.recommendations.parallelism:0}") int parallelism) {
+        this.databaseClient = databaseClient;
+        this.searchIndex = searchIndex;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // ===============================================
+    // BATCH
+    // ===============================================
+
+    /**
+     * Build the model once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * Recompute every student profile and the tutor similarities from the database
+     */
+    @Scheduled(fixedDelayString = "${tutoring.recommendations.rebuild-interval-ms:3600000}",
+            initialDelayString = "${tutoring.recommendations.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!building.compareAndSet(false, true)) {
+            log.debug("Recommendation model build already running");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        streamInteractions(databaseClient.sql(ALL_INTERACTIONS).filter(statement -> statement.fetchSize(fetchSize)))
+                .collect(HashMap<Long, ProfileBuilder>::new,
+                        (builders, interaction) -> builders.computeIfAbsent(interaction.studentId, id -> new ProfileBuilder())
+                                .add(interaction))
+                .publishOn(Schedulers.boundedElastic())
+                .map(builders -> {
+                    Map<Long, StudentProfile> built = new HashMap<>(builders.size());
+                    builders.forEach((studentId, builder) -> built.put(studentId, builder.build()));
+                    return Tuples.of(built, buildModel(built.values()));
+                })
+                .doFinally(signal -> building.set(false))
+                .subscribe(
+                        result -> {
+                            Map<Long, StudentProfile> built = result.getT1();
+                            model = result.getT2();
+                            profiles.keySet().retainAll(built.keySet());
+                            profiles.putAll(built);
+                            builds.incrementAndGet();
+                            lastBuildMillis.set(System.currentTimeMillis() - startedAt);
+                            log.info("Built recommendations for {} student(s) and {} tutor(s) in {} ms",
+                                    built.size(), model.tutorIds.length, lastBuildMillis.get());
+                        },
+                        error -> log.error("Failed to build the recommendation model: {}", error.getMessage()));
+    }
+
+    private Model buildModel(Collection<StudentProfile> studentProfiles) {
+        // dense tutor indexes
+        Map<Long, Integer> tutorIndex = new HashMap<>();
+        for (StudentProfile profile : studentProfiles) {
+            for (long tutorId : profile.tutorIds) {
+                tutorIndex.putIfAbsent(tutorId, tutorIndex.size());
+            }
+        }
+        long[] tutorIds = new long[tutorIndex.size()];
+        tutorIndex.forEach((tutorId, index) -> tutorIds[index] = tutorId);
+
+        // student rows, then the transposed tutor columns
+        int studentCount = studentProfiles.size();
+        int[][] studentTutors = new int[studentCount][];
+        float[][] studentWeights = new float[studentCount][];
+        int[] tutorDegrees = new int[tutorIds.length];
+        int student = 0;
+        for (StudentProfile profile : studentProfiles) {
+            studentTutors[student] = new int[profile.tutorIds.length];
+            studentWeights[student] = profile.tutorWeights;
+            for (int i = 0; i < profile.tutorIds.length; i++) {
+                int tutor = tutorIndex.get(profile.tutorIds[i]);
+                studentTutors[student][i] = tutor;
+                tutorDegrees[tutor]++;
+            }
+            student++;
+        }
+        int[][] tutorStudents = new int[tutorIds.length][];
+        float[][] tutorWeights = new float[tutorIds.length][];
+        for (int tutor = 0; tutor < tutorIds.length; tutor++) {
+            tutorStudents[tutor] = new int[tutorDegrees[tutor]];
+            tutorWeights[tutor] = new float[tutorDegrees[tutor]];
+            tutorDegrees[tutor] = 0;
+        }
+        for (student = 0; student < studentCount; student++) {
+            for (int i = 0; i < studentTutors[student].length; i++) {
+                int tutor = studentTutors[student][i];
+                tutorStudents[tutor][tutorDegrees[tutor]] = student;
+                tutorWeights[tutor][tutorDegrees[tutor]++] = studentWeights[student][i];
+            }
+        }
+
+        TutorSimilarityMatrix similarities = TutorSimilarityMatrix.build(
+                studentTutors, studentWeights, tutorStudents, tutorWeights, maxNeighbors, pool);
+        return new Model(tutorIds, tutorIndex, similarities);
+    }
+
+    // ===============================================
+    // INCREMENTAL UPDATES
+    // ===============================================
+
+    /**
+     * Reload one student's profile after a completed session or a rating. Never fails: an error
+     * leaves the previous profile until the next batch.
+     */
+    public Mono<Void> refreshStudent(Long studentId) {
+        return streamInteractions(databaseClient.sql(STUDENT_INTERACTIONS).bind("studentId", studentId))
+                .collect(ProfileBuilder::new, ProfileBuilder::add)
+                .doOnNext(builder -> {
+                    if (builder.isEmpty()) {
+                        profiles.remove(studentId);
+                    } else {
+                        profiles.put(studentId, builder.build());
+                    }
+                    studentRefreshes.incrementAndGet();
+                })
+                .onErrorResume(error -> {
+                    log.warn("Failed to refresh the recommendations of student {}: {}", studentId, error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Flux<Interaction> streamInteractions(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.map((row, metadata) -> {
+                    Number note = row.get("note", Number.class);
+                    return new Interaction(
+                            row.get("etudiant_id", Long.class),
+                            row.get("tuteur_id", Long.class),
+                            row.get("matiere_id", Long.class),
+                            row.get("sessions", Long.class),
+                            note != null ? note.doubleValue() : null);
+                })
+                .all();
+    }
+
+    // ===============================================
+    // SERVING
+    // ===============================================
+
+    /**
+     * Ids of the tutors recommended to a student, best first
+     */
+    public List<Long> recommend(Long studentId, int limit) {
+        recommendations.incrementAndGet();
+        StudentProfile profile = profiles.get(studentId);
+        Model current = model;
+        Set<Long> seen = new HashSet<>();
+        List<Long> result = new ArrayList<>(limit);
+
+        if (profile != null) {
+            for (long tutorId : profile.tutorIds) {
+                seen.add(tutorId);
+            }
+            // score of a tutor = sum over the student's tutors of affinity * similarity
+            Map<Integer, Double> scores = new HashMap<>();
+            for (int i = 0; i < profile.tutorIds.length; i++) {
+                Integer tutor = current.tutorIndex.get(profile.tutorIds[i]);
+                if (tutor == null) {
+                    continue;
+                }
+                TutorSimilarityMatrix similarities = current.similarities;
+                for (int position = similarities.rowStart(tutor); position < similarities.rowEnd(tutor); position++) {
+                    scores.merge(similarities.neighborAt(position),
+                            (double) profile.tutorWeights[i] * similarities.similarityAt(position), Double::sum);
+                }
+            }
+            scores.entrySet().stream()
+                    .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .map(entry -> current.tutorIds[entry.getKey()])
+                    .filter(tutorId -> !seen.contains(tutorId) && searchIndex.getDocument(tutorId) != null)
+                    .limit(limit)
+                    .forEach(result::add);
+
+            // not enough neighbors: best ranked tutors of the student's matières
+            for (long matiereId : profile.matiereIds) {
+                fill(result, seen, matiereId, limit);
+            }
+        }
+        fill(result, seen, null, limit);
+        return result;
+    }
+
+    private void fill(List<Long> result, Set<Long> seen, Long matiereId, int limit) {
+        if (result.size() >= limit) {
+            return;
+        }
+        for (TutorSearchIndex.TutorDocument document : searchIndex.topRated(matiereId, limit + seen.size())) {
+            if (result.size() >= limit) {
+                return;
+            }
+            if (!seen.contains(document.getId()) && !result.contains(document.getId())) {
+                result.add(document.getId());
+            }
+        }
+    }
+
+    // ===============================================
+    // MODEL
+    // ===============================================
+
+    private static final class Model {
+        private final long[] tutorIds;
+        private final Map<Long, Integer> tutorIndex;
+        private final TutorSimilarityMatrix similarities;
+
+        private Model(long[] tutorIds, Map<Long, Integer> tutorIndex, TutorSimilarityMatrix similarities) {
+            this.tutorIds = tutorIds;
+            this.tutorIndex = tutorIndex;
+            this.similarities = similarities;
+        }
+    }
+
+    /**
+     * Completed sessions of a student with one tutor in one matière, and the student's average
+     * rating of that tutor
+     */
+    private static final class Interaction {
+        private final Long studentId;
+        private final Long tutorId;
+        private final Long matiereId;
+        private final long sessions;
+        private final Double note;
+
+        private Interaction(Long studentId, Long tutorId, Long matiereId, Long sessions, Double note) {
+            this.studentId = studentId;
+            this.tutorId = tutorId;
+            this.matiereId = matiereId;
+            this.sessions = sessions != null ? sessions : 0;
+            this.note = note;
+        }
+    }
+
+    /**
+     * Affinities of a student: tutors with their weights, matières by decreasing weight
+     */
+    static final class StudentProfile {
+        private final long[] tutorIds;
+        private final float[] tutorWeights;
+        private final long[] matiereIds;
+
+        StudentProfile(long[] tutorIds, float[] tutorWeights, long[] matiereIds) {
+            this.tutorIds = tutorIds;
+            this.tutorWeights = tutorWeights;
+            this.matiereIds = matiereIds;
+        }
+    }
+
+    static final class ProfileBuilder {
+        private final Map<Long, Long> sessionsByTutor = new LinkedHashMap<>();
+        private final Map<Long, Double> noteByTutor = new HashMap<>();
+        private final Map<Long, Long> sessionsByMatiere = new HashMap<>();
+
+        private void add(Interaction interaction) {
+            sessionsByTutor.merge(interaction.tutorId, interaction.sessions, Long::sum);
+            sessionsByMatiere.merge(interaction.matiereId, interaction.sessions, Long::sum);
+            if (interaction.note != null) {
+                noteByTutor.put(interaction.tutorId, interaction.note);
+            }
+        }
+
+        private boolean isEmpty() {
+            return sessionsByTutor.isEmpty();
+        }
+
+        // affinity = ln(1 + sessions) * (average rating / 3), so a 5 boosts and a 1 damps the tutor
+        StudentProfile build() {
+            long[] tutorIds = new long[sessionsByTutor.size()];
+            float[] weights = new float[tutorIds.length];
+            int i = 0;
+            for (Map.Entry<Long, Long> entry : sessionsByTutor.entrySet()) {
+                Double note = noteByTutor.get(entry.getKey());
+                double ratingFactor = note != null ? Math.max(0.1, note / 3.0) : 1.0;
+                tutorIds[i] = entry.getKey();
+                weights[i++] = (float) (Math.log1p(entry.getValue()) * ratingFactor);
+            }
+            long[] matiereIds = sessionsByMatiere.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .mapToLong(Map.Entry::getKey)
+                    .toArray();
+            return new StudentProfile(tutorIds, weights, matiereIds);
+        }
+    }
+
+    // ===============================================
+    // METRICS
+    // ===============================================
+
+    public int getStudents() {
+        return profiles.size();
+    }
+
+    public int getTutors() {
+        return model.tutorIds.length;
+    }
+
+    public int getNeighbors() {
+        return model.similarities.getNeighborCount();
+    }
+
+    public long getBuilds() {
+        return builds.get();
+    }
+
+    public long getLastBuildMillis() {
+        return lastBuildMillis.get();
+    }
+
+    public long getRecommendations() {
+        return recommendations.get();
+    }
+
+    public long getStudentRefreshes() {
+        return studentRefreshes.get();
+    }
+}
@@ -0,0 +1,197 @@
+package com.iiil.tutoring.service.recommendation;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Item-item cosine similarity between tutors over the students' affinity vectors, keeping the
+ * {@code maxNeighbors} most similar tutors of each tutor. Tutors are dense indexes
+ * {@code 0..tutorCount-1}; the neighbors are stored in compressed rows (one offsets array, one
+ * neighbor array, one similarity array) to stay compact for large catalogues.
+ * <p>
+ * The rows are computed in parallel on a fork-join pool: each task owns a range of tutors and one
+ * dense accumulator reused for every tutor of its range. The cost is the sum over students of the
+ * square of their number of tutors, not tutors².
+ */
+public final class TutorSimilarityMatrix {
+
+    // tutors per leaf task
+    private static final int LEAF_SIZE = 64;
+
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final float[] similarities;
+
+    private TutorSimilarityMatrix(int[] offsets, int[] neighbors, float[] similarities) {
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.similarities = similarities;
+    }
+
+    /**
+     * Build the matrix from the affinities, given twice: by student (rows) and by tutor (columns)
+     *
+     * @param studentTutors  tutor indexes of each student
+     * @param studentWeights affinities of each student, aligned with {@code studentTutors}
+     * @param tutorStudents  student indexes of each tutor
+     * @param tutorWeights   affinities of each tutor's students, aligned with {@code tutorStudents}
+     */
+    public static TutorSimilarityMatrix build(int[][] studentTutors, float[][] studentWeights,
+                                              int[][] tutorStudents, float[][] tutorWeights,
+                                              int maxNeighbors, ForkJoinPool pool) {
+        int tutorCount = tutorStudents.length;
+        double[] norms = new double[tutorCount];
+        for (int tutor = 0; tutor < tutorCount; tutor++) {
+            double sum = 0;
+            for (float weight : tutorWeights[tutor]) {
+                sum += (double) weight * weight;
+            }
+            norms[tutor] = Math.sqrt(sum);
+        }
+
+        int[][] rowNeighbors = new int[tutorCount][];
+        float[][] rowSimilarities = new float[tutorCount][];
+        pool.invoke(new RowsTask(0, tutorCount, studentTutors, studentWeights, tutorStudents, tutorWeights,
+                norms, maxNeighbors, rowNeighbors, rowSimilarities));
+
+        int[] offsets = new int[tutorCount + 1];
+        for (int tutor = 0; tutor < tutorCount; tutor++) {
+            offsets[tutor + 1] = offsets[tutor] + rowNeighbors[tutor].length;
+        }
+        int[] neighbors = new int[offsets[tutorCount]];
+        float[] similarities = new float[offsets[tutorCount]];
+        for (int tutor = 0; tutor < tutorCount; tutor++) {
+            System.arraycopy(rowNeighbors[tutor], 0, neighbors, offsets[tutor], rowNeighbors[tutor].length);
+            System.arraycopy(rowSimilarities[tutor], 0, similarities, offsets[tutor], rowSimilarities[tutor].length);
+        }
+        return new TutorSimilarityMatrix(offsets, neighbors, similarities);
+    }
+
+    public static TutorSimilarityMatrix empty() {
+        return new TutorSimilarityMatrix(new int[1], new int[0], new float[0]);
+    }
+
+    public int getTutorCount() {
+        return offsets.length - 1;
+    }
+
+    public int getNeighborCount() {
+        return neighbors.length;
+    }
+
+    /**
+     * First position of a tutor's neighbors in {@link #neighborAt} / {@link #similarityAt}
+     */
+    public int rowStart(int tutor) {
+        return offsets[tutor];
+    }
+
+    public int rowEnd(int tutor) {
+        return offsets[tutor + 1];
+    }
+
+    public int neighborAt(int position) {
+        return neighbors[position];
+    }
+
+    public float similarityAt(int position) {
+        return similarities[position];
+    }
+
+    /**
+     * Computes the neighbor rows of a range of tutors, splitting the range in halves down to
+     * {@link #LEAF_SIZE} tutors
+     */
+    private static final class RowsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int[][] studentTutors;
+        private final float[][] studentWeights;
+        private final int[][] tutorStudents;
+        private final float[][] tutorWeights;
+        private final double[] norms;
+        private final int maxNeighbors;
+        private final int[][] rowNeighbors;
+        private final float[][] rowSimilarities;
+
+        RowsTask(int from, int to, int[][] studentTutors, float[][] studentWeights,
+                 int[][] tutorStudents, float[][] tutorWeights, double[] norms, int maxNeighbors,
+                 int[][] rowNeighbors, float[][] rowSimilarities) {
+            this.from = from;
+            this.to = to;
+            this.studentTutors = studentTutors;
+            this.studentWeights = studentWeights;
+            this.tutorStudents = tutorStudents;
+            this.tutorWeights = tutorWeights;
+            this.norms = norms;
+            this.maxNeighbors = maxNeighbors;
+            this.rowNeighbors = rowNeighbors;
+            this.rowSimilarities = rowSimilarities;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(split(from, middle), split(middle, to));
+                return;
+            }
+            double[] dots = new double[norms.length];
+            int[] touched = new int[norms.length];
+            for (int tutor = from; tutor < to; tutor++) {
+                computeRow(tutor, dots, touched);
+            }
+        }
+
+        private RowsTask split(int rangeFrom, int rangeTo) {
+            return new RowsTask(rangeFrom, rangeTo, studentTutors, studentWeights, tutorStudents, tutorWeights,
+                    norms, maxNeighbors, rowNeighbors, rowSimilarities);
+        }
+
+        // dot products with every tutor sharing a student, then the best maxNeighbors cosines
+        private void computeRow(int tutor, double[] dots, int[] touched) {
+            int touchedCount = 0;
+            int[] students = tutorStudents[tutor];
+            float[] weights = tutorWeights[tutor];
+            for (int i = 0; i < students.length; i++) {
+                int[] others = studentTutors[students[i]];
+                float[] otherWeights = studentWeights[students[i]];
+                for (int j = 0; j < others.length; j++) {
+                    int other = others[j];
+                    if (other == tutor) {
+                        continue;
+                    }
+                    if (dots[other] == 0) {
+                        touched[touchedCount++] = other;
+                    }
+                    dots[other] += (double) weights[i] * otherWeights[j];
+                }
+            }
+
+            long[] ranked = new long[touchedCount];
+            float[] cosines = new float[touchedCount];
+            for (int i = 0; i < touchedCount; i++) {
+                int other = touched[i];
+                cosines[i] = (float) (dots[other] / (norms[tutor] * norms[other]));
+                dots[other] = 0;
+                // sort key: cosine bits (positive floats order like ints) then index
+                ranked[i] = ((long) Float.floatToIntBits(cosines[i]) << 32) | i;
+            }
+            Arrays.sort(ranked);
+
+            int kept = Math.min(maxNeighbors, touchedCount);
+            int[] row = new int[kept];
+            float[] rowCosines = new float[kept];
+            for (int i = 0; i < kept; i++) {
+                int slot = (int) ranked[touchedCount - 1 - i];
+                row[i] = touched[slot];
+                rowCosines[i] = cosines[slot];
+            }
+            rowNeighbors[tutor] = row;
+            rowSimilarities[tutor] = rowCosines;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.iiil.tutoring.service.search;
+
+import com.iiil.tutoring.entity.Matiere;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index for the matière picker. Every word of a matière's name and domain is
+ * normalized (lower case, no accents) and stored in one sorted array of terms; the terms starting
+ * with a prefix are a contiguous range found by binary search.
+ * <p>
+ * Matières are given in popularity order and ordinal {@code i} is the i-th most popular, so the
+ * top-K of a query are the first K set bits of its match set. A query of several words matches
+ * the matières having a term starting with each word ("alg lin" finds "Algèbre linéaire").
+ */
+public final class MatiereAutocompleteIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Matiere[] byOrdinal;
+    // sorted normalized terms and the ordinal of the matière each one belongs to
+    private final String[] terms;
+    private final int[] ordinals;
+
+    private MatiereAutocompleteIndex(Matiere[] byOrdinal, String[] terms, int[] ordinals) {
+        this.byOrdinal = byOrdinal;
+        this.terms = terms;
+        this.ordinals = ordinals;
+    }
+
+    /**
+     * Build the index
+     *
+     * @param matieresByPopularity the matières, most popular first
+     */
+    public static MatiereAutocompleteIndex build(List<Matiere> matieresByPopularity) {
+        Matiere[] byOrdinal = matieresByPopularity.toArray(new Matiere[0]);
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+        for (int ordinal = 0; ordinal < byOrdinal.length; ordinal++) {
+            Set<String> matiereTerms = new HashSet<>(words(normalize(byOrdinal[ordinal].getNom())));
+            matiereTerms.addAll(words(normalize(byOrdinal[ordinal].getDomaine())));
+            for (String term : matiereTerms) {
+                entries.add(Map.entry(term, ordinal));
+            }
+        }
+        entries.sort(Map.Entry.<String, Integer>comparingByKey().thenComparing(Map.Entry.comparingByValue()));
+
+        String[] terms = new String[entries.size()];
+        int[] ordinals = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            terms[i] = entries.get(i).getKey();
+            ordinals[i] = entries.get(i).getValue();
+        }
+        return new MatiereAutocompleteIndex(byOrdinal, terms, ordinals);
+    }
+
+    /**
+     * The {@code limit} most popular matières matching every word of the query; an empty query
+     * returns the most popular matières
+     */
+    public List<Matiere> complete(String query, int limit) {
+        String normalized = normalize(query);
+        BitSet matches = new BitSet(byOrdinal.length);
+        matches.set(0, byOrdinal.length);
+        for (String word : words(normalized)) {
+            matches.and(prefixMatches(word));
+        }
+
+        List<Matiere> result = new ArrayList<>(Math.min(limit, matches.cardinality()));
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0 && result.size() < limit;
+             ordinal = matches.nextSetBit(ordinal + 1)) {
+            result.add(byOrdinal[ordinal]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return byOrdinal.length;
+    }
+
+    private BitSet prefixMatches(String prefix) {
+        BitSet matches = new BitSet(byOrdinal.length);
+        for (int i = lowerBound(prefix); i < terms.length && terms[i].startsWith(prefix); i++) {
+            matches.set(ordinals[i]);
+        }
+        return matches;
+    }
+
+    // first term not lower than the prefix
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (terms[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // lower case without accents, separators collapsed to one space
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String plain = COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(plain).replaceAll(" ").trim();
+    }
+
+    private static List<String> words(String normalized) {
+        return normalized.isEmpty() ? List.of() : Arrays.asList(normalized.split(" "));
+    }
+}
@@ -0,0 +1,104 @@
+package com.iiil.tutoring.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Tutors ranked by score, overall and per matière. Each ranking is a concurrent skip list kept
+ * sorted on every update (O(log n)), so reading the top K is O(K) and never sorts.
+ */
+public class TutorLeaderboard {
+
+    private static final Comparator<Entry> BY_SCORE = Comparator
+            .comparingDouble((Entry entry) -> entry.score).reversed()
+            .thenComparing(Comparator.comparingLong((Entry entry) -> entry.tutorId).reversed());
+
+    private final NavigableSet<Entry> overall = new ConcurrentSkipListSet<>(BY_SCORE);
+    private final ConcurrentHashMap<Long, NavigableSet<Entry>> byMatiere = new ConcurrentHashMap<>();
+
+    // tutor id -> current placement, to find the entries to replace
+    private final ConcurrentHashMap<Long, Placement> placements = new ConcurrentHashMap<>();
+
+    /**
+     * Insert or move a tutor
+     */
+    public void put(long tutorId, double score, long[] matiereIds) {
+        Entry entry = new Entry(tutorId, score);
+        // compute() serializes the updates of one tutor
+        placements.compute(tutorId, (id, previous) -> {
+            if (previous != null) {
+                unlink(previous);
+            }
+            overall.add(entry);
+            for (long matiereId : matiereIds) {
+                byMatiere.computeIfAbsent(matiereId, key -> new ConcurrentSkipListSet<>(BY_SCORE)).add(entry);
+            }
+            return new Placement(entry, matiereIds.clone());
+        });
+    }
+
+    /**
+     * Remove a tutor from every ranking
+     */
+    public void remove(long tutorId) {
+        placements.computeIfPresent(tutorId, (id, previous) -> {
+            unlink(previous);
+            return null;
+        });
+    }
+
+    /**
+     * Ids of the K best ranked tutors, overall when {@code matiereId} is null
+     */
+    public List<Long> top(Long matiereId, int k) {
+        NavigableSet<Entry> ranking = matiereId == null ? overall : byMatiere.get(matiereId);
+        List<Long> ids = new ArrayList<>(Math.max(0, k));
+        if (ranking == null) {
+            return ids;
+        }
+        Iterator<Entry> entries = ranking.iterator();
+        while (ids.size() < k && entries.hasNext()) {
+            ids.add(entries.next().tutorId);
+        }
+        return ids;
+    }
+
+    public int size() {
+        return placements.size();
+    }
+
+    private void unlink(Placement placement) {
+        overall.remove(placement.entry);
+        for (long matiereId : placement.matiereIds) {
+            NavigableSet<Entry> ranking = byMatiere.get(matiereId);
+            if (ranking != null) {
+                ranking.remove(placement.entry);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final long tutorId;
+        private final double score;
+
+        private Entry(long tutorId, double score) {
+            this.tutorId = tutorId;
+            this.score = score;
+        }
+    }
+
+    private static final class Placement {
+        private final Entry entry;
+        private final long[] matiereIds;
+
+        private Placement(Entry entry, long[] matiereIds) {
+            this.entry = entry;
+            this.matiereIds = matiereIds;
+        }
+    }
+}
@@ -0,0 +1,772 @@
+package com.iiil.tutoring.service.search;
+
+import com.iiil.tutoring.dto.tutor.TutorSearchRequest;
+import com.iiil.tutoring.entity.Tutor;
+import com.iiil.tutoring.enums.UserStatus;
+import com.iiil.tutoring.repository.TutorIndexRepository.TutorIndexRow;
+import com.iiil.tutoring.repository.TutorRepository;
+import com.iiil.tutoring.util.GeoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory search index of active tutors. Each snapshot numbers the tutors by rating
+ * (best first) and keeps inverted posting lists ({@link BitSet}s) per matière, city, country,
+ * modality, verified and available flag, plus the ratings in ordinal order and the ordinals
+ * sorted by price. Located tutors are also posted in a grid of 0.25°
+ * cells, so a radius search only measures the distance of the tutors in the cells of its
+ * bounding box. A faceted query is a handful of bitset intersections and never touches the
+ * database.
+ * <p>
+ * The index is loaded when the application is ready, updated whenever a tutor profile,
+ * specialty, availability or rating changes, and fully rebuilt periodically to pick up changes
+ * made by other nodes; tutors refreshed while a rebuild reads the database are re-read once it
+ * is swapped in. Snapshots are immutable: a change builds a new one and swaps it in, so
+ * queries never lock.
+ * <p>
+ * Rated tutors are also kept in a {@link TutorLeaderboard} by ranking score, overall and per
+ * matière, updated in place for every change.
+ */
+@Component
+public class TutorSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TutorSearchIndex.class);
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final TutorRepository tutorRepository;
+
+    // tutor id -> indexed document, source of the snapshots
+    private final ConcurrentHashMap<Long, TutorDocument> documents = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+    private volatile TutorLeaderboard leaderboard = new TutorLeaderboard();
+    private volatile boolean loaded;
+
+    private final AtomicBoolean building = new AtomicBoolean();
+    // tutors refreshed while a rebuild reads the database, re-read once it is swapped in; guarded by this
+    private Set<Long> refreshedDuringRebuild;
+
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong queryNanos = new AtomicLong();
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+
+    @Autowired
+    public TutorSearchIndex(TutorRepository tutorRepository) {
+        this.tutorRepository = tutorRepository;
+    }
+
+    // ===============================================
+    // LOADING
+    // ===============================================
+
+    /**
+     * Load the index once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild the whole index from the database
+     */
+    @Scheduled(fixedDelayString = "${tutoring.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${tutoring.search.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!building.compareAndSet(false, true)) {
+            log.debug("Tutor search index rebuild already running");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        synchronized (this) {
+            refreshedDuringRebuild = new HashSet<>();
+        }
+        tutorRepository.findAllIndexRows()
+                .filter(row -> row.getStatut() == UserStatus.ACTIVE)
+                .map(TutorDocument::new)
+                .collectList()
+                .doFinally(signal -> building.set(false))
+                .subscribe(
+                        loadedDocuments -> {
+                            TutorLeaderboard rebuilt = new TutorLeaderboard();
+                            loadedDocuments.forEach(document -> rank(rebuilt, document.getId(), document));
+                            Set<Long> refreshed;
+                            synchronized (this) {
+                                documents.clear();
+                                loadedDocuments.forEach(document -> documents.put(document.getId(), document));
+                                snapshot = Snapshot.build(documents.values());
+                                leaderboard = rebuilt;
+                                loaded = true;
+                                refreshed = refreshedDuringRebuild;
+                                refreshedDuringRebuild = null;
+                            }
+                            rebuilds.incrementAndGet();
+                            log.info("Indexed {} active tutor(s) in {} ms",
+                                    loadedDocuments.size(), System.currentTimeMillis() - startedAt);
+                            // The rebuild may have read these tutors before their last change
+                            refreshed.forEach(tutorId -> refreshTutor(tutorId).subscribe());
+                        },
+                        error -> {
+                            synchronized (this) {
+                                refreshedDuringRebuild = null;
+                            }
+                            log.error("Failed to build the tutor search index: {}", error.getMessage());
+                        });
+    }
+
+    /**
+     * Re-read one tutor from the database and update its entry. Never fails: an error leaves the
+     * previous entry until the next rebuild.
+     */
+    public Mono<Void> refreshTutor(Long tutorId) {
+        return tutorRepository.findIndexRow(tutorId)
+                .map(row -> row.getStatut() == UserStatus.ACTIVE ? Optional.of(new TutorDocument(row)) : Optional.<TutorDocument>empty())
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(document -> apply(tutorId, document.orElse(null)))
+                .onErrorResume(error -> {
+                    log.warn("Failed to refresh tutor {} in the search index: {}", tutorId, error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private synchronized void apply(Long tutorId, TutorDocument document) {
+        if (refreshedDuringRebuild != null) {
+            refreshedDuringRebuild.add(tutorId);
+        }
+        rank(leaderboard, tutorId, document);
+        if (document != null) {
+            documents.put(tutorId, document);
+        } else if (documents.remove(tutorId) == null) {
+            return;
+        }
+        // Rebuilding a snapshot is a sort over the active tutors, cheap next to the queries it serves
+        snapshot = Snapshot.build(documents.values());
+        updates.incrementAndGet();
+    }
+
+    // only tutors with at least one evaluation are ranked
+    private static void rank(TutorLeaderboard ranking, Long tutorId, TutorDocument document) {
+        if (document != null && document.getNombreEvaluations() > 0) {
+            ranking.put(tutorId, document.score, document.matiereIds);
+        } else {
+            ranking.remove(tutorId);
+        }
+    }
+
+    /**
+     * The K best ranked tutors, overall or for one matière, read from the leaderboard in O(K)
+     */
+    public List<TutorDocument> topRated(Long matiereId, int k) {
+        List<TutorDocument> top = new ArrayList<>(k);
+        for (Long tutorId : leaderboard.top(matiereId, k)) {
+            TutorDocument document = documents.get(tutorId);
+            if (document != null) {
+                top.add(document);
+            }
+        }
+        return top;
+    }
+
+    /**
+     * The indexed document of an active tutor, or null
+     */
+    public TutorDocument getDocument(Long tutorId) {
+        return documents.get(tutorId);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // ===============================================
+    // SEARCH
+    // ===============================================
+
+    /**
+     * Answer a filtered, sorted and paginated search with facet counts over the matching tutors
+     */
+    public SearchResult search(TutorSearchRequest request) {
+        long startedAt = System.nanoTime();
+        Snapshot current = snapshot;
+        BitSet matches = current.filter(request);
+
+        int page = request.getPage() != null ? Math.max(0, request.getPage()) : 0;
+        int size = request.getSize() != null ? Math.max(1, request.getSize()) : 20;
+        List<TutorDocument> pageDocuments;
+        Map<Long, Double> distances = new HashMap<>();
+        if (request.isGeoSearch()) {
+            String sortBy = request.getSortBy() != null ? request.getSortBy() : "distance";
+            pageDocuments = sortBy.equalsIgnoreCase("distance")
+                    ? current.nearest(matches, request.getLatitude(), request.getLongitude(), page, size)
+                    : current.page(matches, sortBy, request.getSortDirection(), page, size);
+            for (TutorDocument document : pageDocuments) {
+                distances.put(document.getId(), document.distanceKm(request.getLatitude(), request.getLongitude()));
+            }
+        } else {
+            pageDocuments = current.page(matches, request.getSortBy(), request.getSortDirection(), page, size);
+        }
+        Map<String, List<FacetCount>> facets = current.facets(matches);
+
+        queries.incrementAndGet();
+        queryNanos.addAndGet(System.nanoTime() - startedAt);
+        return new SearchResult(pageDocuments, matches.cardinality(), page, size, facets, distances);
+    }
+
+    // lower case without accents, so "Évry" and "evry" share a posting list
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    // ===============================================
+    // SNAPSHOT
+    // ===============================================
+
+    /**
+     * Immutable index over one state of the tutors. Ordinal {@code i} is the i-th best rated
+     * tutor, so iterating a bitset in order yields the default rating order.
+     */
+    private static final class Snapshot {
+
+        static final double GEO_CELL_DEGREES = 0.25;
+
+        private static final Comparator<TutorDocument> RATING_ORDER = Comparator
+                .comparingDouble(TutorDocument::getRating).reversed()
+                .thenComparing(Comparator.comparingInt(TutorDocument::getNombreEvaluations).reversed())
+                .thenComparing(TutorDocument::getId);
+
+        private final TutorDocument[] byOrdinal;
+        // ratings in ordinal order, i.e. descending
+        private final double[] ratings;
+        // ordinals sorted by ascending price, with the matching prices
+        private final int[] ordinalsByPrice;
+        private final double[] sortedPrices;
+
+        private final Map<Long, BitSet> byMatiere = new HashMap<>();
+        private final Map<String, BitSet> byCity = new HashMap<>();
+        private final Map<String, BitSet> byCountry = new HashMap<>();
+        private final BitSet verified;
+        private final BitSet available;
+        private final BitSet online;
+        private final BitSet inPerson;
+        // grid cell key -> located tutors in the cell
+        private final Map<Long, BitSet> byGeoCell = new HashMap<>();
+
+        // display labels of the facet values
+        private final Map<Long, String> matiereLabels = new HashMap<>();
+        private final Map<String, String> cityLabels = new HashMap<>();
+
+        private Snapshot(TutorDocument[] byOrdinal) {
+            int count = byOrdinal.length;
+            this.byOrdinal = byOrdinal;
+            this.ratings = new double[count];
+            this.verified = new BitSet(count);
+            this.available = new BitSet(count);
+            this.online = new BitSet(count);
+            this.inPerson = new BitSet(count);
+
+            for (int ordinal = 0; ordinal < count; ordinal++) {
+                TutorDocument document = byOrdinal[ordinal];
+                ratings[ordinal] = document.getRating();
+                for (int i = 0; i < document.matiereIds.length; i++) {
+                    byMatiere.computeIfAbsent(document.matiereIds[i], id -> new BitSet(count)).set(ordinal);
+                    matiereLabels.putIfAbsent(document.matiereIds[i], document.matiereNoms.get(i));
+                }
+                if (document.cityKey != null) {
+                    byCity.computeIfAbsent(document.cityKey, key -> new BitSet(count)).set(ordinal);
+                    cityLabels.putIfAbsent(document.cityKey, document.tutor.getVille().trim());
+                }
+                if (document.countryKey != null) {
+                    byCountry.computeIfAbsent(document.countryKey, key -> new BitSet(count)).set(ordinal);
+                }
+                verified.set(ordinal, Boolean.TRUE.equals(document.tutor.getVerifie()));
+                available.set(ordinal, Boolean.TRUE.equals(document.tutor.getDisponible()));
+                online.set(ordinal, Boolean.TRUE.equals(document.tutor.getCoursEnLigne()));
+                inPerson.set(ordinal, Boolean.TRUE.equals(document.tutor.getCoursPresentiel()));
+                if (document.isLocated()) {
+                    byGeoCell.computeIfAbsent(geoCell(document.latitude, document.longitude), key -> new BitSet(count)).set(ordinal);
+                }
+            }
+
+            Integer[] priceOrder = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                priceOrder[i] = i;
+            }
+            Arrays.sort(priceOrder, Comparator.comparingDouble((Integer ordinal) -> byOrdinal[ordinal].getPrice())
+                    .thenComparingInt(ordinal -> ordinal));
+            this.ordinalsByPrice = new int[count];
+            this.sortedPrices = new double[count];
+            for (int i = 0; i < count; i++) {
+                ordinalsByPrice[i] = priceOrder[i];
+                sortedPrices[i] = byOrdinal[priceOrder[i]].getPrice();
+            }
+        }
+
+        static Snapshot build(Collection<TutorDocument> documents) {
+            TutorDocument[] sorted = documents.toArray(new TutorDocument[0]);
+            Arrays.sort(sorted, RATING_ORDER);
+            return new Snapshot(sorted);
+        }
+
+        BitSet filter(TutorSearchRequest request) {
+            BitSet matches = new BitSet(byOrdinal.length);
+            matches.set(0, byOrdinal.length);
+
+            if (request.getMatiereId() != null) {
+                and(matches, byMatiere.get(request.getMatiereId()));
+            }
+            if (request.getVille() != null && !request.getVille().isBlank()) {
+                and(matches, byCity.get(normalize(request.getVille())));
+            }
+            if (request.getPays() != null && !request.getPays().isBlank()) {
+                and(matches, byCountry.get(normalize(request.getPays())));
+            }
+            if (Boolean.TRUE.equals(request.getVerifiedOnly())) {
+                matches.and(verified);
+            }
+            if (Boolean.TRUE.equals(request.getAvailableOnly())) {
+                matches.and(available);
+            }
+            if (Boolean.TRUE.equals(request.getOnlineOnly())) {
+                matches.and(online);
+            }
+            if (Boolean.TRUE.equals(request.getInPersonOnly())) {
+                matches.and(inPerson);
+            }
+            if (request.getMinRating() != null) {
+                // Ordinals are in descending rating order: the tutors rated at least minRating are a prefix
+                matches.clear(countAtLeast(ratings, request.getMinRating().doubleValue()), byOrdinal.length);
+            }
+            if (request.getMinTarif() != null || request.getMaxTarif() != null) {
+                matches.and(priceRange(request.getMinTarif(), request.getMaxTarif()));
+            }
+            if (request.isGeoSearch()) {
+                within(matches, request.getLatitude(), request.getLongitude(), request.getRadiusKm());
+            }
+            if (request.getMinEvaluations() != null) {
+                for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                    if (byOrdinal[ordinal].getNombreEvaluations() < request.getMinEvaluations()) {
+                        matches.clear(ordinal);
+                    }
+                }
+            }
+            if (request.getKeyword() != null && !request.getKeyword().isBlank()) {
+                String keyword = normalize(request.getKeyword());
+                for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                    if (!byOrdinal[ordinal].searchText.contains(keyword)) {
+                        matches.clear(ordinal);
+                    }
+                }
+            }
+            return matches;
+        }
+
+        // keep the matches located within radiusKm: grid cells of the bounding box first, then the exact distance
+        private void within(BitSet matches, double latitude, double longitude, double radiusKm) {
+            double[] box = GeoUtil.boundingBox(latitude, longitude, radiusKm);
+            BitSet candidates = new BitSet(byOrdinal.length);
+            long minLatCell = cellIndex(box[0]);
+            long maxLatCell = cellIndex(box[1]);
+            long minLonCell = cellIndex(box[2]);
+            long maxLonCell = cellIndex(box[3]);
+            if ((maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1) > byGeoCell.size()) {
+                // more cells in the box than occupied cells: scan the occupied ones instead
+                byGeoCell.forEach((cell, posting) -> {
+                    long latCell = cell >> 32;
+                    long lonCell = (int) (long) cell;
+                    if (latCell >= minLatCell && latCell <= maxLatCell && lonCell >= minLonCell && lonCell <= maxLonCell) {
+                        candidates.or(posting);
+                    }
+                });
+            } else {
+                for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                    for (long lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                        BitSet posting = byGeoCell.get(cellKey(latCell, lonCell));
+                        if (posting != null) {
+                            candidates.or(posting);
+                        }
+                    }
+                }
+            }
+            matches.and(candidates);
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                if (byOrdinal[ordinal].distanceKm(latitude, longitude) > radiusKm) {
+                    matches.clear(ordinal);
+                }
+            }
+        }
+
+        private static long cellIndex(double degrees) {
+            return (long) Math.floor(degrees / GEO_CELL_DEGREES);
+        }
+
+        private static long cellKey(long latCell, long lonCell) {
+            return (latCell << 32) | (lonCell & 0xffffffffL);
+        }
+
+        private static long geoCell(double latitude, double longitude) {
+            return cellKey(cellIndex(latitude), cellIndex(longitude));
+        }
+
+        private static void and(BitSet matches, BitSet posting) {
+            if (posting == null) {
+                matches.clear();
+            } else {
+                matches.and(posting);
+            }
+        }
+
+        // number of leading entries of a descending array that are >= value
+        private static int countAtLeast(double[] descending, double value) {
+            int low = 0;
+            int high = descending.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (descending[mid] >= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // first index of an ascending array whose entry is >= value (or > value when strict)
+        private static int lowerBound(double[] ascending, double value, boolean strict) {
+            int low = 0;
+            int high = ascending.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (strict ? ascending[mid] <= value : ascending[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private BitSet priceRange(BigDecimal minTarif, BigDecimal maxTarif) {
+            int from = minTarif != null ? lowerBound(sortedPrices, minTarif.doubleValue(), false) : 0;
+            int to = maxTarif != null ? lowerBound(sortedPrices, maxTarif.doubleValue(), true) : sortedPrices.length;
+            BitSet range = new BitSet(byOrdinal.length);
+            for (int i = from; i < to; i++) {
+                range.set(ordinalsByPrice[i]);
+            }
+            return range;
+        }
+
+        List<TutorDocument> page(BitSet matches, String sortBy, String sortDirection, int page, int size) {
+            boolean ascending = "asc".equalsIgnoreCase(sortDirection);
+            long skip = (long) page * size;
+            List<TutorDocument> result = new ArrayList<>(Math.min(size, matches.cardinality()));
+            String sort = sortBy != null ? sortBy.toLowerCase(Locale.ROOT) : "rating";
+
+            switch (sort) {
+                case "price" -> {
+                    for (int i = 0; i < ordinalsByPrice.length && result.size() < size; i++) {
+                        int ordinal = ordinalsByPrice[ascending ? i : ordinalsByPrice.length - 1 - i];
+                        if (matches.get(ordinal) && skip-- <= 0) {
+                            result.add(byOrdinal[ordinal]);
+                        }
+                    }
+                }
+                case "name", "date" -> {
+                    Comparator<TutorDocument> comparator = sort.equals("name")
+                            ? Comparator.comparing(TutorDocument::getFullName, String.CASE_INSENSITIVE_ORDER)
+                            : Comparator.comparing(TutorDocument::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+                    matches.stream()
+                            .mapToObj(ordinal -> byOrdinal[ordinal])
+                            .sorted(ascending ? comparator : comparator.reversed())
+                            .skip(skip)
+                            .limit(size)
+                            .forEach(result::add);
+                }
+                default -> {
+                    // rating: ordinals are already in descending rating order
+                    int ordinal = ascending ? matches.length() - 1 : matches.nextSetBit(0);
+                    while (ordinal >= 0 && result.size() < size) {
+                        if (skip-- <= 0) {
+                            result.add(byOrdinal[ordinal]);
+                        }
+                        ordinal = ascending ? matches.previousSetBit(ordinal - 1) : matches.nextSetBit(ordinal + 1);
+                    }
+                }
+            }
+            return result;
+        }
+
+        // page of the matches nearest to a point: a bounded max-heap keeps the (page + 1) * size nearest
+        List<TutorDocument> nearest(BitSet matches, double latitude, double longitude, int page, int size) {
+            int k = (int) Math.min((long) (page + 1) * size, matches.cardinality());
+            if (k <= (long) page * size) {
+                return new ArrayList<>();
+            }
+            Comparator<double[]> farthestFirst = Comparator.comparingDouble((double[] entry) -> entry[0])
+                    .thenComparingDouble(entry -> entry[1])
+                    .reversed();
+            PriorityQueue<double[]> heap = new PriorityQueue<>(k, farthestFirst);
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                double[] entry = {byOrdinal[ordinal].distanceKm(latitude, longitude), ordinal};
+                if (heap.size() < k) {
+                    heap.add(entry);
+                } else if (farthestFirst.compare(entry, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(entry);
+                }
+            }
+            TutorDocument[] closest = new TutorDocument[heap.size()];
+            for (int i = closest.length - 1; i >= 0; i--) {
+                closest[i] = byOrdinal[(int) heap.poll()[1]];
+            }
+            return new ArrayList<>(Arrays.asList(closest).subList(page * size, closest.length));
+        }
+
+        Map<String, List<FacetCount>> facets(BitSet matches) {
+            Map<Long, Integer> matiereCounts = new HashMap<>();
+            Map<String, Integer> cityCounts = new HashMap<>();
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                TutorDocument document = byOrdinal[ordinal];
+                for (long matiereId : document.matiereIds) {
+                    matiereCounts.merge(matiereId, 1, Integer::sum);
+                }
+                if (document.cityKey != null) {
+                    cityCounts.merge(document.cityKey, 1, Integer::sum);
+                }
+            }
+
+            Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+            facets.put("matieres", sortedFacets(matiereCounts, id -> String.valueOf(id), matiereLabels::get));
+            facets.put("villes", sortedFacets(cityCounts, key -> key, cityLabels::get));
+            facets.put("modalites", List.of(
+                    new FacetCount("online", "En ligne", intersectionCount(matches, online)),
+                    new FacetCount("inPerson", "Présentiel", intersectionCount(matches, inPerson))));
+            facets.put("verifie", List.of(
+                    new FacetCount("true", "Vérifié", intersectionCount(matches, verified))));
+            facets.put("disponible", List.of(
+                    new FacetCount("true", "Disponible", intersectionCount(matches, available))));
+            return facets;
+        }
+
+        private static <K> List<FacetCount> sortedFacets(Map<K, Integer> counts,
+                                                          Function<K, String> value,
+                                                          Function<K, String> label) {
+            List<FacetCount> facets = new ArrayList<>(counts.size());
+            counts.forEach((key, count) -> facets.add(new FacetCount(value.apply(key), label.apply(key), count)));
+            facets.sort(Comparator.comparingLong(FacetCount::getCount).reversed().thenComparing(FacetCount::getLabel, Comparator.nullsLast(Comparator.naturalOrder())));
+            return facets;
+        }
+
+        private static long intersectionCount(BitSet matches, BitSet posting) {
+            BitSet intersection = (BitSet) matches.clone();
+            intersection.and(posting);
+            return intersection.cardinality();
+        }
+    }
+
+    // ===============================================
+    // DOCUMENTS AND RESULTS
+    // ===============================================
+
+    /**
+     * An indexed tutor: the tutor row, its user name and its specialties
+     */
+    public static final class TutorDocument {
+        private final Tutor tutor;
+        private final String fullName;
+        private final long[] matiereIds;
+        private final List<String> matiereNoms;
+        private final String cityKey;
+        private final String countryKey;
+        private final double rating;
+        private final double price;
+        private final double score;
+        // NaN when the tutor has no coordinates
+        private final double latitude;
+        private final double longitude;
+        // lower-cased name, description and specialties for keyword filtering
+        private final String searchText;
+
+        TutorDocument(TutorIndexRow row) {
+            this.tutor = row.getTutor();
+            this.fullName = row.getPrenom() + " " + row.getNom();
+            this.matiereIds = row.getMatiereIds().stream().mapToLong(Long::longValue).toArray();
+            this.matiereNoms = List.copyOf(row.getMatiereNoms());
+            this.cityKey = tutor.getVille() != null && !tutor.getVille().isBlank() ? normalize(tutor.getVille()) : null;
+            this.countryKey = tutor.getPays() != null && !tutor.getPays().isBlank() ? normalize(tutor.getPays()) : null;
+            this.rating = tutor.getNoteMoyenne() != null ? tutor.getNoteMoyenne().doubleValue() : 0.0;
+            this.price = tutor.getTarifHoraire() != null ? tutor.getTarifHoraire().doubleValue() : 0.0;
+            this.score = tutor.getScoreClassement() != null ? tutor.getScoreClassement() : 0.0;
+            boolean located = tutor.getLatitude() != null && tutor.getLongitude() != null;
+            this.latitude = located ? tutor.getLatitude() : Double.NaN;
+            this.longitude = located ? tutor.getLongitude() : Double.NaN;
+            this.searchText = normalize(fullName + " " + (tutor.getDescription() != null ? tutor.getDescription() : "")
+                    + " " + String.join(" ", matiereNoms));
+        }
+
+        public Long getId() {
+            return tutor.getId();
+        }
+
+        public Tutor getTutor() {
+            return tutor;
+        }
+
+        public String getFullName() {
+            return fullName;
+        }
+
+        public List<String> getMatiereNoms() {
+            return matiereNoms;
+        }
+
+        double getRating() {
+            return rating;
+        }
+
+        double getPrice() {
+            return price;
+        }
+
+        int getNombreEvaluations() {
+            return tutor.getNombreEvaluations() != null ? tutor.getNombreEvaluations() : 0;
+        }
+
+        LocalDateTime getCreatedAt() {
+            return tutor.getCreatedAt();
+        }
+
+        boolean isLocated() {
+            return !Double.isNaN(latitude);
+        }
+
+        double distanceKm(double fromLatitude, double fromLongitude) {
+            return isLocated() ? GeoUtil.distanceKm(fromLatitude, fromLongitude, latitude, longitude) : Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * A page of matching tutors with the total count and the facet counts of all matches
+     */
+    public static final class SearchResult {
+        private final List<TutorDocument> tutors;
+        private final long total;
+        private final int page;
+        private final int size;
+        private final Map<String, List<FacetCount>> facets;
+        // tutor id -> distance in km, for the tutors of the page of a radius search
+        private final Map<Long, Double> distancesKm;
+
+        SearchResult(List<TutorDocument> tutors, long total, int page, int size, Map<String, List<FacetCount>> facets,
+                     Map<Long, Double> distancesKm) {
+            this.tutors = tutors;
+            this.total = total;
+            this.page = page;
+            this.size = size;
+            this.facets = facets;
+            this.distancesKm = distancesKm;
+        }
+
+        public List<TutorDocument> getTutors() {
+            return tutors;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public int getPage() {
+            return page;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public Map<String, List<FacetCount>> getFacets() {
+            return facets;
+        }
+
+        public Map<Long, Double> getDistancesKm() {
+            return distancesKm;
+        }
+    }
+
+    /**
+     * Number of matching tutors for one facet value
+     */
+    public static final class FacetCount {
+        private final String value;
+        private final String label;
+        private final long count;
+
+        public FacetCount(String value, String label, long count) {
+            this.value = value;
+            this.label = label;
+            this.count = count;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+
+    // ===============================================
+    // METRICS
+    // ===============================================
+
+    public int getIndexedTutors() {
+        return snapshot.byOrdinal.length;
+    }
+
+    public long getQueries() {
+        return queries.get();
+    }
+
+    public double getAverageQueryMicros() {
+        long count = queries.get();
+        return count == 0 ? 0.0 : queryNanos.get() / 1000.0 / count;
+    }
+
+    public long getUpdates() {
+        return updates.get();
+    }
+
+    public long getRebuilds() {
+        return rebuilds.get();
+    }
+
+    public int getRankedTutors() {
+        return leaderboard.size();
+    }
+}
@@ -411,8 +411,8 @@ public class SessionDashboardService {
     }
 
     private Mono<List<String>> getFavoriteSubjects(Long studentId) {
-        // Placeholder - would query subjects by frequency
-        return Mono.just(List.of("Mathématiques", "Physique", "Chimie"));
+        // Matières with the most completed sessions
+        return sessionRepository.findMostStudiedMatiereNames(studentId, 3).collectList();
     }
 
     private Mono<Double> getSessionCompletionRate(Long tutorId, Long studentId) {
@@ -0,0 +1,53 @@
+package com.iiil.tutoring.service.session;
+
+import com.iiil.tutoring.enums.JobType;
+import com.iiil.tutoring.repository.SessionJobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Service for enqueuing durable session lifecycle jobs. Every job carries an idempotency key,
+ * so the same job enqueued by several nodes (or twice by one node) is executed only once.
+ */
+@Service
+public class SessionJobService {
+
+    private final SessionJobRepository jobRepository;
+
+    @Value("${tutoring.jobs.max-attempts:5}")
+    private int maxAttempts;
+
+    @Autowired
+    public SessionJobService(SessionJobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Enqueue a reminder for a session, due immediately
+     *
+     * @return true if the job was created, false if an identical job already exists
+     */
+    public Mono<Boolean> enqueueReminder(Long sessionId, LocalDateTime sessionStart, int minutesBeforeSession) {
+        String key = JobType.SESSION_REMINDER.name() + ":" + sessionId + ":" + minutesBeforeSession + ":" + sessionStart;
+        return jobRepository.enqueue(JobType.SESSION_REMINDER.name(), sessionId, sessionStart, minutesBeforeSession,
+                        key, maxAttempts, LocalDateTime.now())
+                .map(inserted -> inserted > 0);
+    }
+
+    /**
+     * Enqueue a cluster-wide sweep for the time bucket containing {@code now}.
+     * All nodes enqueue the same key for a bucket, so exactly one sweep runs per bucket.
+     */
+    public Mono<Boolean> enqueueSweep(JobType type, LocalDateTime now, int bucketMinutes) {
+        LocalDateTime bucket = now.truncatedTo(ChronoUnit.HOURS)
+                .plusMinutes((now.getMinute() / bucketMinutes) * (long) bucketMinutes);
+        String key = type.name() + ":" + bucket;
+        return jobRepository.enqueue(type.name(), null, bucket, null, key, maxAttempts, bucket)
+                .map(inserted -> inserted > 0);
+    }
+}
@@ -0,0 +1,179 @@
+package com.iiil.tutoring.service.session;
+
+import com.iiil.tutoring.entity.SessionJob;
+import com.iiil.tutoring.enums.JobType;
+import com.iiil.tutoring.repository.SessionJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Worker draining the durable session job queue. Jobs are leased with
+ * {@code SELECT ... FOR UPDATE SKIP LOCKED}, so any number of replicas can poll concurrently
+ * without executing the same job twice. Jobs run on a bounded reactive pool and failed jobs
+ * are retried with exponential backoff until {@code max_tentatives} is reached; a job whose
+ * worker died counts the lost attempt and is failed once its last lease expires.
+ */
+@Component
+public class SessionJobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionJobWorker.class);
+
+    private final SessionJobRepository jobRepository;
+    private final SessionJobService jobService;
+    private final SessionNotificationService notificationService;
+
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName()
+            + "-" + UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicBoolean polling = new AtomicBoolean(false);
+    private final AtomicLong completedJobs = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+
+    @Value("${tutoring.jobs.batch-size:20}")
+    private int batchSize;
+
+    @Value("${tutoring.jobs.concurrency:4}")
+    private int concurrency;
+
+    @Value("${tutoring.jobs.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${tutoring.jobs.retry-base-seconds:10}")
+    private long retryBaseSeconds;
+
+    @Value("${tutoring.jobs.retry-max-seconds:900}")
+    private long retryMaxSeconds;
+
+    @Value("${tutoring.jobs.retention-days:7}")
+    private int retentionDays;
+
+    @Autowired
+    public SessionJobWorker(SessionJobRepository jobRepository,
+                            SessionJobService jobService,
+                            SessionNotificationService notificationService) {
+        this.jobRepository = jobRepository;
+        this.jobService = jobService;
+        this.notificationService = notificationService;
+    }
+
+    // ===============================================
+    // POLLING
+    // ===============================================
+
+    /**
+     * Fail the jobs whose last lease expired, then claim and execute due jobs.
+     * A poll is skipped while the previous batch is still running.
+     */
+    @Scheduled(fixedDelayString = "${tutoring.jobs.poll-interval-ms:2000}")
+    public void poll() {
+        if (!polling.compareAndSet(false, true)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.failExhaustedExpiredLeases(now)
+                .doOnNext(count -> {
+                    if (count > 0) {
+                        log.warn("Marked {} session job(s) as failed: lease expired on the last attempt", count);
+                    }
+                })
+                .thenMany(jobRepository.claimDueJobs(workerId, now, now.plusSeconds(leaseSeconds), batchSize))
+                .flatMap(this::execute, concurrency)
+                .doFinally(signal -> polling.set(false))
+                .subscribe(
+                        null,
+                        error -> log.error("Session job poll failed: {}", error.getMessage()));
+    }
+
+    /**
+     * Enqueue the periodic sweeps. Every node does this; the idempotency key collapses them to one job.
+     */
+    @Scheduled(fixedRate = 60000)
+    public void enqueuePeriodicSweeps() {
+        LocalDateTime now = LocalDateTime.now();
+        Mono.when(
+                        jobService.enqueueSweep(JobType.AUTO_START_SWEEP, now, 1),
+                        jobService.enqueueSweep(JobType.MISSED_SESSION_SWEEP, now, 5))
+                .subscribe(
+                        null,
+                        error -> log.error("Failed to enqueue session sweeps: {}", error.getMessage()));
+    }
+
+    /**
+     * Remove completed jobs past the retention period
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeCompletedJobs() {
+        jobRepository.purgeCompletedBefore(LocalDateTime.now().minusDays(retentionDays))
+                .subscribe(
+                        count -> log.info("Purged {} completed session job(s)", count),
+                        error -> log.error("Failed to purge session jobs: {}", error.getMessage()));
+    }
+
+    // ===============================================
+    // EXECUTION
+    // ===============================================
+
+    private Mono<Void> execute(SessionJob job) {
+        return dispatch(job)
+                .then(jobRepository.markCompleted(job.getId(), workerId))
+                .doOnNext(updated -> completedJobs.incrementAndGet())
+                .then()
+                .onErrorResume(error -> {
+                    failedAttempts.incrementAndGet();
+                    LocalDateTime retryAt = LocalDateTime.now().plusSeconds(backoffSeconds(job.getTentatives()));
+                    if (job.isDernierEssai()) {
+                        log.error("Session job {} failed permanently after {} attempt(s): {}",
+                                job, job.getTentatives(), error.getMessage());
+                    } else {
+                        log.warn("Session job {} failed (attempt {}), retrying at {}: {}",
+                                job.getId(), job.getTentatives(), retryAt, error.getMessage());
+                    }
+                    return jobRepository.markFailed(job.getId(), workerId, retryAt, error.getMessage()).then();
+                });
+    }
+
+    private Mono<?> dispatch(SessionJob job) {
+        return switch (job.getType()) {
+            case AUTO_START_SWEEP -> notificationService.runAutoStartSweep()
+                    .doOnNext(count -> log.debug("Auto-started {} session(s)", count));
+            case MISSED_SESSION_SWEEP -> notificationService.runMissedSessionSweep()
+                    .doOnNext(count -> log.debug("Marked {} session(s) as missed", count));
+            case SESSION_REMINDER -> notificationService.sendDueReminder(
+                    job.getSessionId(), job.getDateReference(), job.getParametre());
+        };
+    }
+
+    private long backoffSeconds(int attempt) {
+        long exponential = retryBaseSeconds << Math.min(Math.max(attempt - 1, 0), 16);
+        long jitter = ThreadLocalRandom.current().nextLong(retryBaseSeconds + 1);
+        return Math.min(exponential + jitter, retryMaxSeconds);
+    }
+
+    // ===============================================
+    // METRICS
+    // ===============================================
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public long getCompletedJobs() {
+        return completedJobs.get();
+    }
+
+    public long getFailedAttempts() {
+        return failedAttempts.get();
+    }
+}
@@ -4,18 +4,21 @@ import com.iiil.tutoring.entity.Notification;
 import com.iiil.tutoring.entity.Session;
 import com.iiil.tutoring.enums.NotificationType;
 import com.iiil.tutoring.enums.SessionStatus;
-import com.iiil.tutoring.repository.NotificationRepository;
 import com.iiil.tutoring.repository.SessionRepository;
+import com.iiil.tutoring.service.notification.NotificationBatchWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.CompletableFuture;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing session-related notifications including automated reminders,
@@ -24,14 +27,24 @@ import java.util.concurrent.CompletableFuture;
 @Service
 public class SessionNotificationService {
 
-    private final NotificationRepository notificationRepository;
+    private static final Logger log = LoggerFactory.getLogger(SessionNotificationService.class);
+
+    private static final String MISSED_SESSION_NOTE = "Session marked as missed - no participants showed up";
+
     private final SessionRepository sessionRepository;
+    private final NotificationBatchWriter batchWriter;
+
+    @Value("${tutoring.notifications.dispatch.batch-size:100}")
+    private int dispatchBatchSize;
+
+    @Value("${tutoring.notifications.dispatch.concurrency:4}")
+    private int dispatchConcurrency;
 
     @Autowired
-    public SessionNotificationService(NotificationRepository notificationRepository,
-                                    SessionRepository sessionRepository) {
-        this.notificationRepository = notificationRepository;
+    public SessionNotificationService(SessionRepository sessionRepository,
+                                    NotificationBatchWriter batchWriter) {
         this.sessionRepository = sessionRepository;
+        this.batchWriter = batchWriter;
     }
 
     // ===============================================
@@ -41,285 +54,163 @@ public class SessionNotificationService {
     /**
      * Send session confirmation notification
      */
-    @Async
-    public CompletableFuture<Void> sendSessionConfirmationNotification(Long sessionId) {
-        return sessionRepository.findById(sessionId)
-                .flatMap(session -> {
-                    // Notify student
-                    Notification studentNotification = createSessionNotification(
-                            session.getEtudiantId(),
-                            "Session confirmée",
-                            buildSessionConfirmationMessage(session, false),
-                            NotificationType.SESSION,
-                            sessionId
-                    );
-
-                    // Notify tutor
-                    Notification tutorNotification = createSessionNotification(
-                            session.getTuteurId(),
-                            "Session confirmée",
-                            buildSessionConfirmationMessage(session, true),
-                            NotificationType.SESSION,
-                            sessionId
-                    );
-
-                    return Mono.when(
-                            notificationRepository.save(studentNotification),
-                            notificationRepository.save(tutorNotification)
-                    );
-                })
-                .toFuture()
-                .thenRun(() -> {});
+    public Mono<Void> sendSessionConfirmationNotification(Long sessionId) {
+        return dispatch(Flux.just(SessionNotificationRequest.confirmation(sessionId))).then();
     }
 
     /**
      * Send session reminder notification
      */
-    @Async
-    public CompletableFuture<Void> sendSessionReminderNotification(Long sessionId, int minutesBeforeSession) {
-        return sessionRepository.findById(sessionId)
-                .flatMap(session -> {
-                    String reminderMessage = buildSessionReminderMessage(session, minutesBeforeSession);
-                    
-                    // Notify student
-                    Notification studentNotification = createSessionNotification(
-                            session.getEtudiantId(),
-                            "Rappel de session",
-                            reminderMessage,
-                            NotificationType.SESSION,
-                            sessionId
-                    );
-
-                    // Notify tutor
-                    Notification tutorNotification = createSessionNotification(
-                            session.getTuteurId(),
-                            "Rappel de session",
-                            reminderMessage,
-                            NotificationType.SESSION,
-                            sessionId
-                    );
-
-                    return Mono.when(
-                            notificationRepository.save(studentNotification),
-                            notificationRepository.save(tutorNotification)
-                    );
-                })
-                .toFuture()
-                .thenRun(() -> {});
+    public Mono<Void> sendSessionReminderNotification(Long sessionId, int minutesBeforeSession) {
+        return dispatch(Flux.just(SessionNotificationRequest.reminder(sessionId, minutesBeforeSession))).then();
     }
 
     /**
      * Send session cancellation notification
      */
-    @Async
-    public CompletableFuture<Void> sendSessionCancellationNotification(Long sessionId, String reason, Long cancelledBy) {
-        return sessionRepository.findById(sessionId)
-                .flatMap(session -> {
-                    String cancellationMessage = buildSessionCancellationMessage(session, reason, cancelledBy);
-                    
-                    // Notify the other participant (not the one who cancelled)
-                    Long recipientId = cancelledBy.equals(session.getTuteurId()) 
-                            ? session.getEtudiantId() 
-                            : session.getTuteurId();
-
-                    Notification notification = createSessionNotification(
-                            recipientId,
-                            "Session annulée",
-                            cancellationMessage,
-                            NotificationType.SESSION,
-                            sessionId
-                    );
-
-                    return notificationRepository.save(notification);
-                })
-                .toFuture()
-                .thenRun(() -> {});
+    public Mono<Void> sendSessionCancellationNotification(Long sessionId, String reason, Long cancelledBy) {
+        return dispatch(Flux.just(SessionNotificationRequest.cancellation(sessionId, reason, cancelledBy))).then();
     }
 
     /**
      * Send session rescheduling notification
      */
-    @Async
-    public CompletableFuture<Void> sendSessionRescheduleNotification(Long sessionId, LocalDateTime newDateTime, 
-                                                                    String reason, Long rescheduledBy) {
-        return sessionRepository.findById(sessionId)
-                .flatMap(session -> {
-                    String rescheduleMessage = buildSessionRescheduleMessage(session, newDateTime, reason, rescheduledBy);
-                    
-                    // Notify the other participant
-                    Long recipientId = rescheduledBy.equals(session.getTuteurId()) 
-                            ? session.getEtudiantId() 
-                            : session.getTuteurId();
-
-                    Notification notification = createSessionNotification(
-                            recipientId,
-                            "Session reprogrammée",
-                            rescheduleMessage,
-                            NotificationType.SESSION,
-                            sessionId
-                    );
-
-                    return notificationRepository.save(notification);
-                })
-                .toFuture()
-                .thenRun(() -> {});
+    public Mono<Void> sendSessionRescheduleNotification(Long sessionId, LocalDateTime newDateTime,
+                                                        String reason, Long rescheduledBy) {
+        return dispatch(Flux.just(SessionNotificationRequest.reschedule(sessionId, newDateTime, reason, rescheduledBy))).then();
     }
 
     /**
      * Send session completion notification
      */
-    @Async
-    public CompletableFuture<Void> sendSessionCompletionNotification(Long sessionId) {
-        return sessionRepository.findById(sessionId)
-                .flatMap(session -> {
-                    String completionMessage = buildSessionCompletionMessage(session);
-                    
-                    // Notify both participants
-                    Notification studentNotification = createSessionNotification(
-                            session.getEtudiantId(),
-                            "Session terminée",
-                            completionMessage + " N'oubliez pas d'évaluer votre tuteur !",
-                            NotificationType.SESSION,
-                            sessionId
-                    );
-
-                    Notification tutorNotification = createSessionNotification(
-                            session.getTuteurId(),
-                            "Session terminée",
-                            completionMessage + " N'oubliez pas d'évaluer votre étudiant !",
-                            NotificationType.SESSION,
-                            sessionId
-                    );
-
-                    return Mono.when(
-                            notificationRepository.save(studentNotification),
-                            notificationRepository.save(tutorNotification)
-                    );
-                })
-                .toFuture()
-                .thenRun(() -> {});
+    public Mono<Void> sendSessionCompletionNotification(Long sessionId) {
+        return dispatch(Flux.just(SessionNotificationRequest.completion(sessionId))).then();
     }
 
     /**
      * Send session start notification
      */
-    @Async
-    public CompletableFuture<Void> sendSessionStartNotification(Long sessionId) {
-        return sessionRepository.findById(sessionId)
-                .flatMap(session -> {
-                    String startMessage = buildSessionStartMessage(session);
-                    
-                    // Notify both participants
-                    Notification studentNotification = createSessionNotification(
-                            session.getEtudiantId(),
-                            "Session commencée",
-                            startMessage,
-                            NotificationType.SESSION,
-                            sessionId
-                    );
-
-                    Notification tutorNotification = createSessionNotification(
-                            session.getTuteurId(),
-                            "Session commencée",
-                            startMessage,
-                            NotificationType.SESSION,
-                            sessionId
-                    );
-
-                    return Mono.when(
-                            notificationRepository.save(studentNotification),
-                            notificationRepository.save(tutorNotification)
-                    );
-                })
-                .toFuture()
-                .thenRun(() -> {});
+    public Mono<Void> sendSessionStartNotification(Long sessionId) {
+        return dispatch(Flux.just(SessionNotificationRequest.start(sessionId))).then();
     }
 
     // ===============================================
-    // AUTOMATED SCHEDULED NOTIFICATIONS
+    // NOTIFICATION DISPATCHER
     // ===============================================
 
     /**
-     * Send 24-hour reminders for upcoming sessions
+     * Dispatch session notification requests without leaving the reactive pipeline.
+     * Requests are grouped into batches: each batch loads its sessions with one {@code findAllById}
+     * and writes its notifications through the batch writer, with at most
+     * {@code dispatchConcurrency} batches in flight. A request whose session is missing or whose
+     * message cannot be built is logged and skipped without failing the rest of its batch.
      */
-    @Scheduled(fixedRate = 3600000) // Run every hour
-    public void sendDailyReminders() {
-        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
-        LocalDateTime dayAfter = tomorrow.plusHours(1);
-
-        sessionRepository.findByDateHeureBetween(tomorrow, dayAfter)
-                .filter(session -> session.getStatut() == SessionStatus.CONFIRMEE)
-                .subscribe(session -> 
-                    sendSessionReminderNotification(session.getId(), 24 * 60));
+    public Flux<Notification> dispatch(Flux<SessionNotificationRequest> requests) {
+        return requests
+                .buffer(dispatchBatchSize)
+                .flatMap(this::dispatchBatch, dispatchConcurrency);
     }
 
-    /**
-     * Send 1-hour reminders for upcoming sessions
-     */
-    @Scheduled(fixedRate = 300000) // Run every 5 minutes
-    public void sendHourlyReminders() {
-        LocalDateTime oneHourLater = LocalDateTime.now().plusHours(1);
-        LocalDateTime oneHourFiveMinutesLater = oneHourLater.plusMinutes(5);
-
-        sessionRepository.findByDateHeureBetween(oneHourLater, oneHourFiveMinutesLater)
-                .filter(session -> session.getStatut() == SessionStatus.CONFIRMEE)
-                .subscribe(session -> 
-                    sendSessionReminderNotification(session.getId(), 60));
+    private Flux<Notification> dispatchBatch(List<SessionNotificationRequest> batch) {
+        Set<Long> sessionIds = batch.stream()
+                .map(SessionNotificationRequest::getSessionId)
+                .collect(Collectors.toSet());
+
+        return sessionRepository.findAllById(sessionIds)
+                .collectMap(Session::getId)
+                .flatMapMany(sessions -> batchWriter.writeAll(batch.stream()
+                        .flatMap(request -> buildNotifications(request, sessions.get(request.getSessionId())).stream())
+                        .toList()));
+    }
+
+    private List<Notification> buildNotifications(SessionNotificationRequest request, Session session) {
+        if (session == null) {
+            log.warn("Skipping {} notification: session {} not found", request.getKind(), request.getSessionId());
+            return List.of();
+        }
+        try {
+            return switch (request.getKind()) {
+                case CONFIRMATION -> List.of(
+                        createSessionNotification(session.getEtudiantId(), "Session confirmée",
+                                buildSessionConfirmationMessage(session, false), NotificationType.SESSION, session.getId()),
+                        createSessionNotification(session.getTuteurId(), "Session confirmée",
+                                buildSessionConfirmationMessage(session, true), NotificationType.SESSION, session.getId()));
+                case REMINDER -> buildReminderNotifications(session, request.getMinutesBeforeSession());
+                case CANCELLATION -> List.of(createSessionNotification(
+                        otherParticipant(session, request.getActorId()), "Session annulée",
+                        buildSessionCancellationMessage(session, request.getReason(), request.getActorId()),
+                        NotificationType.SESSION, session.getId()));
+                case RESCHEDULE -> List.of(createSessionNotification(
+                        otherParticipant(session, request.getActorId()), "Session reprogrammée",
+                        buildSessionRescheduleMessage(session, request.getNewDateTime(), request.getReason(), request.getActorId()),
+                        NotificationType.SESSION, session.getId()));
+                case COMPLETION -> {
+                    String completionMessage = buildSessionCompletionMessage(session);
+                    yield List.of(
+                            createSessionNotification(session.getEtudiantId(), "Session terminée",
+                                    completionMessage + " N'oubliez pas d'évaluer votre tuteur !",
+                                    NotificationType.SESSION, session.getId()),
+                            createSessionNotification(session.getTuteurId(), "Session terminée",
+                                    completionMessage + " N'oubliez pas d'évaluer votre étudiant !",
+                                    NotificationType.SESSION, session.getId()));
+                }
+                case START -> buildStartNotifications(session);
+            };
+        } catch (RuntimeException e) {
+            log.error("Failed to build {} notification for session {}: {}",
+                    request.getKind(), request.getSessionId(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    // Notify the participant who did not perform the action
+    private Long otherParticipant(Session session, Long actorId) {
+        return session.getTuteurId().equals(actorId) ? session.getEtudiantId() : session.getTuteurId();
     }
 
+    // ===============================================
+    // SESSION LIFECYCLE JOBS (executed by SessionJobWorker)
+    // ===============================================
+
     /**
-     * Send 15-minute reminders for upcoming sessions
+     * Send a reminder claimed from the job queue, unless the session was
+     * rescheduled or is no longer confirmed since the reminder was planned
      */
-    @Scheduled(fixedRate = 60000) // Run every minute
-    public void sendQuarterHourReminders() {
-        LocalDateTime fifteenMinutesLater = LocalDateTime.now().plusMinutes(15);
-        LocalDateTime sixteenMinutesLater = fifteenMinutesLater.plusMinutes(1);
-
-        sessionRepository.findByDateHeureBetween(fifteenMinutesLater, sixteenMinutesLater)
-                .filter(session -> session.getStatut() == SessionStatus.CONFIRMEE)
-                .subscribe(session -> 
-                    sendSessionReminderNotification(session.getId(), 15));
+    public Mono<Void> sendDueReminder(Long sessionId, LocalDateTime expectedStart, int minutesBeforeSession) {
+        return sessionRepository.findById(sessionId)
+                .filter(session -> session.getStatut() == SessionStatus.CONFIRMEE
+                        && session.getDateHeure().equals(expectedStart))
+                .flatMap(session -> batchWriter.writeAll(buildReminderNotifications(session, minutesBeforeSession)).then());
     }
 
     /**
-     * Auto-start sessions that should have begun
+     * Auto-start sessions that should have begun.
+     * A single UPDATE ... RETURNING flips every due session; its rows feed one batched notification insert.
      */
-    @Scheduled(fixedRate = 60000) // Run every minute
-    public void autoStartSessions() {
+    public Mono<Long> runAutoStartSweep() {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime fiveMinutesAgo = now.minusMinutes(5);
-
-        sessionRepository.findByDateHeureBetween(fiveMinutesAgo, now)
-                .filter(session -> session.getStatut() == SessionStatus.CONFIRMEE)
-                .flatMap(session -> {
-                    session.setStatut(SessionStatus.EN_COURS);
-                    return sessionRepository.save(session)
-                            .doOnSuccess(savedSession -> 
-                                sendSessionStartNotification(savedSession.getId()));
-                })
-                .subscribe();
+
+        return sessionRepository.startDueSessions(now.minusMinutes(5), now)
+                .collectList()
+                .flatMap(started -> batchWriter.writeAll(started.stream()
+                                .flatMap(session -> buildStartNotifications(session).stream())
+                                .toList())
+                        .then(Mono.just((long) started.size())));
     }
 
     /**
-     * Send notifications for missed sessions
+     * Mark missed sessions and notify their participants.
+     * The window stops where the auto-start window begins, so a session is never cancelled before it had a chance to start.
      */
-    @Scheduled(fixedRate = 300000) // Run every 5 minutes
-    public void notifyMissedSessions() {
+    public Mono<Long> runMissedSessionSweep() {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime thirtyMinutesAgo = now.minusMinutes(30);
-
-        sessionRepository.findByDateHeureBetween(thirtyMinutesAgo, now)
-                .filter(session -> session.getStatut() == SessionStatus.CONFIRMEE)
-                .flatMap(session -> {
-                    // Mark as missed and send notifications
-                    session.setStatut(SessionStatus.ANNULEE);
-                    session.setNotes(session.getNotes() + "\n\nSession marked as missed - no participants showed up");
-                    
-                    return sessionRepository.save(session)
-                            .doOnSuccess(savedSession -> 
-                                sendMissedSessionNotification(savedSession.getId()));
-                })
-                .subscribe();
+
+        return sessionRepository.cancelMissedSessions(now.minusMinutes(30), now.minusMinutes(5), MISSED_SESSION_NOTE)
+                .collectList()
+                .flatMap(missed -> batchWriter.writeAll(missed.stream()
+                                .flatMap(session -> buildMissedNotifications(session).stream())
+                                .toList())
+                        .then(Mono.just((long) missed.size())));
     }
 
     // ===============================================
@@ -327,32 +218,29 @@ public class SessionNotificationService {
     // ===============================================
 
     /**
-     * Send bulk notifications for session updates
+     * Send bulk notifications for session updates, written in multi-row chunks
      */
     public Flux<Notification> sendBulkSessionNotifications(NotificationBatch batch) {
-        return Flux.fromIterable(batch.getRecipients())
-                .flatMap(recipient -> {
-                    Notification notification = createSessionNotification(
-                            recipient.getUserId(),
-                            batch.getTitle(),
-                            personalizeMessage(batch.getMessage(), recipient),
-                            NotificationType.SESSION,
-                            recipient.getSessionId()
-                    );
-                    return notificationRepository.save(notification);
-                });
+        return batchWriter.writeAll(Flux.fromIterable(batch.getRecipients())
+                .map(recipient -> createSessionNotification(
+                        recipient.getUserId(),
+                        batch.getTitle(),
+                        personalizeMessage(batch.getMessage(), recipient),
+                        NotificationType.SESSION,
+                        recipient.getSessionId()
+                )));
     }
 
     /**
-     * Send system maintenance notifications
+     * Send system maintenance notifications, written in multi-row chunks
      */
     public Flux<Notification> sendMaintenanceNotifications(String maintenanceMessage, 
                                                           LocalDateTime maintenanceDate) {
         // Find all users with upcoming sessions during maintenance
-        return sessionRepository.findByDateHeureBetween(
+        return batchWriter.writeAll(sessionRepository.findByDateHeureBetween(
                 maintenanceDate.minusHours(2), 
                 maintenanceDate.plusHours(2))
-                .flatMap(session -> {
+                .concatMap(session -> {
                     String personalizedMessage = maintenanceMessage + 
                             "\n\nVotre session prévue le " + 
                             session.getDateHeure().format(DateTimeFormatter.ofPattern("dd/MM/yyyy à HH:mm")) +
@@ -372,8 +260,7 @@ public class SessionNotificationService {
                     );
 
                     return Flux.just(studentNotification, tutorNotification);
-                })
-                .flatMap(notificationRepository::save);
+                }));
     }
 
     // ===============================================
@@ -486,40 +373,44 @@ public class SessionNotificationService {
         );
     }
 
-    @Async
-    private CompletableFuture<Void> sendMissedSessionNotification(Long sessionId) {
-        return sessionRepository.findById(sessionId)
-                .flatMap(session -> {
-                    String missedMessage = String.format(
-                            "Votre session prévue le %s a été marquée comme manquée car aucun participant ne s'est présenté. " +
-                            "Contactez le support si vous pensez qu'il s'agit d'une erreur.",
-                            session.getDateHeure().format(DateTimeFormatter.ofPattern("dd/MM/yyyy à HH:mm"))
-                    );
-                    
-                    // Notify both participants
-                    Notification studentNotification = createSessionNotification(
-                            session.getEtudiantId(),
-                            "Session manquée",
-                            missedMessage,
-                            NotificationType.SESSION,
-                            sessionId
-                    );
+    private List<Notification> buildStartNotifications(Session session) {
+        String startMessage = buildSessionStartMessage(session);
 
-                    Notification tutorNotification = createSessionNotification(
-                            session.getTuteurId(),
-                            "Session manquée",
-                            missedMessage,
-                            NotificationType.SESSION,
-                            sessionId
-                    );
+        // Notify both participants
+        return List.of(
+                createSessionNotification(session.getEtudiantId(), "Session commencée", startMessage,
+                        NotificationType.SESSION, session.getId()),
+                createSessionNotification(session.getTuteurId(), "Session commencée", startMessage,
+                        NotificationType.SESSION, session.getId())
+        );
+    }
 
-                    return Mono.when(
-                            notificationRepository.save(studentNotification),
-                            notificationRepository.save(tutorNotification)
-                    );
-                })
-                .toFuture()
-                .thenRun(() -> {});
+    private List<Notification> buildReminderNotifications(Session session, int minutesBeforeSession) {
+        String reminderMessage = buildSessionReminderMessage(session, minutesBeforeSession);
+
+        // Notify both participants
+        return List.of(
+                createSessionNotification(session.getEtudiantId(), "Rappel de session", reminderMessage,
+                        NotificationType.SESSION, session.getId()),
+                createSessionNotification(session.getTuteurId(), "Rappel de session", reminderMessage,
+                        NotificationType.SESSION, session.getId())
+        );
+    }
+
+    private List<Notification> buildMissedNotifications(Session session) {
+        String missedMessage = String.format(
+                "Votre session prévue le %s a été marquée comme manquée car aucun participant ne s'est présenté. " +
+                "Contactez le support si vous pensez qu'il s'agit d'une erreur.",
+                session.getDateHeure().format(DateTimeFormatter.ofPattern("dd/MM/yyyy à HH:mm"))
+        );
+
+        // Notify both participants
+        return List.of(
+                createSessionNotification(session.getEtudiantId(), "Session manquée", missedMessage,
+                        NotificationType.SESSION, session.getId()),
+                createSessionNotification(session.getTuteurId(), "Session manquée", missedMessage,
+                        NotificationType.SESSION, session.getId())
+        );
     }
 
     private String personalizeMessage(String template, NotificationRecipient recipient) {
@@ -545,6 +436,66 @@ public class SessionNotificationService {
         public void setRecipients(java.util.List<NotificationRecipient> recipients) { this.recipients = recipients; }
     }
 
+    public static class SessionNotificationRequest {
+
+        public enum Kind { CONFIRMATION, REMINDER, CANCELLATION, RESCHEDULE, COMPLETION, START }
+
+        private final Kind kind;
+        private final Long sessionId;
+        private int minutesBeforeSession;
+        private String reason;
+        private Long actorId;
+        private LocalDateTime newDateTime;
+
+        private SessionNotificationRequest(Kind kind, Long sessionId) {
+            this.kind = kind;
+            this.sessionId = sessionId;
+        }
+
+        // Factory methods
+        public static SessionNotificationRequest confirmation(Long sessionId) {
+            return new SessionNotificationRequest(Kind.CONFIRMATION, sessionId);
+        }
+
+        public static SessionNotificationRequest reminder(Long sessionId, int minutesBeforeSession) {
+            SessionNotificationRequest request = new SessionNotificationRequest(Kind.REMINDER, sessionId);
+            request.minutesBeforeSession = minutesBeforeSession;
+            return request;
+        }
+
+        public static SessionNotificationRequest cancellation(Long sessionId, String reason, Long cancelledBy) {
+            SessionNotificationRequest request = new SessionNotificationRequest(Kind.CANCELLATION, sessionId);
+            request.reason = reason;
+            request.actorId = cancelledBy;
+            return request;
+        }
+
+        public static SessionNotificationRequest reschedule(Long sessionId, LocalDateTime newDateTime,
+                                                            String reason, Long rescheduledBy) {
+            SessionNotificationRequest request = new SessionNotificationRequest(Kind.RESCHEDULE, sessionId);
+            request.newDateTime = newDateTime;
+            request.reason = reason;
+            request.actorId = rescheduledBy;
+            return request;
+        }
+
+        public static SessionNotificationRequest completion(Long sessionId) {
+            return new SessionNotificationRequest(Kind.COMPLETION, sessionId);
+        }
+
+        public static SessionNotificationRequest start(Long sessionId) {
+            return new SessionNotificationRequest(Kind.START, sessionId);
+        }
+
+        // Getters
+        public Kind getKind() { return kind; }
+        public Long getSessionId() { return sessionId; }
+        public int getMinutesBeforeSession() { return minutesBeforeSession; }
+        public String getReason() { return reason; }
+        public Long getActorId() { return actorId; }
+        public LocalDateTime getNewDateTime() { return newDateTime; }
+    }
+
     public static class NotificationRecipient {
         private Long userId;
         private String userName;
@@ -0,0 +1,158 @@
+package com.iiil.tutoring.service.session;
+
+import com.iiil.tutoring.entity.Session;
+import com.iiil.tutoring.enums.SessionStatus;
+import com.iiil.tutoring.repository.SessionRepository;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules session reminders on a hashed timing wheel instead of polling the sessions table.
+ * The wheel is loaded once at startup with every upcoming confirmed session and kept up to date
+ * by {@link SessionService} and {@link SessionSeriesService} whenever a session is created,
+ * confirmed, rescheduled, cancelled or deleted. When a deadline expires the reminder is handed
+ * to the durable job queue ({@link SessionJobService}) under an idempotency key, so replicas that
+ * hold the same timeout produce a single notification and a failed send is retried.
+ */
+@Component
+public class SessionReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionReminderScheduler.class);
+
+    // Reminders sent before each confirmed session: 24 hours, 1 hour and 15 minutes
+    static final int[] REMINDER_OFFSETS_MINUTES = {24 * 60, 60, 15};
+
+    private final SessionRepository sessionRepository;
+    private final SessionJobService jobService;
+
+    // 1-second ticks over 512 buckets; deadlines beyond one revolution are kept as remaining rounds
+    private final HashedWheelTimer wheel = new HashedWheelTimer(
+            runnable -> {
+                Thread thread = new Thread(runnable, "session-reminder-wheel");
+                thread.setDaemon(true);
+                return thread;
+            },
+            1, TimeUnit.SECONDS, 512);
+
+    private final ConcurrentHashMap<Long, ScheduledReminders> scheduled = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SessionReminderScheduler(SessionRepository sessionRepository,
+                                    SessionJobService jobService) {
+        this.sessionRepository = sessionRepository;
+        this.jobService = jobService;
+    }
+
+    /**
+     * Load reminders for every upcoming confirmed session once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadUpcomingReminders() {
+        sessionRepository.findUpcomingConfirmedSessions(LocalDateTime.now())
+                .doOnNext(this::schedule)
+                .count()
+                .subscribe(
+                        count -> log.info("Loaded reminders for {} upcoming confirmed session(s)", count),
+                        error -> log.error("Failed to load session reminders: {}", error.getMessage()));
+    }
+
+    /**
+     * (Re)schedule the reminders of a session from its current state. Sessions that are not
+     * confirmed have their pending reminders cancelled.
+     */
+    public void schedule(Session session) {
+        if (session.getId() == null) {
+            return;
+        }
+        if (session.getStatut() != SessionStatus.CONFIRMEE) {
+            cancel(session.getId());
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = session.getDateHeure();
+        ScheduledReminders reminders = new ScheduledReminders(start);
+        for (int offset : REMINDER_OFFSETS_MINUTES) {
+            long delayMillis = Duration.between(now, start.minusMinutes(offset)).toMillis();
+            if (delayMillis > 0) {
+                Long sessionId = session.getId();
+                reminders.timeouts.add(wheel.newTimeout(
+                        timeout -> fire(sessionId, start, offset), delayMillis, TimeUnit.MILLISECONDS));
+            }
+        }
+
+        ScheduledReminders previous = reminders.timeouts.isEmpty()
+                ? scheduled.remove(session.getId())
+                : scheduled.put(session.getId(), reminders);
+        if (previous != null) {
+            previous.cancelAll();
+        }
+    }
+
+    /**
+     * Cancel all pending reminders of a session
+     */
+    public void cancel(Long sessionId) {
+        ScheduledReminders previous = scheduled.remove(sessionId);
+        if (previous != null) {
+            previous.cancelAll();
+        }
+    }
+
+    /**
+     * Number of sessions with at least one pending reminder
+     */
+    public int getScheduledSessionCount() {
+        return scheduled.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+    }
+
+    private void fire(Long sessionId, LocalDateTime expectedStart, int offset) {
+        ScheduledReminders current = scheduled.get(sessionId);
+        // A reschedule replaced this reminder set after the timeout was already expiring
+        if (current == null || !current.dateHeure.equals(expectedStart)) {
+            return;
+        }
+        if (current.timeouts.stream().allMatch(Timeout::isExpired)) {
+            scheduled.remove(sessionId, current);
+        }
+
+        // The job handler re-checks the session state before sending
+        jobService.enqueueReminder(sessionId, expectedStart, offset)
+                .subscribe(
+                        null,
+                        error -> log.error("Failed to enqueue {}-minute reminder for session {}: {}",
+                                offset, sessionId, error.getMessage()));
+    }
+
+    private static final class ScheduledReminders {
+        private final LocalDateTime dateHeure;
+        private final List<Timeout> timeouts = new ArrayList<>(REMINDER_OFFSETS_MINUTES.length);
+
+        private ScheduledReminders(LocalDateTime dateHeure) {
+            this.dateHeure = dateHeure;
+        }
+
+        private void cancelAll() {
+            timeouts.forEach(Timeout::cancel);
+        }
+    }
+}
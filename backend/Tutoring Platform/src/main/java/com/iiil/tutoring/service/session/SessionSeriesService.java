@@ -0,0 +1,327 @@
+package com.iiil.tutoring.service.session;
+
+import com.iiil.tutoring.dto.session.CreateSessionSeriesDTO;
+import com.iiil.tutoring.dto.session.RescheduleSeriesDTO;
+import com.iiil.tutoring.dto.session.SessionResponseDTO;
+import com.iiil.tutoring.dto.session.SessionSeriesResponseDTO;
+import com.iiil.tutoring.dto.session.SessionSeriesResponseDTO.OccurrenceConflict;
+import com.iiil.tutoring.entity.SerieSession;
+import com.iiil.tutoring.entity.Session;
+import com.iiil.tutoring.enums.SessionStatus;
+import com.iiil.tutoring.repository.SerieSessionRepository;
+import com.iiil.tutoring.repository.SessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Service for recurring session series: server-side expansion of a weekly pattern,
+ * single-pass conflict validation and batched creation, reschedule and cancellation
+ */
+@Service
+public class SessionSeriesService {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionSeriesService.class);
+
+    private static final int MAX_OCCURRENCES = 104;
+
+    private final SessionRepository sessionRepository;
+    private final SerieSessionRepository serieSessionRepository;
+    private final SessionService sessionService;
+    private final SessionReminderScheduler reminderScheduler;
+
+    @Autowired
+    public SessionSeriesService(SessionRepository sessionRepository,
+                                SerieSessionRepository serieSessionRepository,
+                                SessionService sessionService,
+                                SessionReminderScheduler reminderScheduler) {
+        this.sessionRepository = sessionRepository;
+        this.serieSessionRepository = serieSessionRepository;
+        this.sessionService = sessionService;
+        this.reminderScheduler = reminderScheduler;
+    }
+
+    // ===============================================
+    // SERIES OPERATIONS
+    // ===============================================
+
+    /**
+     * Create a recurring series. All occurrences are checked against one snapshot of the
+     * participants' bookings; conflict-free occurrences are inserted in a single transaction.
+     * Unless {@code ignorerConflits} is set, any conflict rejects the whole series.
+     */
+    @Transactional
+    public Mono<SessionSeriesResponseDTO> createSeries(CreateSessionSeriesDTO createDTO) {
+        List<LocalDateTime> occurrences;
+        try {
+            occurrences = expandOccurrences(createDTO);
+        } catch (RuntimeException e) {
+            return Mono.error(e);
+        }
+
+        LocalDateTime windowStart = occurrences.get(0);
+        LocalDateTime windowEnd = occurrences.get(occurrences.size() - 1).plusMinutes(createDTO.getDuree());
+
+        return sessionRepository.findActiveForParticipantsBetween(
+                        createDTO.getTuteurId(), createDTO.getEtudiantId(), windowStart, windowEnd)
+                .collectList()
+                .flatMap(existing -> {
+                    BookingIndex index = new BookingIndex(existing);
+                    SessionSeriesResponseDTO response = new SessionSeriesResponseDTO();
+                    response.setOccurrencesDemandees(occurrences.size());
+
+                    List<LocalDateTime> freeOccurrences = new ArrayList<>();
+                    for (LocalDateTime occurrence : occurrences) {
+                        List<OccurrenceConflict> conflicts = index.conflictsFor(occurrence, createDTO.getDuree(),
+                                createDTO.getTuteurId(), createDTO.getEtudiantId());
+                        if (conflicts.isEmpty()) {
+                            freeOccurrences.add(occurrence);
+                        } else {
+                            response.getConflits().addAll(conflicts);
+                        }
+                    }
+
+                    if (freeOccurrences.isEmpty() || (response.hasConflits() && !createDTO.isIgnorerConflits())) {
+                        log.info("Series for tutor {} and student {} not created: {} conflict(s)",
+                                createDTO.getTuteurId(), createDTO.getEtudiantId(), response.getConflits().size());
+                        return Mono.just(response);
+                    }
+
+                    return serieSessionRepository.save(toSerie(createDTO, occurrences.size()))
+                            .flatMap(serie -> sessionRepository.insertAll(toSessions(createDTO, serie.getId(), freeOccurrences))
+                                    .doOnNext(reminderScheduler::schedule)
+                                    .map(sessionService::mapToResponseDTO)
+                                    .collectList()
+                                    .map(sessions -> {
+                                        response.setSerieId(serie.getId());
+                                        response.setSessions(sessions);
+                                        response.setOccurrencesTraitees(sessions.size());
+                                        log.info("Created series {} with {} session(s)", serie.getId(), sessions.size());
+                                        return response;
+                                    }));
+                });
+    }
+
+    /**
+     * Shift every remaining occurrence of a series. The new slots are validated in one pass;
+     * if any of them conflicts nothing is moved and the conflicts are returned.
+     */
+    @Transactional
+    public Mono<SessionSeriesResponseDTO> rescheduleSeries(Long serieId, RescheduleSeriesDTO rescheduleDTO) {
+        if (rescheduleDTO.getDecalageMinutes() == 0) {
+            return Mono.error(new RuntimeException("Reschedule offset must not be zero"));
+        }
+
+        LocalDateTime depuis = rescheduleDTO.getDepuis() != null ? rescheduleDTO.getDepuis() : LocalDateTime.now();
+        int minutes = rescheduleDTO.getDecalageMinutes();
+
+        return serieSessionRepository.findById(serieId)
+                .switchIfEmpty(Mono.error(new RuntimeException("Series not found with id: " + serieId)))
+                .flatMap(serie -> sessionRepository.findBySerieId(serieId)
+                        .filter(session -> isMovable(session) && session.getDateHeure().isAfter(depuis))
+                        .collectList()
+                        .flatMap(toMove -> {
+                            SessionSeriesResponseDTO response = new SessionSeriesResponseDTO();
+                            response.setSerieId(serieId);
+                            response.setOccurrencesDemandees(toMove.size());
+                            if (toMove.isEmpty()) {
+                                return Mono.just(response);
+                            }
+
+                            LocalDateTime firstNewStart = toMove.get(0).getDateHeure().plusMinutes(minutes);
+                            if (!firstNewStart.isAfter(LocalDateTime.now())) {
+                                return Mono.error(new RuntimeException("Rescheduled occurrences must be in the future"));
+                            }
+                            Session last = toMove.get(toMove.size() - 1);
+                            LocalDateTime windowEnd = last.getDateHeure().plusMinutes(minutes + last.getDuree());
+                            Set<Long> movedIds = toMove.stream().map(Session::getId).collect(Collectors.toSet());
+
+                            return sessionRepository.findActiveForParticipantsBetween(
+                                            serie.getTuteurId(), serie.getEtudiantId(), firstNewStart, windowEnd)
+                                    .filter(session -> !movedIds.contains(session.getId()))
+                                    .collectList()
+                                    .flatMap(existing -> {
+                                        BookingIndex index = new BookingIndex(existing);
+                                        for (Session session : toMove) {
+                                            response.getConflits().addAll(index.conflictsFor(
+                                                    session.getDateHeure().plusMinutes(minutes), session.getDuree(),
+                                                    serie.getTuteurId(), serie.getEtudiantId()));
+                                        }
+                                        if (response.hasConflits()) {
+                                            return Mono.just(response);
+                                        }
+
+                                        String note = "\n\nSeries rescheduled by " + minutes + " minutes";
+                                        if (rescheduleDTO.getRaison() != null) {
+                                            note += ". Reason: " + rescheduleDTO.getRaison();
+                                        }
+                                        return sessionRepository.shiftSeriesOccurrences(serieId, depuis, minutes, note)
+                                                .doOnNext(reminderScheduler::schedule)
+                                                .map(sessionService::mapToResponseDTO)
+                                                .collectList()
+                                                .map(sessions -> {
+                                                    response.setSessions(sessions);
+                                                    response.setOccurrencesTraitees(sessions.size());
+                                                    return response;
+                                                });
+                                    });
+                        }));
+    }
+
+    /**
+     * Cancel every remaining occurrence of a series with a single statement.
+     * Pending reminders of the cancelled occurrences are dropped when they fire.
+     */
+    public Mono<Integer> cancelSeries(Long serieId, String reason) {
+        String note = "\n\nSeries cancelled" + (reason != null ? ". Reason: " + reason : "");
+        return serieSessionRepository.findById(serieId)
+                .switchIfEmpty(Mono.error(new RuntimeException("Series not found with id: " + serieId)))
+                .flatMap(serie -> sessionRepository.cancelSeriesOccurrences(serieId, LocalDateTime.now(), note))
+                .doOnNext(count -> log.info("Cancelled {} occurrence(s) of series {}", count, serieId));
+    }
+
+    /**
+     * Get all sessions of a series
+     */
+    public Flux<SessionResponseDTO> getSeriesSessions(Long serieId) {
+        return sessionRepository.findBySerieId(serieId)
+                .map(sessionService::mapToResponseDTO);
+    }
+
+    // ===============================================
+    // EXPANSION
+    // ===============================================
+
+    /**
+     * Expand the weekly pattern into concrete start times, in chronological order. Occurrences fall
+     * on distinct days at the same time and last at most 8 hours, so they never overlap each other.
+     */
+    List<LocalDateTime> expandOccurrences(CreateSessionSeriesDTO createDTO) {
+        if (createDTO.getNombreOccurrences() == null && createDTO.getDateFin() == null) {
+            throw new RuntimeException("Either the number of occurrences or an end date is required");
+        }
+
+        LocalDateTime first = createDTO.getPremiereDateHeure();
+        Set<DayOfWeek> days = createDTO.getJoursSemaine() == null || createDTO.getJoursSemaine().isEmpty()
+                ? EnumSet.of(first.getDayOfWeek())
+                : EnumSet.copyOf(createDTO.getJoursSemaine());
+        if (createDTO.getNombreOccurrences() != null && createDTO.getNombreOccurrences() > MAX_OCCURRENCES) {
+            throw new RuntimeException("A series cannot exceed " + MAX_OCCURRENCES + " occurrences");
+        }
+        // One past the maximum, so that an end date too far away is detected instead of truncated
+        int limit = createDTO.getNombreOccurrences() != null
+                ? createDTO.getNombreOccurrences()
+                : MAX_OCCURRENCES + 1;
+        LocalDate dateFin = createDTO.getDateFin();
+        int interval = Math.max(1, createDTO.getIntervalleSemaines());
+
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        LocalDate firstMonday = first.toLocalDate().with(DayOfWeek.MONDAY);
+        for (int week = 0; occurrences.size() < limit; week += interval) {
+            LocalDate monday = firstMonday.plusWeeks(week);
+            if (dateFin != null && monday.isAfter(dateFin)) {
+                break;
+            }
+            // EnumSet iterates from MONDAY to SUNDAY, so occurrences stay sorted
+            for (DayOfWeek day : days) {
+                LocalDateTime occurrence = monday.plusDays(day.ordinal()).atTime(first.toLocalTime());
+                if (occurrence.isBefore(first)) {
+                    continue;
+                }
+                if ((dateFin != null && occurrence.toLocalDate().isAfter(dateFin)) || occurrences.size() >= limit) {
+                    break;
+                }
+                occurrences.add(occurrence);
+            }
+        }
+
+        if (occurrences.isEmpty()) {
+            throw new RuntimeException("The recurrence pattern does not produce any occurrence");
+        }
+        if (occurrences.size() > MAX_OCCURRENCES) {
+            throw new RuntimeException("The recurrence pattern produces more than " + MAX_OCCURRENCES + " occurrences");
+        }
+        return occurrences;
+    }
+
+    // ===============================================
+    // UTILITY METHODS
+    // ===============================================
+
+    private SerieSession toSerie(CreateSessionSeriesDTO createDTO, int occurrenceCount) {
+        SerieSession serie = new SerieSession();
+        serie.setTuteurId(createDTO.getTuteurId());
+        serie.setEtudiantId(createDTO.getEtudiantId());
+        serie.setMatiereId(createDTO.getMatiereId());
+        serie.setDateDebut(createDTO.getPremiereDateHeure());
+        serie.setJoursSemaine(createDTO.getJoursSemaine() == null || createDTO.getJoursSemaine().isEmpty()
+                ? createDTO.getPremiereDateHeure().getDayOfWeek().name()
+                : EnumSet.copyOf(createDTO.getJoursSemaine()).stream().map(Enum::name).collect(Collectors.joining(",")));
+        serie.setIntervalleSemaines(Math.max(1, createDTO.getIntervalleSemaines()));
+        serie.setNombreOccurrences(occurrenceCount);
+        serie.setDuree(createDTO.getDuree());
+        return serie;
+    }
+
+    private List<Session> toSessions(CreateSessionSeriesDTO createDTO, Long serieId, List<LocalDateTime> occurrences) {
+        SessionStatus statut = createDTO.isRequiresConfirmation() ? SessionStatus.DEMANDEE : SessionStatus.CONFIRMEE;
+        List<Session> sessions = new ArrayList<>(occurrences.size());
+        for (LocalDateTime occurrence : occurrences) {
+            Session session = new Session(createDTO.getTuteurId(), createDTO.getEtudiantId(), createDTO.getMatiereId(),
+                    occurrence, createDTO.getDuree(), createDTO.getTypeSession(), createDTO.getPrix());
+            session.setSerieId(serieId);
+            session.setStatut(statut);
+            session.setLienVisio(createDTO.getLienVisio());
+            session.setNotes(createDTO.getNotes());
+            session.setSalle(createDTO.getSalle());
+            sessions.add(session);
+        }
+        return sessions;
+    }
+
+    private boolean isMovable(Session session) {
+        return session.getStatut() == SessionStatus.DEMANDEE || session.getStatut() == SessionStatus.CONFIRMEE;
+    }
+
+    /**
+     * In-memory index of existing bookings keyed by start time, built from a single query
+     */
+    private static final class BookingIndex {
+
+        private final NavigableMap<LocalDateTime, List<Session>> byStart = new TreeMap<>();
+        private int longestDuree;
+
+        BookingIndex(List<Session> sessions) {
+            for (Session session : sessions) {
+                byStart.computeIfAbsent(session.getDateHeure(), k -> new ArrayList<>()).add(session);
+                longestDuree = Math.max(longestDuree, session.getDuree());
+            }
+        }
+
+        List<OccurrenceConflict> conflictsFor(LocalDateTime start, int duree, Long tuteurId, Long etudiantId) {
+            LocalDateTime end = start.plusMinutes(duree);
+            List<OccurrenceConflict> conflicts = new ArrayList<>();
+            // Only bookings starting less than the longest duration before this slot can overlap it
+            for (List<Session> bucket : byStart.subMap(start.minusMinutes(longestDuree), false, end, false).values()) {
+                for (Session existing : bucket) {
+                    if (existing.getDateFin().isAfter(start)) {
+                        String participant = tuteurId.equals(existing.getTuteurId()) ? "TUTEUR" : "ETUDIANT";
+                        conflicts.add(new OccurrenceConflict(start, existing.getId(),
+                                existing.getDateHeure(), existing.getDateFin(), participant));
+                    }
+                }
+            }
+            return conflicts;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.iiil.tutoring.enums.SessionStatus;
 import com.iiil.tutoring.enums.SessionType;
 import com.iiil.tutoring.repository.SessionRepository;
 import com.iiil.tutoring.repository.result.SessionDetailsResult;
+import com.iiil.tutoring.service.recommendation.TutorRecommender;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,10 +26,15 @@ public class SessionService {
     private static final Logger log = LoggerFactory.getLogger(SessionService.class);
 
     private final SessionRepository sessionRepository;
+    private final SessionReminderScheduler reminderScheduler;
+    private final TutorRecommender recommender;
 
     @Autowired
-    public SessionService(SessionRepository sessionRepository) {
+    public SessionService(SessionRepository sessionRepository, SessionReminderScheduler reminderScheduler,
+                          TutorRecommender recommender) {
         this.sessionRepository = sessionRepository;
+        this.reminderScheduler = reminderScheduler;
+        this.recommender = recommender;
     }
 
     // ===============================================
@@ -60,6 +66,7 @@ public class SessionService {
         }
 
         return sessionRepository.save(session)
+                .doOnNext(reminderScheduler::schedule)
                 .map(this::mapToResponseDTO);
     }
 
@@ -111,6 +118,7 @@ public class SessionService {
 
                     return sessionRepository.save(existingSession);
                 })
+                .doOnNext(reminderScheduler::schedule)
                 .map(this::mapToResponseDTO);
     }
 
@@ -127,6 +135,7 @@ public class SessionService {
                     session.setStatut(SessionStatus.CONFIRMEE);
                     return sessionRepository.save(session);
                 })
+                .doOnNext(reminderScheduler::schedule)
                 .map(this::mapToResponseDTO);
     }
 
@@ -143,6 +152,7 @@ public class SessionService {
                     session.setStatut(SessionStatus.EN_COURS);
                     return sessionRepository.save(session);
                 })
+                .doOnNext(reminderScheduler::schedule)
                 .map(this::mapToResponseDTO);
     }
 
@@ -166,6 +176,8 @@ public class SessionService {
                     
                     return sessionRepository.save(session);
                 })
+                .doOnNext(reminderScheduler::schedule)
+                .flatMap(saved -> recommender.refreshStudent(saved.getEtudiantId()).thenReturn(saved))
                 .map(this::mapToResponseDTO);
     }
 
@@ -187,6 +199,7 @@ public class SessionService {
                     
                     return sessionRepository.save(session);
                 })
+                .doOnNext(reminderScheduler::schedule)
                 .map(this::mapToResponseDTO);
     }
 
@@ -214,6 +227,7 @@ public class SessionService {
                     
                     return sessionRepository.save(session);
                 })
+                .doOnNext(reminderScheduler::schedule)
                 .map(this::mapToResponseDTO);
     }
 
@@ -228,7 +242,8 @@ public class SessionService {
                         return Mono.error(new RuntimeException("Cannot delete a session that is in progress or completed"));
                     }
                     return sessionRepository.delete(session);
-                });
+                })
+                .doOnSuccess(v -> reminderScheduler.cancel(sessionId));
     }
 
     // ===============================================
@@ -414,7 +429,7 @@ public class SessionService {
     // MAPPING METHODS
     // ===============================================
 
-    private SessionResponseDTO mapToResponseDTO(Session session) {
+    SessionResponseDTO mapToResponseDTO(Session session) {
         SessionResponseDTO dto = new SessionResponseDTO();
         dto.setId(session.getId());
         dto.setTuteurId(session.getTuteurId());
@@ -431,6 +446,7 @@ public class SessionService {
         dto.setSalle(session.getSalle());
         dto.setCreatedAt(session.getCreatedAt());
         dto.setUpdatedAt(session.getUpdatedAt());
+        dto.setRecurring(session.getSerieId() != null);
 
         // Calculate additional fields
         dto.setDateFin(session.getDateFin());
@@ -0,0 +1,40 @@
+package com.iiil.tutoring.util;
+
+/**
+ * Utility class for distances between geographic coordinates (degrees, WGS84 sphere)
+ */
+public class GeoUtil {
+
+    /**
+     * Mean earth radius in kilometers
+     */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /**
+     * Great-circle distance in kilometers (haversine formula)
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * Smallest latitude/longitude box containing the circle of {@code radiusKm} around a point,
+     * as {minLat, maxLat, minLon, maxLon}. The box is clamped to [-180, 180] instead of wrapping
+     * around the antimeridian, and spans every longitude when the circle reaches a pole.
+     */
+    public static double[] boundingBox(double lat, double lon, double radiusKm) {
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double minLat = lat - Math.toDegrees(angular);
+        double maxLat = lat + Math.toDegrees(angular);
+        if (minLat <= -90.0 || maxLat >= 90.0) {
+            return new double[]{Math.max(minLat, -90.0), Math.min(maxLat, 90.0), -180.0, 180.0};
+        }
+        double dLon = Math.toDegrees(Math.asin(Math.min(1.0, Math.sin(angular) / Math.cos(Math.toRadians(lat)))));
+        return new double[]{minLat, maxLat, Math.max(lon - dLon, -180.0), Math.min(lon + dLon, 180.0)};
+    }
+}
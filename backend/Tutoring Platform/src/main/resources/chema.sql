@@ -212,6 +212,46 @@ create table demande_sessions
 alter table demande_sessions
     owner to postgres;
 
+create table series_sessions
+(
+    id                  bigserial
+        primary key,
+    tuteur_id           bigint    not null
+        references users
+            on delete cascade,
+    etudiant_id         bigint    not null
+        references users
+            on delete cascade,
+    matiere_id          bigint    not null
+        references matieres
+            on delete cascade,
+    date_debut          timestamp not null,
+    jours_semaine       varchar(100) not null,
+    intervalle_semaines integer   default 1
+        constraint series_sessions_intervalle_check
+            check (intervalle_semaines > 0),
+    nombre_occurrences  integer   not null
+        constraint series_sessions_occurrences_check
+            check (nombre_occurrences > 0),
+    duree               integer   not null
+        constraint series_sessions_duree_check
+            check (duree > 0),
+    created_at          timestamp default CURRENT_TIMESTAMP,
+    updated_at          timestamp default CURRENT_TIMESTAMP,
+    version             bigint    default 0
+);
+
+comment on table series_sessions is 'Weekly recurrence patterns expanded into individual sessions';
+
+alter table series_sessions
+    owner to postgres;
+
+create trigger update_series_sessions_updated_at
+    before update
+    on series_sessions
+    for each row
+    execute procedure update_updated_at_column();
+
 create table sessions
 (
     id                 bigserial
@@ -228,6 +268,9 @@ create table sessions
     demande_session_id bigint
                                  references demande_sessions
                                      on delete set null,
+    serie_id           bigint
+                                 references series_sessions
+                                     on delete set null,
     date_heure         timestamp not null,
     duree              integer   not null
         constraint sessions_duree_check
@@ -285,6 +328,12 @@ create index idx_sessions_statut
 create index idx_sessions_tuteur_date
     on sessions (tuteur_id, date_heure);
 
+create index idx_sessions_etudiant_date
+    on sessions (etudiant_id, date_heure);
+
+create index idx_sessions_serie
+    on sessions (serie_id);
+
 create trigger update_sessions_updated_at
     before update
     on sessions
@@ -549,15 +598,18 @@ create table notifications
         references users
             on delete cascade,
     titre         varchar(200) not null,
-    message       text         not null,
-    type          varchar(30) default 'INFO'::character varying
+    contenu       text         not null,
+    type          varchar(30)  not null
         constraint notifications_type_check
             check ((type)::text = ANY
-                   ((ARRAY ['INFO'::character varying, 'SUCCESS'::character varying, 'WARNING'::character varying, 'ERROR'::character varying, 'SESSION_REMINDER'::character varying, 'PAYMENT_DUE'::character varying, 'NEW_MESSAGE'::character varying])::text[])),
+                   ((ARRAY ['SESSION'::character varying, 'MESSAGE'::character varying, 'PAIEMENT'::character varying, 'SYSTEME'::character varying])::text[])),
     lue           boolean     default false,
     date_creation timestamp   default CURRENT_TIMESTAMP,
-    date_lecture  timestamp,
-    lien_action   varchar(500)
+    entity_id     bigint,
+    action_url    varchar(500),
+    created_at    timestamp   default CURRENT_TIMESTAMP,
+    updated_at    timestamp   default CURRENT_TIMESTAMP,
+    version       bigint      default 0
 );
 
 comment on table notifications is 'System notifications for users';
@@ -565,17 +617,50 @@ comment on table notifications is 'System notifications for users';
 alter table notifications
     owner to postgres;
 
-create index idx_notifications_user
-    on notifications (user_id);
+-- Serves every per-user listing and unread count: (user_id, lue) equality then date ordering
+create index idx_notifications_user_lue_date
+    on notifications (user_id, lue, date_creation desc);
 
 create index idx_notifications_type
     on notifications (type);
 
-create index idx_notifications_lue
-    on notifications (lue);
+-- Retention sweep: only read notifications are candidates for archiving
+create index idx_notifications_read_date
+    on notifications (date_creation)
+    where lue = true;
+
+create trigger update_notifications_updated_at
+    before update
+    on notifications
+    for each row
+    execute procedure update_updated_at_column();
+
+create table notifications_archive
+(
+    id            bigint       not null
+        primary key,
+    user_id       bigint       not null,
+    titre         varchar(200) not null,
+    contenu       text         not null,
+    type          varchar(30)  not null,
+    lue           boolean,
+    date_creation timestamp,
+    entity_id     bigint,
+    action_url    varchar(500),
+    created_at    timestamp,
+    archived_at   timestamp   default CURRENT_TIMESTAMP
+);
+
+comment on table notifications_archive is 'Read notifications moved out of notifications by the retention sweep';
+
+alter table notifications_archive
+    owner to postgres;
 
-create index idx_notifications_date
-    on notifications (date_creation);
+create index idx_notifications_archive_user_date
+    on notifications_archive (user_id, date_creation desc);
+
+create index idx_notifications_archive_date
+    on notifications_archive (date_creation);
 
 create table user_audit_logs
 (
@@ -704,4 +789,238 @@ create trigger update_tutors_updated_at
     before update
     on tutors
     for each row
-    execute procedure update_updated_at_column();
\ No newline at end of file
+    execute procedure update_updated_at_column();
+
+create table session_jobs
+(
+    id                bigserial
+        primary key,
+    type              varchar(40)  not null,
+    session_id        bigint
+                                   references sessions
+                                       on delete cascade,
+    date_reference    timestamp,
+    parametre         integer,
+    idempotency_key   varchar(200) not null
+        unique,
+    statut            varchar(20) default 'EN_ATTENTE'::character varying
+        constraint session_jobs_statut_check
+            check ((statut)::text = ANY
+                   ((ARRAY ['EN_ATTENTE'::character varying, 'EN_COURS'::character varying, 'TERMINE'::character varying, 'ECHOUE'::character varying])::text[])),
+    tentatives        integer     default 0,
+    max_tentatives    integer     default 5,
+    execute_apres     timestamp   not null,
+    verrouille_par    varchar(100),
+    verrouille_jusqua timestamp,
+    derniere_erreur   text,
+    created_at        timestamp   default CURRENT_TIMESTAMP,
+    updated_at        timestamp   default CURRENT_TIMESTAMP
+);
+
+comment on table session_jobs is 'Durable outbox of session lifecycle jobs claimed with FOR UPDATE SKIP LOCKED';
+
+alter table session_jobs
+    owner to postgres;
+
+create index idx_session_jobs_claim
+    on session_jobs (execute_apres)
+    where statut = 'EN_ATTENTE';
+
+create index idx_session_jobs_lease
+    on session_jobs (verrouille_jusqua)
+    where statut = 'EN_COURS';
+
+create trigger update_session_jobs_updated_at
+    before update
+    on session_jobs
+    for each row
+    execute procedure update_updated_at_column();
+
+create table revoked_tokens
+(
+    jti        varchar(64) not null
+        primary key,
+    user_id    bigint,
+    expires_at timestamp   not null,
+    revoked_at timestamp default CURRENT_TIMESTAMP
+);
+
+comment on table revoked_tokens is 'Ids of consumed or revoked refresh tokens, kept until the token expires';
+
+alter table revoked_tokens
+    owner to postgres;
+
+create index idx_revoked_tokens_expires_at
+    on revoked_tokens (expires_at);
+
+create table user_token_revocations
+(
+    user_id        bigint    not null
+        primary key
+        references users
+            on delete cascade,
+    revoked_before timestamp not null
+);
+
+comment on table user_token_revocations is 'Tokens of the user issued before revoked_before are rejected (blocked users, role changes)';
+
+alter table user_token_revocations
+    owner to postgres;
+
+-- Recherche plein texte et approximative des tuteurs
+create extension if not exists pg_trgm;
+
+create extension if not exists unaccent;
+
+-- unaccent() n'est que STABLE : cette variante IMMUTABLE peut servir dans les index
+CREATE OR REPLACE FUNCTION f_unaccent(text)
+RETURNS text AS $$
+SELECT public.unaccent('public.unaccent'::regdictionary, $1);
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+alter table tutors
+    add column search_vector tsvector;
+
+alter table tutors
+    add column search_text text;
+
+comment on column tutors.search_vector is 'Nom (A), spécialités (B), diplômes (C) et description (D), sans accents, configuration french';
+
+comment on column tutors.search_text is 'Nom, spécialités et diplômes en minuscules sans accents, pour la recherche par trigrammes';
+
+create index idx_tutors_search_vector
+    on tutors using gin (search_vector);
+
+create index idx_tutors_search_text_trgm
+    on tutors using gin (search_text gin_trgm_ops);
+
+-- Recalcule le document de recherche d'un tuteur à partir du tuteur, de l'utilisateur et des spécialités
+CREATE OR REPLACE FUNCTION refresh_tutor_search_document(p_tutor_id bigint)
+RETURNS void AS $$
+BEGIN
+    UPDATE tutors t
+    SET search_vector =
+            setweight(to_tsvector('french', f_unaccent(concat_ws(' ', u.prenom, u.nom))), 'A') ||
+            setweight(to_tsvector('french', f_unaccent(coalesce(s.noms, ''))), 'B') ||
+            setweight(to_tsvector('french', f_unaccent(coalesce(t.diplomes, ''))), 'C') ||
+            setweight(to_tsvector('french', f_unaccent(coalesce(t.description, ''))), 'D'),
+        search_text = lower(f_unaccent(concat_ws(' ', u.prenom, u.nom, s.noms, t.diplomes)))
+    FROM users u
+    LEFT JOIN LATERAL (
+        SELECT string_agg(m.nom, ' ' ORDER BY m.nom) AS noms
+        FROM tutor_specialites ts
+        JOIN matieres m ON m.id = ts.matiere_id
+        WHERE ts.tutor_id = p_tutor_id
+    ) s ON true
+    WHERE t.id = p_tutor_id
+      AND u.id = t.id;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION trg_tutors_search_document()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_tutor_search_document(NEW.id);
+RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION trg_tutor_specialites_search_document()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_tutor_search_document(COALESCE(NEW.tutor_id, OLD.tutor_id));
+    IF TG_OP = 'UPDATE' AND NEW.tutor_id <> OLD.tutor_id THEN
+        PERFORM refresh_tutor_search_document(OLD.tutor_id);
+    END IF;
+RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION trg_matieres_search_document()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_tutor_search_document(ts.tutor_id)
+    FROM tutor_specialites ts
+    WHERE ts.matiere_id = NEW.id;
+RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+create trigger tr_tutors_search_document
+    after insert or update of description, diplomes
+    on tutors
+    for each row
+    execute procedure trg_tutors_search_document();
+
+create trigger tr_users_search_document
+    after update of nom, prenom
+    on users
+    for each row
+    execute procedure trg_tutors_search_document();
+
+create trigger tr_tutor_specialites_search_document
+    after insert or update or delete
+    on tutor_specialites
+    for each row
+    execute procedure trg_tutor_specialites_search_document();
+
+create trigger tr_matieres_search_document
+    after update of nom
+    on matieres
+    for each row
+    execute procedure trg_matieres_search_document();
+
+-- Initialisation des documents existants
+SELECT refresh_tutor_search_document(id) FROM tutors;
+
+-- Pagination par clé (keyset) des listes de tuteurs
+create index idx_tutors_rating_keyset
+    on tutors (note_moyenne desc, nombre_evaluations desc, id desc);
+
+create index idx_tutors_price_keyset
+    on tutors (tarif_horaire, id);
+
+create index idx_tutors_created_keyset
+    on tutors (created_at desc, id desc);
+
+-- Agrégation incrémentale des notes et score de classement (moyenne bayésienne)
+alter table tutors
+    add column somme_notes numeric(12, 2) default 0 not null;
+
+alter table tutors
+    add column score_classement double precision default 0 not null;
+
+comment on column tutors.somme_notes is 'Somme des notes reçues, incrémentée atomiquement avec nombre_evaluations';
+
+comment on column tutors.score_classement is 'Moyenne bayésienne (5 notes virtuelles de 3.5 par défaut), 0 sans évaluation';
+
+update tutors
+set somme_notes      = note_moyenne * nombre_evaluations,
+    score_classement = CASE WHEN nombre_evaluations > 0
+                            THEN (5 * 3.5 + note_moyenne * nombre_evaluations) / (5 + nombre_evaluations)
+                            ELSE 0 END;
+
+create index idx_tutors_score_classement
+    on tutors (score_classement desc, id desc);
+
+-- Coordonnées des tuteurs pour la recherche par rayon (boîte englobante puis distance haversine)
+alter table tutors
+    add column latitude double precision
+        constraint tutors_latitude_check check (latitude between -90 and 90);
+
+alter table tutors
+    add column longitude double precision
+        constraint tutors_longitude_check check (longitude between -180 and 180);
+
+comment on column tutors.latitude is 'Latitude (WGS84) du lieu des cours en présentiel';
+
+comment on column tutors.longitude is 'Longitude (WGS84) du lieu des cours en présentiel';
+
+create index idx_tutors_coordinates
+    on tutors (latitude, longitude)
+    where latitude is not null and longitude is not null;
+
+-- Unicité du nom des matières : cible de l'import en masse (INSERT ... ON CONFLICT (nom) DO NOTHING).
+-- Les doublons éventuels doivent être fusionnés avant la création de l'index.
+create unique index uk_matieres_nom
+    on matieres (nom);
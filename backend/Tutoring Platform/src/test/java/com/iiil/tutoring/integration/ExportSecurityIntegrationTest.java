@@ -0,0 +1,49 @@
+package com.iiil.tutoring.integration;
+
+import com.iiil.tutoring.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Data exports are restricted to administrators
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class ExportSecurityIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void anonymousExportIsRejected() {
+        webTestClient.get()
+                .uri("/api/v1/exports/users")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get()
+                .uri("/api/v1/exports/paiements?format=csv")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void nonAdminExportIsForbidden() {
+        String token = jwtUtil.generateToken("etudiant@test.com", "STUDENT", 42L);
+
+        webTestClient.get()
+                .uri("/api/v1/exports/users")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+}
@@ -0,0 +1,120 @@
+package com.iiil.tutoring.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the password hashing pool: BCrypt must run on the hashing threads, never on the
+ * calling event loop, including for logins going through the authentication manager
+ */
+class PasswordHashingServiceTest {
+
+    private static final int BCRYPT_STRENGTH = 10;
+
+    // Records the thread of every hash verification
+    private final List<String> hashingThreads = new CopyOnWriteArrayList<>();
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(BCRYPT_STRENGTH) {
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            hashingThreads.add(Thread.currentThread().getName());
+            return super.matches(rawPassword, encodedPassword);
+        }
+    };
+
+    private Scheduler eventLoop;
+
+    @BeforeEach
+    void setUp() {
+        // Stand-in for a single Netty event loop thread
+        eventLoop = Schedulers.newSingle("event-loop");
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventLoop.dispose();
+    }
+
+    @Test
+    void hashingRunsOnTheHashingPool() {
+        PasswordHashingService hashing = new PasswordHashingService(encoder, 2, 256);
+        String hash = encoder.encode("motdepasse");
+
+        Flux.range(0, 8)
+                .flatMap(i -> Mono.defer(() -> hashing.matches("motdepasse", hash)).subscribeOn(eventLoop))
+                .blockLast(Duration.ofSeconds(30));
+
+        assertEquals(8, hashingThreads.size());
+        assertTrue(hashingThreads.stream().allMatch(thread -> thread.startsWith("password-hashing")),
+                "hashed on " + hashingThreads);
+        assertEquals(8, hashing.getStats().getCompleted());
+        hashing.shutdown();
+    }
+
+    @Test
+    void authenticationManagerVerifiesThroughTheHashingService() {
+        PasswordHashingService hashing = new PasswordHashingService(encoder, 1, 256);
+        String hash = encoder.encode("motdepasse");
+        HashingReactiveAuthenticationManager manager = new HashingReactiveAuthenticationManager(
+                username -> Mono.just(User.withUsername(username).password(hash).roles("STUDENT").build()),
+                hashing);
+
+        Mono<Authentication> login = manager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("etudiant@example.com", "motdepasse"));
+        StepVerifier.create(login.subscribeOn(eventLoop))
+                .expectNextMatches(authentication -> authentication.isAuthenticated()
+                        && authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_STUDENT")))
+                .verifyComplete();
+
+        Mono<Authentication> badLogin = manager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("etudiant@example.com", "mauvais"));
+        StepVerifier.create(badLogin.subscribeOn(eventLoop))
+                .expectError(BadCredentialsException.class)
+                .verify(Duration.ofSeconds(30));
+
+        assertEquals(2, hashingThreads.size());
+        assertTrue(hashingThreads.stream().allMatch(thread -> thread.startsWith("password-hashing")),
+                "hashed on " + hashingThreads);
+        assertEquals(2, hashing.getStats().getCompleted());
+        hashing.shutdown();
+    }
+
+    @Test
+    void rejectsWorkBeyondQueueCapacity() {
+        PasswordHashingService hashing = new PasswordHashingService(encoder, 1, 2);
+        String hash = encoder.encode("motdepasse");
+        AtomicInteger rejected = new AtomicInteger();
+
+        Flux.range(0, 10)
+                .flatMap(i -> hashing.matches("motdepasse", hash)
+                        .onErrorResume(RejectedExecutionException.class, error -> {
+                            rejected.incrementAndGet();
+                            return Mono.empty();
+                        }))
+                .blockLast(Duration.ofSeconds(30));
+
+        assertEquals(7, rejected.get());
+        assertEquals(3, hashing.getStats().getCompleted());
+        assertEquals(7, hashing.getStats().getRejected());
+        hashing.shutdown();
+    }
+}
@@ -0,0 +1,59 @@
+package com.iiil.tutoring.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Token bucket behaviour: burst capacity, refill rate, per-key isolation and bounded key count
+ */
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void allowsBurstThenRefillsAtConfiguredRate() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 5, 2, 1000, 4);
+        long now = 0;
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("user@test.com", now));
+        }
+        long retryAfter = limiter.tryAcquire("user@test.com", now);
+        assertEquals(30, retryAfter);
+
+        // Another key has its own bucket
+        assertEquals(0, limiter.tryAcquire("other@test.com", now));
+
+        // 2 tokens per minute: one token back after 30 seconds, not before
+        assertTrue(limiter.tryAcquire("user@test.com", now + 29 * SECOND) > 0);
+        assertEquals(0, limiter.tryAcquire("user@test.com", now + 30 * SECOND));
+        assertTrue(limiter.tryAcquire("user@test.com", now + 30 * SECOND) > 0);
+
+        assertEquals(7, limiter.getAllowed());
+        assertEquals(3, limiter.getRejected());
+    }
+
+    @Test
+    void resetRefillsTheBucket() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1, 1, 1000, 1);
+
+        assertEquals(0, limiter.tryAcquire("user@test.com", 0));
+        assertTrue(limiter.tryAcquire("user@test.com", 0) > 0);
+        limiter.reset("user@test.com");
+        assertEquals(0, limiter.tryAcquire("user@test.com", 0));
+    }
+
+    @Test
+    void trackedKeysStayBounded() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 3, 10, 64, 4);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("10.0." + (i / 256) + "." + (i % 256), 0);
+        }
+
+        assertTrue(limiter.getTrackedKeys() <= 64, "tracked keys: " + limiter.getTrackedKeys());
+        assertTrue(limiter.getEvicted() > 0);
+    }
+}
@@ -0,0 +1,156 @@
+package com.iiil.tutoring.service.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CSV escaping, NDJSON framing and incremental gzip of the streaming exports
+ */
+class DataExportServiceTest {
+
+    private static final String HEADER = "id,nom,prenom,email,telephone,statut,date_inscription,created_at\r\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DataExportService service;
+
+    @BeforeEach
+    void setUp() {
+        List<Map<String, Object>> users = List.of(
+                user(1L, "Dupont, Jean", "Le \"Grand\"", "=1+1", "ligne1\nligne2"),
+                user(2L, "Martin", "Léa", "lea@example.com", null),
+                user(3L, "+33", "@admin", "-2", "0612345678"),
+                user(4L, "Durand", "Paul", "paul@example.com", "0700000000"),
+                user(5L, "Petit", "Zoé", "zoe@example.com", "0600000000"));
+
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        when(databaseClient.sql(anyString())).thenAnswer(invocation -> query(users));
+        service = new DataExportService(databaseClient, objectMapper);
+        ReflectionTestUtils.setField(service, "fetchSize", 100);
+        ReflectionTestUtils.setField(service, "rowsPerChunk", 2);
+    }
+
+    @Test
+    void csvQuotesSeparatorsAndNeutralizesFormulas() {
+        String csv = new String(export(ExportFormat.CSV, false), StandardCharsets.UTF_8);
+
+        String[] lines = csv.split("\r\n");
+        assertEquals(HEADER, lines[0] + "\r\n");
+        assertEquals("1,\"Dupont, Jean\",\"Le \"\"Grand\"\"\",'=1+1,\"ligne1\nligne2\",ACTIVE,,", lines[1]);
+        assertEquals("2,Martin,Léa,lea@example.com,,ACTIVE,,", lines[2]);
+        assertEquals("3,'+33,'@admin,'-2,0612345678,ACTIVE,,", lines[3]);
+        assertEquals(6, lines.length);
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws IOException {
+        String ndjson = new String(export(ExportFormat.NDJSON, false), StandardCharsets.UTF_8);
+
+        assertTrue(ndjson.endsWith("\n"));
+        String[] lines = ndjson.split("\n");
+        assertEquals(5, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals("Dupont, Jean", first.get("nom").asText());
+        assertEquals("ligne1\nligne2", first.get("telephone").asText());
+        assertTrue(objectMapper.readTree(lines[1]).get("telephone").isNull());
+        for (String line : lines) {
+            assertEquals(8, objectMapper.readTree(line).size());
+        }
+    }
+
+    @Test
+    void gzipChunksDecompressToThePlainExport() throws IOException {
+        for (ExportFormat format : ExportFormat.values()) {
+            byte[] plain = export(format, false);
+            List<byte[]> chunks = chunks(format, true);
+
+            // header or first rows, further row chunks and the trailer are written separately
+            assertTrue(chunks.size() > 2, format + " exported in " + chunks.size() + " chunk(s)");
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            for (byte[] chunk : chunks) {
+                compressed.write(chunk);
+            }
+            try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+                assertArrayEquals(plain, gzip.readAllBytes());
+            }
+        }
+        assertEquals(service.getExportsStarted(), service.getExportsCompleted());
+    }
+
+    private byte[] export(ExportFormat format, boolean gzip) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        chunks(format, gzip).forEach(output::writeBytes);
+        return output.toByteArray();
+    }
+
+    private List<byte[]> chunks(ExportFormat format, boolean gzip) {
+        return service.export(ExportDataset.USERS, format, null, null, gzip, DefaultDataBufferFactory.sharedInstance)
+                .map(DataExportServiceTest::bytes)
+                .collectList()
+                .block();
+    }
+
+    private static byte[] bytes(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        return bytes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DatabaseClient.GenericExecuteSpec query(List<Map<String, Object>> rows) {
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        when(spec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, Object> mapper = invocation.getArgument(0);
+            RowsFetchSpec<Object> fetch = mock(RowsFetchSpec.class);
+            when(fetch.all()).thenAnswer(ignored -> Flux.fromIterable(rows).map(values -> mapper.apply(row(values), null)));
+            return fetch;
+        });
+        return spec;
+    }
+
+    private static Row row(Map<String, Object> values) {
+        Row row = mock(Row.class);
+        when(row.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        return row;
+    }
+
+    private static Map<String, Object> user(Long id, String nom, String prenom, String email, String telephone) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("nom", nom);
+        values.put("prenom", prenom);
+        values.put("email", email);
+        values.put("telephone", telephone);
+        values.put("statut", "ACTIVE");
+        return values;
+    }
+}
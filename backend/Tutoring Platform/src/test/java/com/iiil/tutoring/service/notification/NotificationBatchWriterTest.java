@@ -0,0 +1,132 @@
+package com.iiil.tutoring.service.notification;
+
+import com.iiil.tutoring.entity.Notification;
+import com.iiil.tutoring.enums.NotificationType;
+import com.iiil.tutoring.repository.NotificationBatchRepositoryImpl;
+import com.iiil.tutoring.repository.NotificationRepository;
+import io.r2dbc.spi.Readable;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for the notification batch writer over the multi-row INSERT repository:
+ * a broadcast is written in chunk-size batches, a chunk above the per-statement
+ * row limit is split into several statements, which the metrics must count, and
+ * generated ids are matched to their rows whatever order RETURNING uses
+ */
+class NotificationBatchWriterTest {
+
+    private static final int RECIPIENTS = 5_000;
+    private static final int CHUNK_SIZE = 2_500;
+    private static final Pattern ROW = Pattern.compile("\\(:userId\\d+");
+    // the stub database derives each generated id from the recipient
+    private static final long ID_OFFSET = 1_000_000;
+
+    // rows of every INSERT statement sent to the database
+    private final List<Integer> statementRows = new CopyOnWriteArrayList<>();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void broadcastIsSplitIntoBoundedStatements() {
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        when(databaseClient.sql(anyString())).thenAnswer(invocation -> statement(invocation.getArgument(0)));
+        NotificationBatchRepositoryImpl batchRepository = new NotificationBatchRepositoryImpl(databaseClient);
+
+        NotificationRepository repository = mock(NotificationRepository.class);
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> batchRepository.insertAll(invocation.getArgument(0)));
+        when(repository.getStatementsExecuted()).thenAnswer(invocation -> batchRepository.getStatementsExecuted());
+
+        NotificationPushService pushService = mock(NotificationPushService.class);
+        when(pushService.publish(anyList())).thenReturn(Mono.empty());
+
+        NotificationBatchWriter writer = new NotificationBatchWriter(repository, pushService);
+        ReflectionTestUtils.setField(writer, "chunkSize", CHUNK_SIZE);
+
+        Flux<Notification> broadcast = Flux.range(0, RECIPIENTS)
+                .map(i -> new Notification((long) i, "Maintenance système", "Maintenance prévue", NotificationType.SYSTEME));
+
+        StepVerifier.create(writer.writeAll(broadcast)
+                        .filter(notification -> notification.getId() == ID_OFFSET + notification.getUserId())
+                        .count())
+                .expectNext((long) RECIPIENTS)
+                .verifyComplete();
+
+        // each chunk of 2500 rows goes out as 1000 + 1000 + 500
+        assertEquals(List.of(1000, 1000, 500, 1000, 1000, 500), statementRows);
+
+        NotificationBatchWriter.BatchWriterStats stats = writer.getStats();
+        assertEquals(RECIPIENTS, stats.getNotificationsWritten());
+        assertEquals(6, stats.getStatementsExecuted());
+        assertEquals(RECIPIENTS / 6.0, stats.getAverageRowsPerStatement(), 0.001);
+        assertEquals(0, stats.getFailedChunks());
+    }
+
+    // An INSERT statement returning its generated rows in reverse order
+    @SuppressWarnings("unchecked")
+    private DatabaseClient.GenericExecuteSpec statement(String sql) {
+        Matcher matcher = ROW.matcher(sql);
+        int rows = 0;
+        while (matcher.find()) {
+            rows++;
+        }
+        statementRows.add(rows);
+
+        int rowCount = rows;
+        Map<String, Object> bindings = new ConcurrentHashMap<>();
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class, RETURNS_SELF);
+        when(spec.bind(anyString(), any())).thenAnswer(invocation -> {
+            bindings.put(invocation.getArgument(0), invocation.getArgument(1));
+            return spec;
+        });
+        when(spec.map(any(Function.class))).thenAnswer(invocation -> {
+            Function<Readable, Object> mapper = invocation.getArgument(0);
+            RowsFetchSpec<Object> fetch = mock(RowsFetchSpec.class);
+            when(fetch.all()).thenAnswer(ignored -> Flux.range(0, rowCount)
+                    .map(i -> mapper.apply(generatedRow(bindings, rowCount - 1 - i))));
+            return fetch;
+        });
+        return spec;
+    }
+
+    private static Readable generatedRow(Map<String, Object> bindings, int row) {
+        Long userId = (Long) bindings.get("userId" + row);
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("id", ID_OFFSET + userId);
+        columns.put("user_id", userId);
+        columns.put("type", bindings.get("type" + row));
+        columns.put("entity_id", bindings.get("entityId" + row));
+        return new Readable() {
+            @Override
+            public <T> T get(int index, Class<T> type) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> T get(String name, Class<T> type) {
+                return type.cast(columns.get(name));
+            }
+        };
+    }
+}
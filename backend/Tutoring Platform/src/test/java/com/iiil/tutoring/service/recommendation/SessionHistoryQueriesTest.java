@@ -0,0 +1,87 @@
+package com.iiil.tutoring.service.recommendation;
+
+import com.iiil.tutoring.enums.SessionStatus;
+import com.iiil.tutoring.repository.SessionRepository;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The session history queries against the status values the application actually stores
+ * (lower case, as written by the enum converters), on an in-memory H2 database
+ */
+class SessionHistoryQueriesTest {
+
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void createSchema() {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=MODE=PostgreSQL;DB_CLOSE_DELAY=-1"));
+        Flux.just(
+                "CREATE TABLE matieres (id BIGINT PRIMARY KEY, nom VARCHAR(100))",
+                "CREATE TABLE sessions (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, etudiant_id BIGINT, tuteur_id BIGINT, "
+                        + "matiere_id BIGINT, statut VARCHAR(20))",
+                "CREATE TABLE evaluations (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, evaluateur_id BIGINT, evalue_id BIGINT, "
+                        + "note INT, type_evaluation VARCHAR(30))",
+                "INSERT INTO matieres VALUES (1, 'Algèbre'), (2, 'Physique')",
+                "INSERT INTO evaluations (evaluateur_id, evalue_id, note, type_evaluation) VALUES (100, 10, 4, 'ETUDIANT_VERS_TUTEUR')")
+                .concatMap(sql -> databaseClient.sql(sql).then())
+                .then()
+                .block();
+        insertSession(100L, 10L, 1L, SessionStatus.TERMINEE);
+        insertSession(100L, 10L, 1L, SessionStatus.TERMINEE);
+        insertSession(100L, 11L, 2L, SessionStatus.TERMINEE);
+        insertSession(100L, 12L, 2L, SessionStatus.ANNULEE);
+        insertSession(100L, 12L, 2L, SessionStatus.CONFIRMEE);
+    }
+
+    @Test
+    void interactionsCountOnlyCompletedSessions() {
+        List<String> interactions = databaseClient.sql(TutorRecommender.ALL_INTERACTIONS)
+                .map(row -> row.get("tuteur_id", Long.class) + ":" + row.get("sessions", Long.class)
+                        + ":" + row.get("note", Double.class))
+                .all()
+                .sort()
+                .collectList()
+                .block();
+
+        assertEquals(List.of("10:2:4.0", "11:1:null"), interactions);
+    }
+
+    @Test
+    void mostStudiedMatieresCountOnlyCompletedSessions() throws NoSuchMethodException {
+        String sql = SessionRepository.class
+                .getMethod("findMostStudiedMatiereNames", Long.class, int.class)
+                .getAnnotation(Query.class)
+                .value();
+
+        List<String> noms = databaseClient.sql(sql)
+                .bind("etudiantId", 100L)
+                .bind("limit", 5)
+                .map(row -> row.get("nom", String.class))
+                .all()
+                .collectList()
+                .block();
+
+        assertEquals(List.of("Algèbre", "Physique"), noms);
+    }
+
+    private void insertSession(Long etudiantId, Long tuteurId, Long matiereId, SessionStatus statut) {
+        databaseClient.sql("INSERT INTO sessions (etudiant_id, tuteur_id, matiere_id, statut) VALUES (:e, :t, :m, :s)")
+                .bind("e", etudiantId)
+                .bind("t", tuteurId)
+                .bind("m", matiereId)
+                .bind("s", statut.getValue())
+                .then()
+                .block();
+    }
+}
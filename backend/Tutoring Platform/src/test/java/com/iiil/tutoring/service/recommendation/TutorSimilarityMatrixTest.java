@@ -0,0 +1,38 @@
+package com.iiil.tutoring.service.recommendation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Cosine similarities and neighbor rows of the tutor similarity matrix
+ */
+class TutorSimilarityMatrixTest {
+
+    @Test
+    void keepsTheMostSimilarTutorsFirst() {
+        // students 0 and 1 had tutors 0 and 1, student 2 had tutors 1 and 2; tutor 3 has no co-student
+        int[][] studentTutors = {{0, 1}, {0, 1}, {1, 2}, {3}};
+        float[][] studentWeights = {{1f, 1f}, {1f, 1f}, {1f, 1f}, {1f}};
+        int[][] tutorStudents = {{0, 1}, {0, 1, 2}, {2}, {3}};
+        float[][] tutorWeights = {{1f, 1f}, {1f, 1f, 1f}, {1f}, {1f}};
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            TutorSimilarityMatrix matrix = TutorSimilarityMatrix.build(
+                    studentTutors, studentWeights, tutorStudents, tutorWeights, 1, pool);
+
+            // tutor 1 is closer to tutor 0 (2 / sqrt(2 * 3)) than to tutor 2 (1 / sqrt(3)); one neighbor kept
+            assertEquals(1, matrix.rowEnd(1) - matrix.rowStart(1));
+            assertEquals(0, matrix.neighborAt(matrix.rowStart(1)));
+            assertEquals(2 / Math.sqrt(6), matrix.similarityAt(matrix.rowStart(1)), 1e-6);
+            assertEquals(1, matrix.neighborAt(matrix.rowStart(2)));
+            assertEquals(0, matrix.rowEnd(3) - matrix.rowStart(3));
+            assertEquals(3, matrix.getNeighborCount());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.iiil.tutoring.service.search;
+
+import com.iiil.tutoring.entity.Matiere;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Prefix matching and popularity order of the matière autocomplete
+ */
+class MatiereAutocompleteIndexTest {
+
+    @Test
+    void matchesWordPrefixesIgnoringAccentsInPopularityOrder() {
+        // most booked first
+        MatiereAutocompleteIndex index = MatiereAutocompleteIndex.build(List.of(
+                new Matiere("Analyse numérique", null, "avance", "Mathématiques"),
+                new Matiere("Algèbre linéaire", null, "intermediaire", "Mathématiques"),
+                new Matiere("Algorithmique", null, "debutant", "Informatique"),
+                new Matiere("Électronique", null, "debutant", "Physique")));
+
+        assertEquals(List.of("Algèbre linéaire", "Algorithmique"), noms(index.complete("ALG", 10)));
+        assertEquals(List.of("Algèbre linéaire"), noms(index.complete("alge", 10)));
+        assertEquals(List.of("Algèbre linéaire"), noms(index.complete("alg lin", 10)));
+        assertEquals(List.of("Électronique"), noms(index.complete("elec", 10)));
+        // domain words match too
+        assertEquals(List.of("Analyse numérique", "Algèbre linéaire"), noms(index.complete("math", 10)));
+        assertEquals(List.of("Analyse numérique"), noms(index.complete("math", 1)));
+        assertEquals(List.of("Analyse numérique", "Algèbre linéaire"), noms(index.complete("", 2)));
+        assertEquals(List.of(), noms(index.complete("chimie", 10)));
+    }
+
+    private static List<String> noms(List<Matiere> matieres) {
+        return matieres.stream().map(Matiere::getNom).toList();
+    }
+}
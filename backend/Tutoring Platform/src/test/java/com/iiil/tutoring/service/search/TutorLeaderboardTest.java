@@ -0,0 +1,36 @@
+package com.iiil.tutoring.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Ordering and updates of the tutor leaderboard
+ */
+class TutorLeaderboardTest {
+
+    @Test
+    void ranksOverallAndPerMatiereAndMovesTutorsOnUpdate() {
+        TutorLeaderboard leaderboard = new TutorLeaderboard();
+        leaderboard.put(1L, 4.2, new long[]{10L});
+        leaderboard.put(2L, 4.6, new long[]{10L, 11L});
+        leaderboard.put(3L, 3.9, new long[]{11L});
+
+        assertEquals(List.of(2L, 1L, 3L), leaderboard.top(null, 5));
+        assertEquals(List.of(2L), leaderboard.top(10L, 1));
+        assertEquals(List.of(2L, 3L), leaderboard.top(11L, 5));
+
+        // tutor 3 gets better ratings and leaves matière 11
+        leaderboard.put(3L, 4.9, new long[]{10L});
+        assertEquals(List.of(3L, 2L, 1L), leaderboard.top(null, 5));
+        assertEquals(List.of(3L, 2L, 1L), leaderboard.top(10L, 5));
+        assertEquals(List.of(2L), leaderboard.top(11L, 5));
+
+        leaderboard.remove(2L);
+        assertEquals(List.of(3L, 1L), leaderboard.top(null, 5));
+        assertEquals(List.of(), leaderboard.top(11L, 5));
+        assertEquals(2, leaderboard.size());
+    }
+}
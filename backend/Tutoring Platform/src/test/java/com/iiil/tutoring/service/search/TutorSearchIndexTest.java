@@ -0,0 +1,172 @@
+package com.iiil.tutoring.service.search;
+
+import com.iiil.tutoring.dto.tutor.TutorSearchRequest;
+import com.iiil.tutoring.entity.Tutor;
+import com.iiil.tutoring.enums.UserStatus;
+import com.iiil.tutoring.repository.TutorIndexRepository.TutorIndexRow;
+import com.iiil.tutoring.repository.TutorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Filtering, sorting and facet counts of the in-memory tutor search index
+ */
+class TutorSearchIndexTest {
+
+    private TutorRepository tutorRepository;
+    private TutorSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        tutorRepository = mock(TutorRepository.class);
+        index = new TutorSearchIndex(tutorRepository);
+        // id, ville, tarif, note, verified, online, in person, matières
+        add(1L, "Paris", "30.00", "4.80", true, true, false, List.of(10L), List.of("Mathématiques"));
+        add(2L, "paris ", "20.00", "4.20", false, true, true, List.of(10L, 11L), List.of("Mathématiques", "Physique"));
+        add(3L, "Lyon", "25.00", "3.90", true, false, true, List.of(11L), List.of("Physique"));
+        add(4L, "Lyon", "40.00", "5.00", false, true, false, List.of(), List.of());
+    }
+
+    @Test
+    void filtersWithPostingListsAndRanges() {
+        TutorSearchRequest request = new TutorSearchRequest();
+        request.setVille("PARIS");
+        assertEquals(List.of(1L, 2L), ids(index.search(request)));
+
+        request = new TutorSearchRequest();
+        request.setMatiereId(11L);
+        request.setMinRating(new BigDecimal("4.0"));
+        assertEquals(List.of(2L), ids(index.search(request)));
+
+        request = new TutorSearchRequest();
+        request.setMinTarif(new BigDecimal("25.00"));
+        request.setMaxTarif(new BigDecimal("30.00"));
+        request.setSortBy("price");
+        request.setSortDirection("asc");
+        assertEquals(List.of(3L, 1L), ids(index.search(request)));
+
+        request = new TutorSearchRequest();
+        request.setVerifiedOnly(true);
+        request.setInPersonOnly(true);
+        assertEquals(List.of(3L), ids(index.search(request)));
+    }
+
+    @Test
+    void sortsPaginatesAndCountsFacets() {
+        TutorSearchRequest request = new TutorSearchRequest();
+        request.setSize(2);
+        request.setPage(1);
+        TutorSearchIndex.SearchResult result = index.search(request);
+        assertEquals(4, result.getTotal());
+        assertEquals(List.of(2L, 3L), ids(result));
+
+        // equal counts are ordered by label
+        List<TutorSearchIndex.FacetCount> villes = result.getFacets().get("villes");
+        assertEquals(List.of("lyon", "paris"), villes.stream().map(TutorSearchIndex.FacetCount::getValue).collect(Collectors.toList()));
+        assertEquals("Paris", villes.get(1).getLabel());
+        assertEquals(2, villes.get(1).getCount());
+        assertEquals(2, result.getFacets().get("matieres").get(0).getCount());
+        assertEquals(3, result.getFacets().get("modalites").get(0).getCount());
+    }
+
+    @Test
+    void refreshRemovesInactiveTutors() {
+        when(tutorRepository.findIndexRow(1L)).thenReturn(Mono.just(row(1L, "Paris", "30.00", "4.80",
+                true, true, false, List.of(10L), List.of("Mathématiques"), UserStatus.SUSPENDED)));
+        index.refreshTutor(1L).block();
+
+        TutorSearchRequest request = new TutorSearchRequest();
+        request.setMatiereId(10L);
+        assertEquals(List.of(2L), ids(index.search(request)));
+        assertEquals(3, index.getIndexedTutors());
+    }
+
+    @Test
+    void refreshDuringRebuildIsNotLost() {
+        Sinks.Many<TutorIndexRow> rows = Sinks.many().unicast().onBackpressureBuffer();
+        when(tutorRepository.findAllIndexRows()).thenReturn(rows.asFlux());
+        index.rebuild();
+
+        // the rebuild reads tutor 3 as active, then tutor 3 is suspended before the swap
+        rows.tryEmitNext(row(3L, "Lyon", "25.00", "3.90", true, false, true, List.of(11L), List.of("Physique"), UserStatus.ACTIVE));
+        when(tutorRepository.findIndexRow(3L)).thenReturn(Mono.just(row(3L, "Lyon", "25.00", "3.90",
+                true, false, true, List.of(11L), List.of("Physique"), UserStatus.SUSPENDED)));
+        index.refreshTutor(3L).block();
+        rows.tryEmitNext(row(1L, "Paris", "30.00", "4.80", true, true, false, List.of(10L), List.of("Mathématiques"), UserStatus.ACTIVE));
+        rows.tryEmitComplete();
+
+        TutorSearchRequest request = new TutorSearchRequest();
+        request.setMatiereId(11L);
+        assertEquals(List.of(), ids(index.search(request)));
+        assertEquals(1, index.getIndexedTutors());
+    }
+
+    @Test
+    void radiusSearchReturnsNearestFirst() {
+        locate(1L, 48.8566, 2.3522);   // Paris
+        locate(2L, 48.8049, 2.1204);   // Versailles, ~18 km away
+        locate(3L, 45.7640, 4.8357);   // Lyon, ~390 km away
+
+        TutorSearchRequest request = new TutorSearchRequest();
+        request.setLatitude(48.80);
+        request.setLongitude(2.13);
+        request.setRadiusKm(30.0);
+        TutorSearchIndex.SearchResult result = index.search(request);
+        assertEquals(List.of(2L, 1L), ids(result));
+        assertEquals(2, result.getTotal());
+        assertEquals(17.0, result.getDistancesKm().get(1L), 1.0);
+
+        request.setInPersonOnly(true);
+        assertEquals(List.of(2L), ids(index.search(request)));
+
+        request = new TutorSearchRequest();
+        request.setLatitude(48.8566);
+        request.setLongitude(2.3522);
+        request.setRadiusKm(500.0);
+        request.setSize(1);
+        request.setPage(2);
+        assertEquals(List.of(3L), ids(index.search(request)));
+    }
+
+    private void add(Long id, String ville, String tarif, String note, boolean verified, boolean online,
+                     boolean inPerson, List<Long> matiereIds, List<String> matiereNoms) {
+        when(tutorRepository.findIndexRow(id)).thenReturn(Mono.just(
+                row(id, ville, tarif, note, verified, online, inPerson, matiereIds, matiereNoms, UserStatus.ACTIVE)));
+        index.refreshTutor(id).block();
+    }
+
+    private void locate(Long id, double latitude, double longitude) {
+        TutorIndexRow row = row(id, "Ville", "30.00", "4.00", true, true, id == 2L, List.of(10L), List.of("Mathématiques"), UserStatus.ACTIVE);
+        row.getTutor().setLatitude(latitude);
+        row.getTutor().setLongitude(longitude);
+        when(tutorRepository.findIndexRow(id)).thenReturn(Mono.just(row));
+        index.refreshTutor(id).block();
+    }
+
+    private static TutorIndexRow row(Long id, String ville, String tarif, String note, boolean verified, boolean online,
+                                     boolean inPerson, List<Long> matiereIds, List<String> matiereNoms, UserStatus statut) {
+        Tutor tutor = new Tutor(new BigDecimal(tarif));
+        tutor.setId(id);
+        tutor.setVille(ville);
+        tutor.setNoteMoyenne(new BigDecimal(note));
+        tutor.setNombreEvaluations(10);
+        tutor.setVerifie(verified);
+        tutor.setCoursEnLigne(online);
+        tutor.setCoursPresentiel(inPerson);
+        return new TutorIndexRow(tutor, "Nom" + id, "Prenom" + id, statut, matiereIds, matiereNoms);
+    }
+
+    private static List<Long> ids(TutorSearchIndex.SearchResult result) {
+        return result.getTutors().stream().map(TutorSearchIndex.TutorDocument::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,83 @@
+package com.iiil.tutoring.service.session;
+
+import com.iiil.tutoring.dto.session.CreateSessionSeriesDTO;
+import com.iiil.tutoring.dto.session.SessionSeriesResponseDTO;
+import com.iiil.tutoring.entity.Session;
+import com.iiil.tutoring.enums.SessionType;
+import com.iiil.tutoring.repository.SerieSessionRepository;
+import com.iiil.tutoring.repository.SessionRepository;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Expansion limits and conflict detection of recurring session series
+ */
+class SessionSeriesServiceTest {
+
+    // a Monday
+    private static final LocalDateTime FIRST = LocalDateTime.of(2030, 1, 7, 18, 0);
+
+    private final SessionRepository sessionRepository = mock(SessionRepository.class);
+    private final SerieSessionRepository serieSessionRepository = mock(SerieSessionRepository.class);
+    private final SessionSeriesService service = new SessionSeriesService(sessionRepository, serieSessionRepository,
+            mock(SessionService.class), mock(SessionReminderScheduler.class));
+
+    @Test
+    void rejectsSeriesAboveTheOccurrenceLimit() {
+        CreateSessionSeriesDTO tooMany = series(90);
+        tooMany.setNombreOccurrences(105);
+        assertThrows(RuntimeException.class, () -> service.expandOccurrences(tooMany));
+
+        // two days a week for a year and a half is over 104 occurrences
+        CreateSessionSeriesDTO tooLong = series(90);
+        tooLong.setJoursSemaine(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY));
+        tooLong.setDateFin(FIRST.toLocalDate().plusMonths(18));
+        assertThrows(RuntimeException.class, () -> service.expandOccurrences(tooLong));
+
+        CreateSessionSeriesDTO maximum = series(90);
+        maximum.setNombreOccurrences(104);
+        assertEquals(104, service.expandOccurrences(maximum).size());
+    }
+
+    @Test
+    void occurrencesOverlappingExistingBookingsAreConflicts() {
+        // the tutor already teaches another student from 17:30 to 18:30 on the second Monday
+        Session existing = new Session(1L, 9L, 3L, FIRST.plusWeeks(1).minusMinutes(30), 60, SessionType.EN_LIGNE, 30.0);
+        existing.setId(77L);
+        when(sessionRepository.findActiveForParticipantsBetween(any(), any(), any(), any())).thenReturn(Flux.just(existing));
+
+        CreateSessionSeriesDTO weekly = series(90);
+        weekly.setNombreOccurrences(3);
+
+        SessionSeriesResponseDTO response = service.createSeries(weekly).block();
+
+        assertNull(response.getSerieId());
+        assertEquals(3, response.getOccurrencesDemandees());
+        assertEquals(1, response.getConflits().size());
+        SessionSeriesResponseDTO.OccurrenceConflict conflict = response.getConflits().get(0);
+        assertEquals(FIRST.plusWeeks(1), conflict.getOccurrenceDateHeure());
+        assertEquals(77L, conflict.getSessionExistanteId());
+        assertEquals("TUTEUR", conflict.getParticipant());
+        verifyNoInteractions(serieSessionRepository);
+    }
+
+    private static CreateSessionSeriesDTO series(int duree) {
+        CreateSessionSeriesDTO dto = new CreateSessionSeriesDTO();
+        dto.setTuteurId(1L);
+        dto.setEtudiantId(2L);
+        dto.setMatiereId(3L);
+        dto.setPremiereDateHeure(FIRST);
+        dto.setDuree(duree);
+        dto.setTypeSession(SessionType.EN_LIGNE);
+        dto.setPrix(30.0);
+        return dto;
+    }
+}